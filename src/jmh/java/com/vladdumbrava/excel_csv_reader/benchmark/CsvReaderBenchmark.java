@@ -0,0 +1,46 @@
+package com.vladdumbrava.excel_csv_reader.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.CSVEmployeeFileReader;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.EmployeeFileReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.mock.web.MockMultipartFile;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class CsvReaderBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int rows;
+
+    private MockMultipartFile file;
+    private CSVEmployeeFileReader reader;
+
+    @Setup
+    public void setUp() {
+        file = new MockMultipartFile("file", "employees.csv", "text/csv", EmployeeDataGenerator.csv(rows));
+        reader = new CSVEmployeeFileReader();
+    }
+
+    @Benchmark
+    public long read(Blackhole blackhole) {
+        return reader.read(file, EmployeeFileReader.DEFAULT_CHUNK_SIZE, blackhole::consume);
+    }
+}
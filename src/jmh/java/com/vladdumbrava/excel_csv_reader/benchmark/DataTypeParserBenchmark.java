@@ -0,0 +1,125 @@
+package com.vladdumbrava.excel_csv_reader.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.vladdumbrava.excel_csv_reader.service.utils.DataTypeParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost per field value of each parser method, for both the {@code String} variants
+ * used by the XLSX readers and the char-range variants used by the CSV reader.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(DataTypeParserBenchmark.VALUES)
+public class DataTypeParserBenchmark {
+
+    static final int VALUES = 10_000;
+
+    private String[] strings;
+    private String[] dates;
+    private String[] genders;
+    private String[] booleans;
+    private CharField[] stringChars;
+    private CharField[] dateChars;
+    private CharField[] genderChars;
+    private CharField[] booleanChars;
+
+    @Setup
+    public void setUp() {
+        strings = EmployeeDataGenerator.strings(VALUES);
+        dates = EmployeeDataGenerator.dates(VALUES);
+        genders = EmployeeDataGenerator.genders(VALUES);
+        booleans = EmployeeDataGenerator.booleans(VALUES);
+        stringChars = CharField.of(strings);
+        dateChars = CharField.of(dates);
+        genderChars = CharField.of(genders);
+        booleanChars = CharField.of(booleans);
+    }
+
+    @Benchmark
+    public void handleNullityInString(Blackhole blackhole) {
+        for (String value : strings) {
+            blackhole.consume(DataTypeParser.handleNullityInString(value));
+        }
+    }
+
+    @Benchmark
+    public void parseDate(Blackhole blackhole) {
+        for (String value : dates) {
+            blackhole.consume(DataTypeParser.parseDate(value));
+        }
+    }
+
+    @Benchmark
+    public void parseGender(Blackhole blackhole) {
+        for (String value : genders) {
+            blackhole.consume(DataTypeParser.parseGender(value));
+        }
+    }
+
+    @Benchmark
+    public void parseBoolean(Blackhole blackhole) {
+        for (String value : booleans) {
+            blackhole.consume(DataTypeParser.parseBoolean(value));
+        }
+    }
+
+    @Benchmark
+    public void handleNullityInChars(Blackhole blackhole) {
+        for (CharField field : stringChars) {
+            blackhole.consume(DataTypeParser.handleNullityInString(field.chars, field.offset, field.length));
+        }
+    }
+
+    @Benchmark
+    public void parseDateChars(Blackhole blackhole) {
+        for (CharField field : dateChars) {
+            blackhole.consume(DataTypeParser.parseDate(field.chars, field.offset, field.length));
+        }
+    }
+
+    @Benchmark
+    public void parseGenderChars(Blackhole blackhole) {
+        for (CharField field : genderChars) {
+            blackhole.consume(DataTypeParser.parseGender(field.chars, field.offset, field.length));
+        }
+    }
+
+    @Benchmark
+    public void parseBooleanChars(Blackhole blackhole) {
+        for (CharField field : booleanChars) {
+            blackhole.consume(DataTypeParser.parseBoolean(field.chars, field.offset, field.length));
+        }
+    }
+
+    /**
+     * A value embedded in a larger buffer, the way the CSV tokenizer exposes fields.
+     */
+    private record CharField(char[] chars, int offset, int length) {
+
+        static CharField[] of(String[] values) {
+            CharField[] fields = new CharField[values.length];
+            for (int i = 0; i < values.length; i++) {
+                char[] chars = (",," + values[i] + ",").toCharArray();
+                fields[i] = new CharField(chars, 2, values[i].length());
+            }
+            return fields;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.vladdumbrava.excel_csv_reader.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.vladdumbrava.excel_csv_reader.model.Employee;
+import com.vladdumbrava.excel_csv_reader.model.Gender;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * Reproducible employee data for benchmarks. The same seed and row count always
+ * produce the same file, and every row gets a unique email and phone number so the
+ * data can be imported without hitting unique constraints.
+ */
+public final class EmployeeDataGenerator {
+
+    public static final String HEADER = "name,dateOfBirth,gender,role,email,phoneNumber,active";
+
+    private static final long SEED = 20_240_601L;
+    private static final String[] FIRST_NAMES = {"Alice", "Bob", "Carla", "Dan", "Elena", "Farid", "Greta", "Hugo"};
+    private static final String[] LAST_NAMES = {"Smith", "Johnson", "Popescu", "Müller", "García", "Nowak", "Rossi"};
+    private static final String[] ROLES = {"Engineer", "Manager", "Analyst", "Designer", "Support, Tier 2"};
+
+    private final Random random = new Random(SEED);
+
+    private EmployeeDataGenerator() {
+    }
+
+    public static List<Employee> employees(int rows) {
+        EmployeeDataGenerator generator = new EmployeeDataGenerator();
+        List<Employee> employees = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            employees.add(generator.employee(i));
+        }
+        return employees;
+    }
+
+    public static byte[] csv(int rows) {
+        EmployeeDataGenerator generator = new EmployeeDataGenerator();
+        StringBuilder csv = new StringBuilder(rows * 80).append(HEADER).append('\n');
+        for (int i = 0; i < rows; i++) {
+            Employee employee = generator.employee(i);
+            csv.append(employee.getName()).append(',')
+                    .append(employee.getDateOfBirth()).append(',')
+                    .append(employee.getGender()).append(',')
+                    .append(quote(employee.getRole())).append(',')
+                    .append(employee.getEmail()).append(',')
+                    .append(employee.getPhoneNumber()).append(',')
+                    .append(employee.getActive()).append('\n');
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static byte[] xlsx(int rows) {
+        EmployeeDataGenerator generator = new EmployeeDataGenerator();
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(1_000);
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = workbook.createSheet("Employees");
+            String[] header = HEADER.split(",");
+            Row headerRow = sheet.createRow(0);
+            for (int column = 0; column < header.length; column++) {
+                headerRow.createCell(column).setCellValue(header[column]);
+            }
+            for (int i = 0; i < rows; i++) {
+                Employee employee = generator.employee(i);
+                Row row = sheet.createRow(i + 1);
+                row.createCell(0).setCellValue(employee.getName());
+                row.createCell(1).setCellValue(employee.getDateOfBirth().toString());
+                row.createCell(2).setCellValue(employee.getGender().name());
+                row.createCell(3).setCellValue(employee.getRole());
+                row.createCell(4).setCellValue(employee.getEmail());
+                row.createCell(5).setCellValue(employee.getPhoneNumber());
+                row.createCell(6).setCellValue(employee.getActive().toString());
+            }
+            workbook.write(out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Raw field values as they appear in files, including blanks and the null markers
+     * the parser recognises, for benchmarking {@code DataTypeParser} in isolation.
+     */
+    public static String[] dates(int count) {
+        EmployeeDataGenerator generator = new EmployeeDataGenerator();
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = i % 20 == 0 ? " N/A " : " " + generator.dateOfBirth() + " ";
+        }
+        return values;
+    }
+
+    public static String[] strings(int count) {
+        EmployeeDataGenerator generator = new EmployeeDataGenerator();
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = i % 20 == 0 ? "null" : "  " + generator.name() + " ";
+        }
+        return values;
+    }
+
+    public static String[] genders(int count) {
+        EmployeeDataGenerator generator = new EmployeeDataGenerator();
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = i % 20 == 0 ? "" : generator.random.nextBoolean() ? "male" : "FEMALE";
+        }
+        return values;
+    }
+
+    public static String[] booleans(int count) {
+        EmployeeDataGenerator generator = new EmployeeDataGenerator();
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = i % 20 == 0 ? "n/a" : generator.random.nextBoolean() ? " TRUE" : "false ";
+        }
+        return values;
+    }
+
+    private Employee employee(int index) {
+        Employee employee = new Employee();
+        employee.setName(name());
+        employee.setDateOfBirth(dateOfBirth());
+        employee.setGender(random.nextBoolean() ? Gender.MALE : Gender.FEMALE);
+        employee.setRole(ROLES[random.nextInt(ROLES.length)]);
+        employee.setEmail("employee" + index + "@example.com");
+        employee.setPhoneNumber(String.format("07%08d", index));
+        employee.setActive(random.nextInt(10) != 0);
+        return employee;
+    }
+
+    private String name() {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+
+    private LocalDate dateOfBirth() {
+        return LocalDate.of(1960, 1, 1).plusDays(random.nextInt(40 * 365));
+    }
+
+    private static String quote(String value) {
+        return value.indexOf(',') < 0 ? value : '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,46 @@
+package com.vladdumbrava.excel_csv_reader.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.vladdumbrava.excel_csv_reader.model.Employee;
+import com.vladdumbrava.excel_csv_reader.service.mapper.EmployeeMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(EmployeeMapperBenchmark.EMPLOYEES)
+public class EmployeeMapperBenchmark {
+
+    static final int EMPLOYEES = 10_000;
+
+    private final EmployeeMapper mapper = new EmployeeMapper();
+    private List<Employee> employees;
+
+    @Setup
+    public void setUp() {
+        employees = EmployeeDataGenerator.employees(EMPLOYEES);
+    }
+
+    @Benchmark
+    public void entityToDto(Blackhole blackhole) {
+        for (Employee employee : employees) {
+            blackhole.consume(mapper.entityToDto(employee));
+        }
+    }
+}
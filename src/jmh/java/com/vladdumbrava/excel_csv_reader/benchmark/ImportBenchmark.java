@@ -0,0 +1,82 @@
+package com.vladdumbrava.excel_csv_reader.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.vladdumbrava.excel_csv_reader.ExcelCsvReaderApplication;
+import com.vladdumbrava.excel_csv_reader.dto.ImportResultDTO;
+import com.vladdumbrava.excel_csv_reader.model.ImportMode;
+import com.vladdumbrava.excel_csv_reader.service.EmployeeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+
+/**
+ * End-to-end {@link EmployeeService#importEmployees(org.springframework.web.multipart.MultipartFile, ImportMode)}
+ * against an in-process H2 database migrated by Flyway. COPY mode needs PostgreSQL
+ * and is not covered. The table is emptied before every import, outside the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class ImportBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int rows;
+
+    @Param({"BATCH", "PIPELINED"})
+    private ImportMode mode;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+    private JdbcTemplate jdbcTemplate;
+    private MockMultipartFile file;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(ExcelCsvReaderApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect");
+        employeeService = context.getBean(EmployeeService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        file = new MockMultipartFile("file", "employees.csv", "text/csv", EmployeeDataGenerator.csv(rows));
+    }
+
+    @Setup(Level.Invocation)
+    public void emptyTable() {
+        jdbcTemplate.execute("TRUNCATE TABLE employees");
+    }
+
+    @Benchmark
+    public ImportResultDTO importEmployees() {
+        return employeeService.importEmployees(file, mode);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+}
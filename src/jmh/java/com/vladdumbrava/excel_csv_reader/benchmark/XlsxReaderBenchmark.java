@@ -0,0 +1,59 @@
+package com.vladdumbrava.excel_csv_reader.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.EmployeeFileReader;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.StreamingXLSXEmployeeFileReader;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.XLSXEmployeeFileReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.mock.web.MockMultipartFile;
+
+/**
+ * The in-memory reader needs several GB of heap for a million rows, hence the large
+ * heap; the streaming reader is measured on the same files for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms6g", "-Xmx6g"})
+public class XlsxReaderBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int rows;
+
+    private MockMultipartFile file;
+    private XLSXEmployeeFileReader inMemoryReader;
+    private StreamingXLSXEmployeeFileReader streamingReader;
+
+    @Setup
+    public void setUp() {
+        file = new MockMultipartFile("file", "employees.xlsx",
+                "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", EmployeeDataGenerator.xlsx(rows));
+        inMemoryReader = new XLSXEmployeeFileReader();
+        streamingReader = new StreamingXLSXEmployeeFileReader();
+    }
+
+    @Benchmark
+    public long readInMemory(Blackhole blackhole) {
+        return inMemoryReader.read(file, EmployeeFileReader.DEFAULT_CHUNK_SIZE, blackhole::consume);
+    }
+
+    @Benchmark
+    public long readStreaming(Blackhole blackhole) {
+        return streamingReader.read(file, EmployeeFileReader.DEFAULT_CHUNK_SIZE, blackhole::consume);
+    }
+}
@@ -2,8 +2,10 @@ package com.vladdumbrava.excel_csv_reader;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class ExcelCsvReaderApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,32 @@
+package com.vladdumbrava.excel_csv_reader.config;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ImportExecutorConfig {
+
+    /**
+     * Runs queued import jobs. With {@code spring.threads.virtual.enabled}, set by the
+     * {@code virtual-threads} profile, the workers are virtual threads; the pool size
+     * still bounds how many jobs, and so how many database connections, run at once,
+     * and a full queue still rejects submissions.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor importTaskExecutor(ImportProperties importProperties, Environment environment) {
+        ImportProperties.Async async = importProperties.getAsync();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(async.getPoolSize());
+        executor.setMaxPoolSize(async.getPoolSize());
+        executor.setQueueCapacity(async.getQueueCapacity());
+        if (Threading.VIRTUAL.isActive(environment)) {
+            executor.setThreadFactory(Thread.ofVirtual().name("employee-import-", 1).factory());
+        } else {
+            executor.setThreadNamePrefix("employee-import-");
+        }
+        return executor;
+    }
+}
@@ -0,0 +1,180 @@
+package com.vladdumbrava.excel_csv_reader.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties(prefix = "employees.import")
+@Data
+public class ImportProperties {
+
+    /**
+     * Maximum number of parsed employees held in memory and persisted together.
+     */
+    private int chunkSize = 1_000;
+
+    /**
+     * Number of INSERT statements sent to the database in one JDBC batch.
+     */
+    private int jdbcBatchSize = 500;
+
+    /**
+     * Rejected rows listed individually in an import result; further rejections
+     * are only counted.
+     */
+    private int maxReportedRejections = 1_000;
+
+    /**
+     * Directory that server-side file imports may read from. Leaving it unset
+     * disables importing by path.
+     */
+    private Path serverFileDirectory;
+
+    private Csv csv = new Csv();
+
+    private Xlsx xlsx = new Xlsx();
+
+    private Async async = new Async();
+
+    private Pipeline pipeline = new Pipeline();
+
+    private Dedup dedup = new Dedup();
+
+    private Rejections rejections = new Rejections();
+
+    private Audit audit = new Audit();
+
+    @Data
+    public static class Csv {
+
+        /**
+         * Threads parsing one CSV file. Files on local disk of at least the parallel
+         * threshold are split into ranges parsed concurrently; 1 always parses on the
+         * calling thread.
+         */
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        private DataSize parallelThreshold = DataSize.ofMegabytes(64);
+
+        /**
+         * Size of the byte ranges a file is split into. Memory does not grow with it:
+         * each range being parsed holds only a couple of chunks the consumer has not
+         * taken yet.
+         */
+        private DataSize rangeSize = DataSize.ofMegabytes(16);
+
+        /**
+         * Hand rows out in file order. When disabled, chunks from all ranges being
+         * parsed are handed out as soon as they are ready.
+         */
+        private boolean preserveOrder = true;
+    }
+
+    @Data
+    public static class Xlsx {
+
+        /**
+         * How XLSX uploads are read: AUTO picks the streaming reader once the file
+         * reaches the streaming threshold, STREAMING and IN_MEMORY force one reader.
+         */
+        private XlsxReadMode readMode = XlsxReadMode.AUTO;
+
+        private DataSize streamingThreshold = DataSize.ofMegabytes(5);
+    }
+
+    @Data
+    public static class Async {
+
+        /**
+         * Number of import jobs running at the same time.
+         */
+        private int poolSize = 2;
+
+        /**
+         * Jobs waiting for a free worker; submissions beyond this are rejected.
+         */
+        private int queueCapacity = 20;
+
+        private Path spoolDirectory = Path.of(System.getProperty("java.io.tmpdir"), "employee-imports");
+
+        /**
+         * Minimum time between two progress updates written to the job table.
+         */
+        private Duration progressInterval = Duration.ofSeconds(1);
+    }
+
+    @Data
+    public static class Pipeline {
+
+        /**
+         * Workers validating parsed chunks before they are written.
+         */
+        private int validatorThreads = 2;
+
+        /**
+         * Workers writing chunks to the database, each in its own transaction.
+         * Should stay below the connection pool size.
+         */
+        private int writerThreads = 4;
+
+        /**
+         * Chunks buffered between two stages. A full queue blocks the stage feeding it.
+         */
+        private int queueCapacity = 8;
+    }
+
+    @Data
+    public static class Dedup {
+
+        /**
+         * Answer a file that was already imported with the same mode from its stored
+         * result instead of importing it again, as long as no employee was written
+         * since.
+         */
+        private boolean enabled = true;
+
+        /**
+         * How long a successful import is remembered. Expired entries are purged
+         * every {@code employees.import.dedup.purge-interval}.
+         */
+        private Duration retention = Duration.ofDays(7);
+
+        private Duration purgeInterval = Duration.ofHours(1);
+    }
+
+    @Data
+    public static class Rejections {
+
+        /**
+         * Where the full list of rejected rows of each import is written, as a CSV file
+         * that can be downloaded after the import.
+         */
+        private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "employee-import-rejections");
+
+        /**
+         * How long rejection files are kept. Older files are deleted every
+         * {@code employees.import.rejections.purge-interval}.
+         */
+        private Duration retention = Duration.ofDays(7);
+
+        private Duration purgeInterval = Duration.ofHours(1);
+    }
+
+    @Data
+    public static class Audit {
+
+        /**
+         * Share of imported rows written to the audit log, between 0 and 1. Every
+         * row is logged only with the {@code import-row-dump} profile.
+         */
+        private double rowSampleRate = 0.001;
+    }
+
+    public enum XlsxReadMode {
+        AUTO, STREAMING, IN_MEMORY
+    }
+}
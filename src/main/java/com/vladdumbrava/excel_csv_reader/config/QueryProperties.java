@@ -0,0 +1,82 @@
+package com.vladdumbrava.excel_csv_reader.config;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "employees.query")
+@Data
+public class QueryProperties {
+
+    /**
+     * Employees per page when the request does not ask for a size.
+     */
+    private int defaultPageSize = 100;
+
+    /**
+     * Largest page a request may ask for.
+     */
+    private int maxPageSize = 1_000;
+
+    /**
+     * Most employees a single bulk update request may change, or a bulk delete
+     * request may list by id.
+     */
+    private int maxBulkUpdateSize = 10_000;
+
+    /**
+     * Employees removed per transaction by bulk deletes. Each batch locks its rows
+     * until it commits, so smaller batches keep lock hold times short on a busy table.
+     */
+    private int deleteBatchSize = 1_000;
+
+    private Export export = new Export();
+
+    private Cache cache = new Cache();
+
+    private Stats stats = new Stats();
+
+    @Data
+    public static class Export {
+
+        /**
+         * Rows of an XLSX export kept in memory before they are flushed to a
+         * temporary file.
+         */
+        private int xlsxRowWindow = 100;
+    }
+
+    @Data
+    public static class Cache {
+
+        /**
+         * Most employees kept by the single-employee lookup cache.
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * How long a cached employee is served before it is read again. Bounds how
+         * stale an entry can get when a row is changed outside the application.
+         */
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+    }
+
+    @Data
+    public static class Stats {
+
+        /**
+         * How often the statistics summary is recounted from the table, correcting
+         * any drift from changes made outside the application.
+         */
+        private Duration reconcileInterval = Duration.ofMinutes(15);
+
+        /**
+         * How often to check whether the summary is due for a recount. Writes that
+         * cannot update the summary incrementally, such as upserts and bulk updates,
+         * have it recounted at the next check.
+         */
+        private Duration checkInterval = Duration.ofSeconds(10);
+    }
+}
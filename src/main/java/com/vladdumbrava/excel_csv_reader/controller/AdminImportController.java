@@ -0,0 +1,29 @@
+package com.vladdumbrava.excel_csv_reader.controller;
+
+import com.vladdumbrava.excel_csv_reader.dto.ImportResultDTO;
+import com.vladdumbrava.excel_csv_reader.model.ImportMode;
+import com.vladdumbrava.excel_csv_reader.service.EmployeeService;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/employees")
+@RequiredArgsConstructor
+public class AdminImportController {
+
+    private final EmployeeService employeeService;
+
+    @PostMapping("/import-file")
+    public ResponseEntity<ImportResultDTO> importServerFile(
+            @RequestParam("path") String path,
+            @RequestParam(value = "mode", defaultValue = "BATCH") ImportMode mode
+    ) {
+        return new ResponseEntity<>(employeeService.importServerFile(path, mode), HttpStatus.OK);
+    }
+}
@@ -1,15 +1,42 @@
 package com.vladdumbrava.excel_csv_reader.controller;
 
+import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
 
+import com.vladdumbrava.excel_csv_reader.dto.BulkDeleteResultDTO;
+import com.vladdumbrava.excel_csv_reader.dto.BulkUpdateResultDTO;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeContactDTO;
 import com.vladdumbrava.excel_csv_reader.dto.EmployeeDTO;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeNameUpdateDTO;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeePageDTO;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeStatsDTO;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeUpdateDTO;
+import com.vladdumbrava.excel_csv_reader.dto.ImportJobDTO;
+import com.vladdumbrava.excel_csv_reader.dto.ImportResultDTO;
+import com.vladdumbrava.excel_csv_reader.model.ExportFormat;
+import com.vladdumbrava.excel_csv_reader.model.Gender;
+import com.vladdumbrava.excel_csv_reader.model.ImportMode;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeSearchCriteria;
+import com.vladdumbrava.excel_csv_reader.service.EmployeeDeletionService;
+import com.vladdumbrava.excel_csv_reader.service.EmployeeExportService;
 import com.vladdumbrava.excel_csv_reader.service.EmployeeService;
+import com.vladdumbrava.excel_csv_reader.service.ImportJobService;
+import com.vladdumbrava.excel_csv_reader.service.RejectionFileService;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/employees")
@@ -17,11 +44,46 @@ import org.springframework.web.multipart.MultipartFile;
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final ImportJobService importJobService;
+    private final EmployeeExportService employeeExportService;
+    private final EmployeeDeletionService employeeDeletionService;
+    private final RejectionFileService rejectionFileService;
 
     @PostMapping("/import")
-    public ResponseEntity<String> importEmployees(@RequestParam("file") MultipartFile file) {
-        employeeService.importEmployees(file);
-        return ResponseEntity.ok("Employees imported successfully.");
+    public ResponseEntity<ImportResultDTO> importEmployees(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "mode", defaultValue = "BATCH") ImportMode mode
+    ) {
+        return ResponseEntity.ok(employeeService.importEmployees(file, mode));
+    }
+
+    @PostMapping("/import/async")
+    public ResponseEntity<ImportJobDTO> importEmployeesAsync(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "mode", defaultValue = "BATCH") ImportMode mode
+    ) {
+        return new ResponseEntity<>(importJobService.submit(file, mode), HttpStatus.ACCEPTED);
+    }
+
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<ImportJobDTO> getImportJob(@PathVariable("jobId") UUID jobId) {
+        return new ResponseEntity<>(importJobService.getJob(jobId), HttpStatus.OK);
+    }
+
+    /**
+     * Every rejected row of an import as CSV ({@code row_number,reason}). The id is the
+     * {@code rejectionFileId} of the import result, or the job id of an asynchronous import.
+     */
+    @GetMapping("/import/rejections/{id}")
+    public ResponseEntity<Resource> getImportRejections(@PathVariable("id") UUID id) {
+        Path file = rejectionFileService.getFile(id);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("rejections-" + id + ".csv")
+                        .build()
+                        .toString())
+                .body(new FileSystemResource(file));
     }
 
     @PostMapping
@@ -36,9 +98,97 @@ public class EmployeeController {
         return new ResponseEntity<>("Employee deleted successfully", HttpStatus.NO_CONTENT);
     }
 
+    @DeleteMapping("/delete-employees")
+    public ResponseEntity<BulkDeleteResultDTO> deleteEmployees(@RequestBody List<Long> ids) {
+        return new ResponseEntity<>(employeeDeletionService.deleteEmployees(ids), HttpStatus.OK);
+    }
+
+    /**
+     * Deletes every employee matching all given filters; at least one is required.
+     */
+    @DeleteMapping("/delete-employees/filter")
+    public ResponseEntity<BulkDeleteResultDTO> deleteEmployees(
+            @RequestParam(value = "active", required = false) Boolean active,
+            @RequestParam(value = "role", required = false) String role
+    ) {
+        return new ResponseEntity<>(employeeDeletionService.deleteEmployees(active, role), HttpStatus.OK);
+    }
+
+    @DeleteMapping("/delete-employees/import-job/{jobId}")
+    public ResponseEntity<BulkDeleteResultDTO> deleteImportedEmployees(@PathVariable("jobId") UUID jobId) {
+        return new ResponseEntity<>(employeeDeletionService.deleteImportedEmployees(jobId), HttpStatus.OK);
+    }
+
     @GetMapping
-    public ResponseEntity<List<EmployeeDTO>> getAllEmployees() {
-        return new ResponseEntity<>(employeeService.getAllEmployees(), HttpStatus.OK);
+    public ResponseEntity<EmployeePageDTO<EmployeeDTO>> getEmployees(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        return new ResponseEntity<>(employeeService.getEmployees(cursor, size), HttpStatus.OK);
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<EmployeeStatsDTO> getEmployeeStats() {
+        return new ResponseEntity<>(employeeService.getEmployeeStats(), HttpStatus.OK);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<EmployeeDTO> getEmployee(@PathVariable("id") Long id) {
+        return new ResponseEntity<>(employeeService.getEmployee(id), HttpStatus.OK);
+    }
+
+    @GetMapping("/contacts")
+    public ResponseEntity<EmployeePageDTO<EmployeeContactDTO>> getEmployeeContacts(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        return new ResponseEntity<>(employeeService.getEmployeeContacts(cursor, size), HttpStatus.OK);
+    }
+
+    /**
+     * Employees matching every given filter, paged like {@code GET /api/employees}.
+     * {@code email} matches the start of the email and {@code name} any part of the
+     * name, both ignoring case.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<EmployeePageDTO<EmployeeDTO>> searchEmployees(
+            @RequestParam(value = "role", required = false) String role,
+            @RequestParam(value = "gender", required = false) Gender gender,
+            @RequestParam(value = "active", required = false) Boolean active,
+            @RequestParam(value = "bornFrom", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate bornFrom,
+            @RequestParam(value = "bornTo", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate bornTo,
+            @RequestParam(value = "email", required = false) String email,
+            @RequestParam(value = "name", required = false) String name,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria(role, gender, active, bornFrom, bornTo, email, name);
+        return new ResponseEntity<>(employeeService.searchEmployees(criteria, cursor, size), HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEmployees() {
+        StreamingResponseBody body = employeeService::writeEmployeesAsNdjson;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
+            @RequestParam(value = "format", defaultValue = "csv") String format
+    ) {
+        ExportFormat exportFormat = employeeExportService.resolveFormat(format);
+        StreamingResponseBody body = out -> employeeExportService.exportEmployees(exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("employees." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
     }
 
     @PutMapping("/update-employee/{id}")
@@ -51,4 +201,14 @@ public class EmployeeController {
         return new ResponseEntity<>(employeeService.updateEmployeeName(id, name), HttpStatus.OK);
     }
 
+    @PutMapping("/update-employees")
+    public ResponseEntity<BulkUpdateResultDTO> updateEmployees(@RequestBody List<EmployeeUpdateDTO> updates) {
+        return new ResponseEntity<>(employeeService.updateEmployees(updates), HttpStatus.OK);
+    }
+
+    @PatchMapping("/update-employee-names")
+    public ResponseEntity<BulkUpdateResultDTO> updateEmployeeNames(@RequestBody List<EmployeeNameUpdateDTO> updates) {
+        return new ResponseEntity<>(employeeService.updateEmployeeNames(updates), HttpStatus.OK);
+    }
+
 }
@@ -0,0 +1,10 @@
+package com.vladdumbrava.excel_csv_reader.dto;
+
+/**
+ * @param batches transactions the delete was split into
+ */
+public record BulkDeleteResultDTO(
+        long deleted,
+        int batches
+) {
+}
@@ -0,0 +1,12 @@
+package com.vladdumbrava.excel_csv_reader.dto;
+
+/**
+ * @param matched employees that exist for the requested ids
+ * @param changed matched employees whose values differed and were written; the others already held them
+ */
+public record BulkUpdateResultDTO(
+        int requested,
+        int matched,
+        int changed
+) {
+}
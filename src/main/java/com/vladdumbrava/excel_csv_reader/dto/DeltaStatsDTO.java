@@ -0,0 +1,15 @@
+package com.vladdumbrava.excel_csv_reader.dto;
+
+/**
+ * @param deletedRows employees from the previous delta import that are missing from this file
+ * @param estimatedMillisSaved unchanged rows multiplied by the average cost of applying one row in delta
+ *                             imports since startup; 0 until one has applied rows
+ */
+public record DeltaStatsDTO(
+        long newRows,
+        long changedRows,
+        long unchangedRows,
+        long deletedRows,
+        long estimatedMillisSaved
+) {
+}
@@ -0,0 +1,8 @@
+package com.vladdumbrava.excel_csv_reader.dto;
+
+public record EmployeeContactDTO(
+        Long id,
+        String name,
+        String email
+) {
+}
@@ -0,0 +1,7 @@
+package com.vladdumbrava.excel_csv_reader.dto;
+
+public record EmployeeNameUpdateDTO(
+        Long id,
+        String name
+) {
+}
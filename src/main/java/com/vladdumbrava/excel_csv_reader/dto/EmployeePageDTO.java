@@ -0,0 +1,12 @@
+package com.vladdumbrava.excel_csv_reader.dto;
+
+import java.util.List;
+
+/**
+ * @param nextCursor pass as {@code cursor} to get the next page; {@code null} on the last page
+ */
+public record EmployeePageDTO<T>(
+        List<T> employees,
+        String nextCursor
+) {
+}
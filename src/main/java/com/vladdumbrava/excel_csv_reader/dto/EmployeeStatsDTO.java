@@ -0,0 +1,23 @@
+package com.vladdumbrava.excel_csv_reader.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+import com.vladdumbrava.excel_csv_reader.model.Gender;
+
+/**
+ * Headcount of all employees. Employees without a gender are counted in
+ * {@code total} but not in {@code byGender}.
+ *
+ * @param reconciledAt when the summary was last recounted from the table; changes
+ *                     made since then were applied to it incrementally
+ */
+public record EmployeeStatsDTO(
+        long total,
+        long active,
+        long inactive,
+        Map<String, Long> byRole,
+        Map<Gender, Long> byGender,
+        Instant reconciledAt
+) {
+}
@@ -0,0 +1,11 @@
+package com.vladdumbrava.excel_csv_reader.dto;
+
+/**
+ * One entry of a bulk update: every column of employee {@code id} is set to the
+ * values in {@code employee}.
+ */
+public record EmployeeUpdateDTO(
+        Long id,
+        EmployeeDTO employee
+) {
+}
@@ -0,0 +1,23 @@
+package com.vladdumbrava.excel_csv_reader.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.vladdumbrava.excel_csv_reader.model.ImportJobStatus;
+import com.vladdumbrava.excel_csv_reader.model.ImportMode;
+
+public record ImportJobDTO(
+        UUID jobId,
+        String filename,
+        ImportMode mode,
+        ImportJobStatus status,
+        long rowsParsed,
+        long rowsPersisted,
+        long rowsRejected,
+        double rowsPerSecond,
+        String errorMessage,
+        Instant createdAt,
+        Instant startedAt,
+        Instant finishedAt
+) {
+}
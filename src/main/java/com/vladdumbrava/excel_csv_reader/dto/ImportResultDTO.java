@@ -0,0 +1,26 @@
+package com.vladdumbrava.excel_csv_reader.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.vladdumbrava.excel_csv_reader.model.ImportMode;
+
+/**
+ * @param upsert inserted, updated and unchanged counts; only set for {@link ImportMode#UPSERT} and
+ *               {@link ImportMode#DELTA} imports
+ * @param delta rows compared with the previous delta import; only set for {@link ImportMode#DELTA} imports
+ * @param rejectionFileId id under which every rejected row can be downloaded as CSV; {@code null} when no
+ *                        row was rejected. {@code rejections} only lists the first rejections.
+ */
+public record ImportResultDTO(
+        ImportMode mode,
+        long rowsRead,
+        long rowsImported,
+        long rowsRejected,
+        List<RowRejectionDTO> rejections,
+        List<StageStatsDTO> stages,
+        UpsertStatsDTO upsert,
+        DeltaStatsDTO delta,
+        UUID rejectionFileId
+) {
+}
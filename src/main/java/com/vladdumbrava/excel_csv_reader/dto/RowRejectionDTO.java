@@ -0,0 +1,7 @@
+package com.vladdumbrava.excel_csv_reader.dto;
+
+public record RowRejectionDTO(
+        long rowNumber,
+        String reason
+) {
+}
@@ -0,0 +1,11 @@
+package com.vladdumbrava.excel_csv_reader.dto;
+
+public record StageStatsDTO(
+        String stage,
+        int workers,
+        long chunks,
+        long busyMillis,
+        long waitMillis,
+        double utilization
+) {
+}
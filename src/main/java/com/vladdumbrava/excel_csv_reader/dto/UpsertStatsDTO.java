@@ -0,0 +1,11 @@
+package com.vladdumbrava.excel_csv_reader.dto;
+
+/**
+ * @param unchanged rows whose email already existed with identical values; nothing was written for them
+ */
+public record UpsertStatsDTO(
+        long inserted,
+        long updated,
+        long unchanged
+) {
+}
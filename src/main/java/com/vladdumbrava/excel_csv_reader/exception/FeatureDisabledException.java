@@ -0,0 +1,12 @@
+package com.vladdumbrava.excel_csv_reader.exception;
+
+/**
+ * Thrown when a request needs a feature that is switched off in the configuration
+ * of this deployment, or that its database cannot provide.
+ */
+public class FeatureDisabledException extends RuntimeException {
+
+    public FeatureDisabledException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.vladdumbrava.excel_csv_reader.exception;
+
+public class ImportJobRejectedException extends RuntimeException {
+
+    public ImportJobRejectedException(String message) {
+        super(message);
+    }
+}
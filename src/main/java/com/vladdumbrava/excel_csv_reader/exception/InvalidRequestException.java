@@ -0,0 +1,8 @@
+package com.vladdumbrava.excel_csv_reader.exception;
+
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,7 @@
 package com.vladdumbrava.excel_csv_reader.model;
 
 import java.time.LocalDate;
+import java.util.UUID;
 
 import jakarta.persistence.*;
 
@@ -37,4 +38,10 @@ public class Employee {
 
     @Column(name = "active")
     private Boolean active;
+
+    /**
+     * The asynchronous import job that inserted this employee, if any.
+     */
+    @Column(name = "import_job_id")
+    private UUID importJobId;
 }
@@ -0,0 +1,50 @@
+package com.vladdumbrava.excel_csv_reader.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.*;
+
+import lombok.Data;
+
+@Entity
+@Table(name = "import_jobs")
+@Data
+public class ImportJob {
+
+    @Id
+    @Column(name = "job_id")
+    private UUID id;
+
+    @Column(name = "filename")
+    private String filename;
+
+    @Column(name = "mode")
+    @Enumerated(EnumType.STRING)
+    private ImportMode mode;
+
+    @Column(name = "status")
+    @Enumerated(EnumType.STRING)
+    private ImportJobStatus status;
+
+    @Column(name = "rows_parsed")
+    private long rowsParsed;
+
+    @Column(name = "rows_persisted")
+    private long rowsPersisted;
+
+    @Column(name = "rows_rejected")
+    private long rowsRejected;
+
+    @Column(name = "error_message")
+    private String errorMessage;
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+}
@@ -0,0 +1,5 @@
+package com.vladdumbrava.excel_csv_reader.model;
+
+public enum ImportJobStatus {
+    QUEUED, RUNNING, COMPLETED, FAILED
+}
@@ -0,0 +1,5 @@
+package com.vladdumbrava.excel_csv_reader.model;
+
+public enum ImportMode {
+    BATCH, COPY, PIPELINED, UPSERT, DELTA
+}
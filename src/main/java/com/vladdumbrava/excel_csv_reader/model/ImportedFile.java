@@ -0,0 +1,39 @@
+package com.vladdumbrava.excel_csv_reader.model;
+
+import java.time.Instant;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import lombok.Data;
+
+/**
+ * A file that was imported successfully, keyed on the SHA-256 of its content and
+ * the import mode, with the result returned at the time serialized as JSON.
+ */
+@Entity
+@Table(name = "imported_files")
+@IdClass(ImportedFileId.class)
+@Data
+public class ImportedFile {
+
+    @Id
+    @Column(name = "content_hash")
+    private String contentHash;
+
+    @Id
+    @Column(name = "mode")
+    @Enumerated(EnumType.STRING)
+    private ImportMode mode;
+
+    @Column(name = "filename")
+    private String filename;
+
+    @Column(name = "result")
+    @JdbcTypeCode(SqlTypes.LONG32VARCHAR)
+    private String result;
+
+    @Column(name = "imported_at")
+    private Instant importedAt;
+}
@@ -0,0 +1,17 @@
+package com.vladdumbrava.excel_csv_reader.model;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportedFileId implements Serializable {
+
+    private String contentHash;
+
+    private ImportMode mode;
+}
@@ -0,0 +1,45 @@
+package com.vladdumbrava.excel_csv_reader.repository;
+
+import java.util.List;
+
+import com.vladdumbrava.excel_csv_reader.dto.BulkUpdateResultDTO;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeContactDTO;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeNameUpdateDTO;
+import com.vladdumbrava.excel_csv_reader.model.Employee;
+
+public interface EmployeeBatchRepository {
+
+    /**
+     * Inserts the employees with batched JDBC statements, bypassing the persistence
+     * context. Generated ids are not written back to the given entities.
+     *
+     * @return the number of inserted rows
+     */
+    int batchInsert(List<Employee> employees);
+
+    /**
+     * Sets every column of the employees with the given ids to the values of the
+     * given entities, with batched JDBC statements and without loading them. Rows
+     * that already hold those values are not written. Ids must be unique.
+     */
+    BulkUpdateResultDTO batchUpdate(List<Employee> employees);
+
+    /**
+     * Same as {@link #batchUpdate} for the name column only.
+     */
+    BulkUpdateResultDTO batchUpdateNames(List<EmployeeNameUpdateDTO> updates);
+
+    /**
+     * Keyset page for bulk deletes: up to {@code limit} employees matching the filter
+     * with an id above {@code afterId}, in id order.
+     */
+    List<EmployeeContactDTO> findMatching(EmployeeFilter filter, long afterId, int limit);
+
+    /**
+     * Deletes the employees with the given ids that still match the filter, in one
+     * statement and without loading them.
+     *
+     * @return the number of deleted rows
+     */
+    int deleteMatching(List<Long> ids, EmployeeFilter filter);
+}
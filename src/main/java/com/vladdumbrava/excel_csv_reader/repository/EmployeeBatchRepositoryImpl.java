@@ -0,0 +1,171 @@
+package com.vladdumbrava.excel_csv_reader.repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.vladdumbrava.excel_csv_reader.config.ImportProperties;
+import com.vladdumbrava.excel_csv_reader.dto.BulkUpdateResultDTO;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeContactDTO;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeNameUpdateDTO;
+import com.vladdumbrava.excel_csv_reader.model.Employee;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * {@code Employee} uses an IDENTITY id, which makes Hibernate send one INSERT per
+ * entity. Imports go through plain JDBC batches instead. Bulk updates and deletes
+ * do the same rather than loading and dirty-checking every entity.
+ */
+@RequiredArgsConstructor
+public class EmployeeBatchRepositoryImpl implements EmployeeBatchRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO employees (name, date_of_birth, gender, role, email, phone_number, active, import_job_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)""";
+
+    // The IS DISTINCT FROM checks skip rows that already hold the new values, so the
+    // update count of each statement tells whether that row changed.
+    private static final String UPDATE_SQL = """
+            UPDATE employees
+            SET name = ?, date_of_birth = ?, gender = ?, role = ?, email = ?, phone_number = ?, active = ?
+            WHERE employee_id = ?
+              AND (name IS DISTINCT FROM ? OR date_of_birth IS DISTINCT FROM ? OR gender IS DISTINCT FROM ?
+                   OR role IS DISTINCT FROM ? OR email IS DISTINCT FROM ? OR phone_number IS DISTINCT FROM ?
+                   OR active IS DISTINCT FROM ?)""";
+
+    private static final String UPDATE_NAME_SQL =
+            "UPDATE employees SET name = ? WHERE employee_id = ? AND name IS DISTINCT FROM ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ImportProperties importProperties;
+
+    @Override
+    @Transactional
+    public int batchInsert(List<Employee> employees) {
+        if (employees.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, employees, importProperties.getJdbcBatchSize(),
+                (ps, employee) -> {
+                    bindColumns(ps, 1, employee);
+                    if (employee.getImportJobId() == null) {
+                        ps.setNull(8, Types.OTHER);
+                    } else {
+                        ps.setObject(8, employee.getImportJobId());
+                    }
+                });
+        return employees.size();
+    }
+
+    @Override
+    @Transactional
+    public BulkUpdateResultDTO batchUpdate(List<Employee> employees) {
+        int matched = countExisting(employees.stream().map(Employee::getId).toList());
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, employees, importProperties.getJdbcBatchSize(),
+                (ps, employee) -> {
+                    bindColumns(ps, 1, employee);
+                    ps.setLong(8, employee.getId());
+                    bindColumns(ps, 9, employee);
+                });
+        return new BulkUpdateResultDTO(employees.size(), matched, sum(counts));
+    }
+
+    @Override
+    @Transactional
+    public BulkUpdateResultDTO batchUpdateNames(List<EmployeeNameUpdateDTO> updates) {
+        int matched = countExisting(updates.stream().map(EmployeeNameUpdateDTO::id).toList());
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_NAME_SQL, updates, importProperties.getJdbcBatchSize(),
+                (ps, update) -> {
+                    ps.setString(1, update.name());
+                    ps.setLong(2, update.id());
+                    ps.setString(3, update.name());
+                });
+        return new BulkUpdateResultDTO(updates.size(), matched, sum(counts));
+    }
+
+    @Override
+    public List<EmployeeContactDTO> findMatching(EmployeeFilter filter, long afterId, int limit) {
+        List<Object> args = new ArrayList<>();
+        args.add(afterId);
+        String sql = "SELECT employee_id, name, email FROM employees WHERE employee_id > ?"
+                + where(filter, args) + " ORDER BY employee_id LIMIT ?";
+        args.add(limit);
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new EmployeeContactDTO(
+                rs.getLong("employee_id"), rs.getString("name"), rs.getString("email")), args.toArray());
+    }
+
+    @Override
+    @Transactional
+    public int deleteMatching(List<Long> ids, EmployeeFilter filter) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        // The filter is checked again, since a row may have changed after it was selected.
+        List<Object> args = new ArrayList<>(ids);
+        String sql = "DELETE FROM employees WHERE employee_id IN ("
+                + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")" + where(filter, args);
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+
+    private static String where(EmployeeFilter filter, List<Object> args) {
+        StringBuilder sql = new StringBuilder();
+        if (filter.active() != null) {
+            sql.append(" AND active = ?");
+            args.add(filter.active());
+        }
+        if (filter.role() != null) {
+            sql.append(" AND role = ?");
+            args.add(filter.role());
+        }
+        if (filter.importJobId() != null) {
+            sql.append(" AND import_job_id = ?");
+            args.add(filter.importJobId());
+        }
+        return sql.toString();
+    }
+
+    private int countExisting(List<Long> ids) {
+        int batchSize = importProperties.getJdbcBatchSize();
+        int existing = 0;
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<Long> slice = ids.subList(from, Math.min(ids.size(), from + batchSize));
+            String sql = "SELECT count(*) FROM employees WHERE employee_id IN ("
+                    + String.join(", ", Collections.nCopies(slice.size(), "?")) + ")";
+            existing += jdbcTemplate.queryForObject(sql, Integer.class, slice.toArray());
+        }
+        return existing;
+    }
+
+    private static int sum(int[][] counts) {
+        return Arrays.stream(counts)
+                .flatMapToInt(Arrays::stream)
+                .filter(count -> count > 0)
+                .sum();
+    }
+
+    private static void bindColumns(PreparedStatement ps, int first, Employee employee) throws SQLException {
+        ps.setString(first, employee.getName());
+        if (employee.getDateOfBirth() == null) {
+            ps.setNull(first + 1, Types.DATE);
+        } else {
+            ps.setDate(first + 1, Date.valueOf(employee.getDateOfBirth()));
+        }
+        ps.setString(first + 2, employee.getGender() == null ? null : employee.getGender().name());
+        ps.setString(first + 3, employee.getRole());
+        ps.setString(first + 4, employee.getEmail());
+        ps.setString(first + 5, employee.getPhoneNumber());
+        if (employee.getActive() == null) {
+            ps.setNull(first + 6, Types.BOOLEAN);
+        } else {
+            ps.setBoolean(first + 6, employee.getActive());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.vladdumbrava.excel_csv_reader.repository;
+
+import java.util.UUID;
+
+/**
+ * Criteria of a set-based operation on employees. Criteria left {@code null} are
+ * not applied, so {@link #NONE} matches every employee.
+ */
+public record EmployeeFilter(
+        Boolean active,
+        String role,
+        UUID importJobId
+) {
+
+    public static final EmployeeFilter NONE = new EmployeeFilter(null, null, null);
+
+    public boolean isEmpty() {
+        return active == null && role == null && importJobId == null;
+    }
+}
@@ -0,0 +1,116 @@
+package com.vladdumbrava.excel_csv_reader.repository;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Fingerprints of the rows applied by delta imports: a 64-bit hash of the email
+ * mapped to a 64-bit hash of the remaining columns. The email itself is only kept
+ * to delete employees that disappeared from the file.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeFingerprintRepository {
+
+    private static final int FETCH_SIZE = 10_000;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO employee_fingerprints (email_hash, email, row_hash)
+            VALUES (?, ?, ?)
+            ON CONFLICT (email_hash) DO UPDATE SET email = EXCLUDED.email, row_hash = EXCLUDED.row_hash""";
+
+    private static final String DELETE_EMPLOYEES_SQL = """
+            DELETE FROM employees e
+            USING employee_fingerprints f
+            WHERE f.email_hash = ANY(?) AND e.email = f.email
+            RETURNING e.employee_id""";
+
+    private static final String DELETE_FINGERPRINTS_SQL = "DELETE FROM employee_fingerprints WHERE email_hash = ANY(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Fingerprint(long emailHash, String email, long rowHash) {
+    }
+
+    @FunctionalInterface
+    public interface FingerprintHandler {
+
+        void accept(long emailHash, long rowHash);
+    }
+
+    public int count() {
+        Integer count = jdbcTemplate.queryForObject("SELECT count(*) FROM employee_fingerprints", Integer.class);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Streams every fingerprint to the handler. Runs in a transaction so that the
+     * PostgreSQL driver fetches through a cursor instead of buffering all rows.
+     */
+    @Transactional(readOnly = true)
+    public void forEach(FingerprintHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement("SELECT email_hash, row_hash FROM employee_fingerprints");
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> handler.accept(rs.getLong(1), rs.getLong(2)));
+    }
+
+    public void saveAll(List<Fingerprint> fingerprints) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, fingerprints, fingerprints.size(), (ps, fingerprint) -> {
+            ps.setLong(1, fingerprint.emailHash());
+            ps.setString(2, fingerprint.email());
+            ps.setLong(3, fingerprint.rowHash());
+        });
+    }
+
+    /**
+     * Deletes the employees behind the given fingerprints, then the fingerprints.
+     *
+     * @return the ids of the deleted employees
+     */
+    @Transactional
+    public List<Long> deleteEmployees(long[] emailHashes) {
+        Long[] hashes = boxed(emailHashes);
+        List<Long> deleted = jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(DELETE_EMPLOYEES_SQL);
+            ps.setArray(1, connection.createArrayOf("bigint", hashes));
+            return ps;
+        }, (rs, rowNum) -> rs.getLong(1));
+        deleteFingerprints(hashes);
+        return deleted;
+    }
+
+    /**
+     * Forgets employees that were deleted outside a delta import, so that the next
+     * delta import inserts them again instead of taking them as unchanged.
+     */
+    public void deleteFingerprints(long[] emailHashes) {
+        if (emailHashes.length > 0) {
+            deleteFingerprints(boxed(emailHashes));
+        }
+    }
+
+    private void deleteFingerprints(Long[] hashes) {
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(DELETE_FINGERPRINTS_SQL);
+            ps.setArray(1, connection.createArrayOf("bigint", hashes));
+            return ps;
+        });
+    }
+
+    private static Long[] boxed(long[] values) {
+        Long[] boxed = new Long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            boxed[i] = values[i];
+        }
+        return boxed;
+    }
+}
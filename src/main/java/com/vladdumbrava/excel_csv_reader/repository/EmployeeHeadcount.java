@@ -0,0 +1,20 @@
+package com.vladdumbrava.excel_csv_reader.repository;
+
+import com.vladdumbrava.excel_csv_reader.model.Employee;
+import com.vladdumbrava.excel_csv_reader.model.Gender;
+
+/**
+ * Number of employees sharing a role, gender and active status. As a change to the
+ * statistics summary the count may be negative.
+ */
+public record EmployeeHeadcount(
+        String role,
+        Gender gender,
+        Boolean active,
+        long employees
+) {
+
+    public static EmployeeHeadcount of(Employee employee, long employees) {
+        return new EmployeeHeadcount(employee.getRole(), employee.getGender(), employee.getActive(), employees);
+    }
+}
@@ -1,8 +1,61 @@
 package com.vladdumbrava.excel_csv_reader.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeContactDTO;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeDTO;
 import com.vladdumbrava.excel_csv_reader.model.Employee;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeBatchRepository,
+        EmployeeSearchRepository {
+
+    /**
+     * Rows fetched per round trip while streaming; the PostgreSQL driver only uses a
+     * cursor instead of loading the whole result when this is set inside a transaction.
+     */
+    String STREAM_FETCH_SIZE = "1000";
+
+    /**
+     * Keyset page: seeks past {@code lastId} on the primary key index instead of
+     * counting and skipping rows like an offset would. With a record type such as
+     * {@link EmployeeRow} or {@link EmployeeContactDTO} only that record's columns
+     * are selected and no entities are hydrated.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    <T> List<T> findByIdGreaterThanOrderByIdAsc(Long lastId, Limit limit, Class<T> type);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    <T> Optional<T> findProjectedById(Long id, Class<T> type);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    <T> List<T> findByIdIn(Collection<Long> ids, Class<T> type);
+
+    /**
+     * Must be consumed inside a transaction and closed afterwards.
+     */
+    @Query("""
+            SELECT new com.vladdumbrava.excel_csv_reader.dto.EmployeeDTO(
+                e.name, e.dateOfBirth, e.gender, e.role, e.email, e.phoneNumber, e.active)
+            FROM Employee e ORDER BY e.id""")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<EmployeeDTO> streamAllOrderById();
 
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+    @Query("""
+            SELECT new com.vladdumbrava.excel_csv_reader.repository.EmployeeHeadcount(
+                e.role, e.gender, e.active, count(e))
+            FROM Employee e GROUP BY e.role, e.gender, e.active""")
+    List<EmployeeHeadcount> countHeadcounts();
 }
@@ -0,0 +1,22 @@
+package com.vladdumbrava.excel_csv_reader.repository;
+
+import java.time.LocalDate;
+
+import com.vladdumbrava.excel_csv_reader.model.Gender;
+
+/**
+ * Read-only projection of an employee row. Queries selecting into it build the
+ * record straight from the result set, without a managed entity or dirty-checking
+ * snapshot.
+ */
+public record EmployeeRow(
+        Long id,
+        String name,
+        LocalDate dateOfBirth,
+        Gender gender,
+        String role,
+        String email,
+        String phoneNumber,
+        Boolean active
+) {
+}
@@ -0,0 +1,24 @@
+package com.vladdumbrava.excel_csv_reader.repository;
+
+import java.time.LocalDate;
+
+import com.vladdumbrava.excel_csv_reader.model.Gender;
+
+/**
+ * Filters of an employee search. Criteria left {@code null} are not applied.
+ *
+ * @param bornFrom    earliest date of birth, inclusive
+ * @param bornTo      latest date of birth, inclusive
+ * @param emailPrefix start of the email, ignoring case
+ * @param name        part of the name, ignoring case
+ */
+public record EmployeeSearchCriteria(
+        String role,
+        Gender gender,
+        Boolean active,
+        LocalDate bornFrom,
+        LocalDate bornTo,
+        String emailPrefix,
+        String name
+) {
+}
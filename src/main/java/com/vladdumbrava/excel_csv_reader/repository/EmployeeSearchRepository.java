@@ -0,0 +1,12 @@
+package com.vladdumbrava.excel_csv_reader.repository;
+
+import java.util.List;
+
+public interface EmployeeSearchRepository {
+
+    /**
+     * Keyset page of the employees matching every given criterion: up to
+     * {@code limit} rows with an id above {@code afterId}, in id order.
+     */
+    List<EmployeeRow> search(EmployeeSearchCriteria criteria, long afterId, int limit);
+}
@@ -0,0 +1,97 @@
+package com.vladdumbrava.excel_csv_reader.repository;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.vladdumbrava.excel_csv_reader.model.Gender;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * Search queries, built from the criteria that are set so that each one can use its
+ * index: the composite role, gender and active indexes, the date of birth index, the
+ * {@code lower(email) text_pattern_ops} index for email prefixes and the trigram
+ * index for names (the last two only exist on PostgreSQL).
+ */
+@RequiredArgsConstructor
+public class EmployeeSearchRepositoryImpl implements EmployeeSearchRepository {
+
+    private static final String SELECT_SQL = """
+            SELECT employee_id, name, date_of_birth, gender, role, email, phone_number, active
+            FROM employees
+            WHERE employee_id > ?""";
+
+    private static final RowMapper<EmployeeRow> ROW_MAPPER = (rs, rowNum) -> {
+        Date dateOfBirth = rs.getDate("date_of_birth");
+        String gender = rs.getString("gender");
+        return new EmployeeRow(
+                rs.getLong("employee_id"),
+                rs.getString("name"),
+                dateOfBirth == null ? null : dateOfBirth.toLocalDate(),
+                gender == null ? null : Gender.valueOf(gender),
+                rs.getString("role"),
+                rs.getString("email"),
+                rs.getString("phone_number"),
+                rs.getObject("active", Boolean.class));
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    record SearchQuery(String sql, Object[] args) {
+    }
+
+    @Override
+    public List<EmployeeRow> search(EmployeeSearchCriteria criteria, long afterId, int limit) {
+        SearchQuery query = query(criteria, afterId, limit);
+        return jdbcTemplate.query(query.sql(), ROW_MAPPER, query.args());
+    }
+
+    static SearchQuery query(EmployeeSearchCriteria criteria, long afterId, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        List<Object> args = new ArrayList<>();
+        args.add(afterId);
+        if (criteria.role() != null) {
+            sql.append(" AND role = ?");
+            args.add(criteria.role());
+        }
+        if (criteria.gender() != null) {
+            sql.append(" AND gender = ?");
+            args.add(criteria.gender().name());
+        }
+        if (criteria.active() != null) {
+            sql.append(" AND active = ?");
+            args.add(criteria.active());
+        }
+        if (criteria.bornFrom() != null) {
+            sql.append(" AND date_of_birth >= ?");
+            args.add(Date.valueOf(criteria.bornFrom()));
+        }
+        if (criteria.bornTo() != null) {
+            sql.append(" AND date_of_birth <= ?");
+            args.add(Date.valueOf(criteria.bornTo()));
+        }
+        if (criteria.emailPrefix() != null) {
+            sql.append(" AND lower(email) LIKE ?");
+            args.add(escapeLike(criteria.emailPrefix().toLowerCase(Locale.ROOT)) + "%");
+        }
+        if (criteria.name() != null) {
+            sql.append(" AND name ILIKE ?");
+            args.add("%" + escapeLike(criteria.name()) + "%");
+        }
+        sql.append(" ORDER BY employee_id LIMIT ?");
+        args.add(limit);
+        return new SearchQuery(sql.toString(), args.toArray());
+    }
+
+    /**
+     * Matches {@code %}, {@code _} and the escape character itself literally; both
+     * PostgreSQL and H2 escape LIKE patterns with a backslash by default.
+     */
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
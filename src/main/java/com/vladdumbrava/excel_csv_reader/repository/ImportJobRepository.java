@@ -0,0 +1,30 @@
+package com.vladdumbrava.excel_csv_reader.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import com.vladdumbrava.excel_csv_reader.model.ImportJob;
+import com.vladdumbrava.excel_csv_reader.model.ImportJobStatus;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ImportJobRepository extends JpaRepository<ImportJob, UUID> {
+
+    List<ImportJob> findByStatusIn(Collection<ImportJobStatus> statuses);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update ImportJob j
+            set j.rowsParsed = :rowsParsed, j.rowsPersisted = :rowsPersisted, j.rowsRejected = :rowsRejected
+            where j.id = :id""")
+    int updateProgress(@Param("id") UUID id,
+                       @Param("rowsParsed") long rowsParsed,
+                       @Param("rowsPersisted") long rowsPersisted,
+                       @Param("rowsRejected") long rowsRejected);
+}
@@ -0,0 +1,20 @@
+package com.vladdumbrava.excel_csv_reader.repository;
+
+import java.time.Instant;
+
+import com.vladdumbrava.excel_csv_reader.model.ImportedFile;
+import com.vladdumbrava.excel_csv_reader.model.ImportedFileId;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ImportedFileRepository extends JpaRepository<ImportedFile, ImportedFileId> {
+
+    @Transactional
+    @Modifying
+    @Query("delete from ImportedFile f where f.importedAt < :cutoff")
+    int deleteImportedBefore(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,136 @@
+package com.vladdumbrava.excel_csv_reader.service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import com.vladdumbrava.excel_csv_reader.config.QueryProperties;
+import com.vladdumbrava.excel_csv_reader.dto.BulkDeleteResultDTO;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeContactDTO;
+import com.vladdumbrava.excel_csv_reader.exception.InvalidRequestException;
+import com.vladdumbrava.excel_csv_reader.exception.ResourceNotFoundException;
+import com.vladdumbrava.excel_csv_reader.model.ImportJob;
+import com.vladdumbrava.excel_csv_reader.model.ImportJobStatus;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeFilter;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeFingerprintRepository;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeRepository;
+import com.vladdumbrava.excel_csv_reader.repository.ImportJobRepository;
+import com.vladdumbrava.excel_csv_reader.service.cache.EmployeeCache;
+import com.vladdumbrava.excel_csv_reader.service.importer.RowFingerprint;
+import com.vladdumbrava.excel_csv_reader.service.stats.EmployeeStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Bulk deletes that never load entities. Matching employees are walked in primary
+ * key order and removed with one {@code DELETE} per batch of
+ * {@code employees.query.delete-batch-size}, each batch in its own transaction, so
+ * rows stay locked for one batch at a time and a large delete does not hold up the
+ * rest of the table. The delta fingerprints of the deleted employees go in the same
+ * transaction, and their cached copies are evicted when it completes. The employee
+ * statistics are recounted afterwards, as the deleted rows are not read in full.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeDeletionService {
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeFingerprintRepository fingerprintRepository;
+    private final ImportJobRepository importJobRepository;
+    private final QueryProperties queryProperties;
+    private final PlatformTransactionManager transactionManager;
+    private final EmployeeCache employeeCache;
+    private final EmployeeStats employeeStats;
+    private final ImportedFileService importedFileService;
+
+    public BulkDeleteResultDTO deleteEmployees(List<Long> ids) {
+        if (ids.size() > queryProperties.getMaxBulkUpdateSize()) {
+            throw new InvalidRequestException("A bulk delete may list at most "
+                    + queryProperties.getMaxBulkUpdateSize() + " employees");
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidRequestException("Employee ids may not be null");
+        }
+
+        // Sorted so that concurrent deletes lock rows in the same order.
+        List<Long> sorted = ids.stream().distinct().sorted().toList();
+        int batchSize = queryProperties.getDeleteBatchSize();
+        long deleted = 0;
+        int batches = 0;
+        for (int from = 0; from < sorted.size(); from += batchSize) {
+            List<Long> slice = sorted.subList(from, Math.min(sorted.size(), from + batchSize));
+            deleted += deleteBatch(employeeRepository.findByIdIn(slice, EmployeeContactDTO.class), EmployeeFilter.NONE);
+            batches++;
+        }
+        log.info("Bulk delete of {} employee ids deleted {} in {} batches.", sorted.size(), deleted, batches);
+        return new BulkDeleteResultDTO(deleted, batches);
+    }
+
+    public BulkDeleteResultDTO deleteEmployees(Boolean active, String role) {
+        EmployeeFilter filter = new EmployeeFilter(active, role, null);
+        if (filter.isEmpty()) {
+            throw new InvalidRequestException("A bulk delete needs at least one filter");
+        }
+        return deleteMatching(filter);
+    }
+
+    /**
+     * Deletes the employees inserted by an asynchronous import job, for instance to
+     * undo the import of a wrong file. Employees the job only updated are kept.
+     */
+    public BulkDeleteResultDTO deleteImportedEmployees(UUID jobId) {
+        ImportJob job = importJobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Import job not found with id: " + jobId));
+        if (job.getStatus() == ImportJobStatus.QUEUED || job.getStatus() == ImportJobStatus.RUNNING) {
+            throw new InvalidRequestException("Import job " + jobId + " has not finished yet");
+        }
+        return deleteMatching(new EmployeeFilter(null, null, jobId));
+    }
+
+    private BulkDeleteResultDTO deleteMatching(EmployeeFilter filter) {
+        int batchSize = queryProperties.getDeleteBatchSize();
+        long afterId = 0;
+        long deleted = 0;
+        int batches = 0;
+        List<EmployeeContactDTO> batch;
+        do {
+            batch = employeeRepository.findMatching(filter, afterId, batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+            deleted += deleteBatch(batch, filter);
+            batches++;
+            afterId = batch.getLast().id();
+        } while (batch.size() == batchSize);
+        log.info("Bulk delete of employees matching {} deleted {} in {} batches.", filter, deleted, batches);
+        return new BulkDeleteResultDTO(deleted, batches);
+    }
+
+    private int deleteBatch(List<EmployeeContactDTO> batch, EmployeeFilter filter) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = batch.stream().map(EmployeeContactDTO::id).toList();
+        long[] emailHashes = batch.stream()
+                .map(EmployeeContactDTO::email)
+                .filter(Objects::nonNull)
+                .mapToLong(RowFingerprint::emailHash)
+                .toArray();
+        Integer deleted = new TransactionTemplate(transactionManager).execute(status -> {
+            int count = employeeRepository.deleteMatching(ids, filter);
+            fingerprintRepository.deleteFingerprints(emailHashes);
+            employeeCache.evictAll(ids);
+            if (count > 0) {
+                employeeStats.markStale();
+                importedFileService.forgetAll();
+            }
+            return count;
+        });
+        return deleted == null ? 0 : deleted;
+    }
+}
@@ -0,0 +1,59 @@
+package com.vladdumbrava.excel_csv_reader.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeDTO;
+import com.vladdumbrava.excel_csv_reader.exception.InvalidRequestException;
+import com.vladdumbrava.excel_csv_reader.model.ExportFormat;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeRepository;
+import com.vladdumbrava.excel_csv_reader.service.utils.writer.EmployeeFileWriter;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Exports the employee table in the formats the importers accept. Rows come from
+ * the same read-only database cursor as the NDJSON stream and go straight to the
+ * writer, so memory use does not depend on the number of employees.
+ */
+@Service
+@Slf4j
+public class EmployeeExportService {
+
+    private final EmployeeRepository employeeRepository;
+    private final Map<ExportFormat, EmployeeFileWriter> writers = new EnumMap<>(ExportFormat.class);
+
+    public EmployeeExportService(EmployeeRepository employeeRepository, List<EmployeeFileWriter> writerList) {
+        this.employeeRepository = employeeRepository;
+        writerList.forEach(writer -> writers.put(writer.format(), writer));
+    }
+
+    public ExportFormat resolveFormat(String format) {
+        try {
+            ExportFormat exportFormat = ExportFormat.valueOf(format.trim().toUpperCase(Locale.ROOT));
+            if (writers.containsKey(exportFormat)) {
+                return exportFormat;
+            }
+        } catch (IllegalArgumentException e) {
+            // reported below
+        }
+        throw new InvalidRequestException("Unsupported export format: " + format);
+    }
+
+    @Transactional(readOnly = true)
+    public long exportEmployees(ExportFormat format, OutputStream out) throws IOException {
+        long written;
+        try (Stream<EmployeeDTO> employees = employeeRepository.streamAllOrderById()) {
+            written = writers.get(format).write(employees.iterator(), out);
+        }
+        log.info("Exported {} employees as {}.", written, format);
+        return written;
+    }
+}
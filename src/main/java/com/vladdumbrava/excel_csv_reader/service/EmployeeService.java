@@ -1,19 +1,68 @@
 package com.vladdumbrava.excel_csv_reader.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.vladdumbrava.excel_csv_reader.config.ImportProperties;
+import com.vladdumbrava.excel_csv_reader.config.QueryProperties;
+import com.vladdumbrava.excel_csv_reader.dto.BulkUpdateResultDTO;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeContactDTO;
 import com.vladdumbrava.excel_csv_reader.dto.EmployeeDTO;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeNameUpdateDTO;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeePageDTO;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeStatsDTO;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeUpdateDTO;
+import com.vladdumbrava.excel_csv_reader.dto.ImportResultDTO;
+import com.vladdumbrava.excel_csv_reader.exception.FeatureDisabledException;
+import com.vladdumbrava.excel_csv_reader.exception.FileProcessingException;
+import com.vladdumbrava.excel_csv_reader.exception.InvalidRequestException;
 import com.vladdumbrava.excel_csv_reader.exception.ResourceNotFoundException;
 import com.vladdumbrava.excel_csv_reader.model.Employee;
+import com.vladdumbrava.excel_csv_reader.model.ImportMode;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeFingerprintRepository;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeHeadcount;
 import com.vladdumbrava.excel_csv_reader.repository.EmployeeRepository;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeRow;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeSearchCriteria;
+import com.vladdumbrava.excel_csv_reader.service.cache.EmployeeCache;
+import com.vladdumbrava.excel_csv_reader.service.importer.BatchEmployeeImporter;
+import com.vladdumbrava.excel_csv_reader.service.importer.CopyEmployeeImporter;
+import com.vladdumbrava.excel_csv_reader.service.importer.DeltaEmployeeImporter;
+import com.vladdumbrava.excel_csv_reader.service.importer.EmployeeRowValidator;
+import com.vladdumbrava.excel_csv_reader.service.importer.ImportAuditLog;
+import com.vladdumbrava.excel_csv_reader.service.importer.ImportMetrics;
+import com.vladdumbrava.excel_csv_reader.service.importer.ImportReport;
+import com.vladdumbrava.excel_csv_reader.service.importer.PipelinedEmployeeImporter;
+import com.vladdumbrava.excel_csv_reader.service.importer.RowFingerprint;
+import com.vladdumbrava.excel_csv_reader.service.importer.UpsertEmployeeImporter;
 import com.vladdumbrava.excel_csv_reader.service.mapper.EmployeeMapper;
+import com.vladdumbrava.excel_csv_reader.service.stats.EmployeeStats;
 import com.vladdumbrava.excel_csv_reader.service.utils.FileReaderFactory;
+import com.vladdumbrava.excel_csv_reader.service.utils.PageCursor;
+import com.vladdumbrava.excel_csv_reader.service.utils.PathMultipartFile;
 import com.vladdumbrava.excel_csv_reader.service.utils.reader.EmployeeFileReader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
@@ -21,39 +70,227 @@ import org.springframework.web.multipart.MultipartFile;
 @Slf4j
 public class EmployeeService {
 
+    private static final int MIN_NAME_SEARCH_LENGTH = 3;
+
     private final EmployeeRepository employeeRepository;
+    private final EmployeeFingerprintRepository fingerprintRepository;
     private final EmployeeMapper employeeMapper;
+    private final EmployeeRowValidator employeeRowValidator;
+    private final ImportedFileService importedFileService;
+    private final RejectionFileService rejectionFileService;
     private final FileReaderFactory fileReaderFactory;
+    private final ImportProperties importProperties;
+    private final QueryProperties queryProperties;
+    private final ObjectMapper objectMapper;
+    private final ImportMetrics importMetrics;
+    private final ImportAuditLog importAuditLog;
+    private final EmployeeCache employeeCache;
+    private final EmployeeStats employeeStats;
+
+    private final BatchEmployeeImporter batchEmployeeImporter;
+    private final CopyEmployeeImporter copyEmployeeImporter;
+    private final PipelinedEmployeeImporter pipelinedEmployeeImporter;
+    private final UpsertEmployeeImporter upsertEmployeeImporter;
+    private final DeltaEmployeeImporter deltaEmployeeImporter;
+
+    public ImportResultDTO importEmployees(MultipartFile file) {
+        return importEmployees(file, ImportMode.BATCH);
+    }
+
+    public ImportResultDTO importEmployees(MultipartFile file, ImportMode mode) {
+        ImportReport report = new ImportReport(mode, importProperties.getMaxReportedRejections());
+        report.setRejectionFile(rejectionFileService.create(UUID.randomUUID()));
+        return importEmployees(file, report);
+    }
 
-    public void importEmployees(MultipartFile file) {
-        EmployeeFileReader reader = fileReaderFactory.getReader(file);
-        log.info("FileReaderFactory chose implementation for reader.");
-        List<Employee> employees = reader.read(file);
-        employeeRepository.saveAll(employees);
-        log.info("Saved employees in repository.");
-        log.info("\nProcessed data:\n{}",
-                employees.stream()
-                        .map(employee -> employeeMapper.entityToDto(employee).toString())
-                        .collect(Collectors.joining("\n"))
-        );
+    public ImportResultDTO importEmployees(MultipartFile file, ImportReport report) {
+        String contentHash = importedFileService.contentHash(file);
+        Optional<ImportResultDTO> previous = importedFileService.findPreviousResult(contentHash, report.getMode());
+        if (previous.isPresent()) {
+            log.info("File {} was already imported in {} mode, returning the stored result.",
+                    file.getOriginalFilename(), report.getMode());
+            report.restore(previous.get());
+            return previous.get();
+        }
+
+        try {
+            importMetrics.observeImport(report.getMode(), () -> runImporter(file, report));
+        } finally {
+            importedFileService.forgetAll();
+            report.closeRejectionFile();
+            importMetrics.recordRows(report);
+        }
+        log.info("Imported {} of {} rows, rejected {}.",
+                report.getRowsImported(), report.getRowsRead(), report.getRowsRejected());
+        ImportResultDTO result = report.toResult();
+        importedFileService.recordResult(contentHash, file, result);
+        return result;
+    }
+
+    private void runImporter(MultipartFile file, ImportReport report) {
+        EmployeeFileReader reader = importMetrics.observeReaderSelection(() -> fileReaderFactory.getReader(file));
+        reader = importAuditLog.audit(importMetrics.instrument(reader), file.getOriginalFilename(), report);
+        switch (report.getMode()) {
+            case BATCH -> batchEmployeeImporter.importEmployees(reader, file, report);
+            case COPY -> copyEmployeeImporter.importEmployees(reader, file, report);
+            case PIPELINED -> pipelinedEmployeeImporter.importEmployees(reader, file, report);
+            case UPSERT -> upsertEmployeeImporter.importEmployees(reader, file, report);
+            case DELTA -> deltaEmployeeImporter.importEmployees(reader, file, report);
+        }
+    }
+
+    /**
+     * Imports a file that is already on the local disk of this host, such as a
+     * nightly batch drop. The path is resolved against the configured server file
+     * directory and may not escape it.
+     */
+    public ImportResultDTO importServerFile(String path, ImportMode mode) {
+        Path directory = importProperties.getServerFileDirectory();
+        if (directory == null) {
+            throw new FeatureDisabledException("Server-side file imports are not enabled.");
+        }
+
+        Path root = directory.toAbsolutePath().normalize();
+        Path file = root.resolve(path).normalize();
+        if (!file.startsWith(root)) {
+            throw new FileProcessingException("Path is outside the server file directory: " + path);
+        }
+        if (!Files.isRegularFile(file)) {
+            throw new ResourceNotFoundException("File not found: " + path);
+        }
+
+        log.info("Importing server-side file {}", file);
+        return importEmployees(new PathMultipartFile(file), mode);
     }
 
     public EmployeeDTO createEmployee(EmployeeDTO employeeDTO) {
         Employee employee = employeeMapper.dtoToEntity(employeeDTO);
         Employee saved = employeeRepository.save(employee);
+        employeeStats.added(List.of(saved));
+        importedFileService.forgetAll();
         log.info("Saved employee in repository.");
         return employeeMapper.entityToDto(saved);
     }
 
-    public List<EmployeeDTO> getAllEmployees() {
-        return employeeRepository.findAll()
-                .stream()
-                .map(employeeMapper::entityToDto)
-                .collect(Collectors.toList());
+    /**
+     * Served from {@link EmployeeCache}; only misses read the database.
+     */
+    public EmployeeDTO getEmployee(Long id) {
+        return employeeCache.get(id, key -> employeeRepository.findProjectedById(key, EmployeeRow.class)
+                        .map(employeeMapper::rowToDto)
+                        .orElse(null))
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
+    }
+
+    /**
+     * Served from the incrementally maintained {@link EmployeeStats} summary.
+     */
+    public EmployeeStatsDTO getEmployeeStats() {
+        return employeeStats.get();
+    }
+
+    @Transactional(readOnly = true)
+    public EmployeePageDTO<EmployeeDTO> getEmployees(String cursor, Integer size) {
+        return getPage(cursor, size, (lastId, limit) ->
+                        employeeRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(limit), EmployeeRow.class),
+                EmployeeRow::id, employeeMapper::rowToDto);
+    }
+
+    /**
+     * Same paging as {@link #getEmployees}, but selects only the id, name and email
+     * columns.
+     */
+    @Transactional(readOnly = true)
+    public EmployeePageDTO<EmployeeContactDTO> getEmployeeContacts(String cursor, Integer size) {
+        return getPage(cursor, size, (lastId, limit) ->
+                        employeeRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(limit), EmployeeContactDTO.class),
+                EmployeeContactDTO::id, Function.identity());
+    }
+
+    /**
+     * Same paging as {@link #getEmployees}, over the employees matching every given
+     * criterion. Blank text criteria are ignored.
+     */
+    @Transactional(readOnly = true)
+    public EmployeePageDTO<EmployeeDTO> searchEmployees(EmployeeSearchCriteria criteria, String cursor, Integer size) {
+        EmployeeSearchCriteria search = normalize(criteria);
+        return getPage(cursor, size, (lastId, limit) -> employeeRepository.search(search, lastId, limit),
+                EmployeeRow::id, employeeMapper::rowToDto);
+    }
+
+    private EmployeeSearchCriteria normalize(EmployeeSearchCriteria criteria) {
+        EmployeeSearchCriteria search = new EmployeeSearchCriteria(blankToNull(criteria.role()), criteria.gender(),
+                criteria.active(), criteria.bornFrom(), criteria.bornTo(), blankToNull(criteria.emailPrefix()),
+                blankToNull(criteria.name()));
+        if (search.bornFrom() != null && search.bornTo() != null && search.bornFrom().isAfter(search.bornTo())) {
+            throw new InvalidRequestException("bornFrom must not be after bornTo");
+        }
+        // The trigram index cannot narrow down shorter patterns and would be read in full.
+        if (search.name() != null && search.name().length() < MIN_NAME_SEARCH_LENGTH) {
+            throw new InvalidRequestException("Name search needs at least " + MIN_NAME_SEARCH_LENGTH + " characters");
+        }
+        return search;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.strip();
+    }
+
+    private <R, T> EmployeePageDTO<T> getPage(String cursor, Integer size, PageQuery<R> query,
+                                             ToLongFunction<R> idOf, Function<R, T> toDto) {
+        int pageSize = size == null ? queryProperties.getDefaultPageSize() : size;
+        if (pageSize < 1 || pageSize > queryProperties.getMaxPageSize()) {
+            throw new InvalidRequestException("Page size must be between 1 and " + queryProperties.getMaxPageSize());
+        }
+        long lastId = cursor == null ? 0 : PageCursor.decode(cursor);
+
+        // One extra row tells whether there is a next page without a count query.
+        List<R> rows = query.fetch(lastId, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<R> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? PageCursor.encode(idOf.applyAsLong(page.getLast())) : null;
+
+        return new EmployeePageDTO<>(page.stream().map(toDto).toList(), nextCursor);
+    }
+
+    /**
+     * Writes every employee as one JSON object per line. Rows are read through a
+     * database cursor straight into DTOs, so no entities pile up in the persistence
+     * context and memory use does not grow with the size of the table.
+     */
+    @Transactional(readOnly = true)
+    public long writeEmployeesAsNdjson(OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long written = 0;
+        try (JsonGenerator generator = objectMapper.createGenerator(out);
+             Stream<EmployeeDTO> employees = employeeRepository.streamAllOrderById()) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            for (Iterator<EmployeeDTO> iterator = employees.iterator(); iterator.hasNext(); ) {
+                writer.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+                written++;
+            }
+        }
+        log.info("Streamed {} employees as NDJSON.", written);
+        return written;
     }
 
+    /**
+     * Also forgets the employee's delta import fingerprint, so that the next delta
+     * import of an unchanged file restores it.
+     */
+    @Transactional
     public void deleteEmployee(Long id) {
-        employeeRepository.deleteById(id);
+        employeeRepository.findById(id).ifPresent(employee -> {
+            employeeRepository.delete(employee);
+            if (employee.getEmail() != null) {
+                fingerprintRepository.deleteFingerprints(new long[]{RowFingerprint.emailHash(employee.getEmail())});
+            }
+            employeeStats.record(List.of(EmployeeHeadcount.of(employee, -1)));
+            importedFileService.forgetAll();
+        });
+        employeeCache.evict(id);
     }
 
     public EmployeeDTO updateEmployee(Long id, EmployeeDTO newEmployeeDTO) {
@@ -61,6 +298,7 @@ public class EmployeeService {
 
         Employee savedEmployee = employeeRepository.findById(id)
                 .map(employee -> {
+                    EmployeeHeadcount previous = EmployeeHeadcount.of(employee, -1);
                     employee.setName(newEmployee.getName());
                     employee.setDateOfBirth(newEmployee.getDateOfBirth());
                     employee.setGender(newEmployee.getGender());
@@ -69,9 +307,13 @@ public class EmployeeService {
                     employee.setPhoneNumber(newEmployee.getPhoneNumber());
                     employee.setActive(newEmployee.getActive());
                     log.info("Updated employee.");
-                    return employeeRepository.save(employee);
+                    Employee saved = employeeRepository.save(employee);
+                    employeeStats.record(List.of(previous, EmployeeHeadcount.of(saved, 1)));
+                    return saved;
                 })
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
+        employeeCache.evict(id);
+        importedFileService.forgetAll();
 
         return employeeMapper.entityToDto(savedEmployee);
     }
@@ -84,7 +326,86 @@ public class EmployeeService {
                     return employeeRepository.save(employee);
                 })
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
+        employeeCache.evict(id);
+        importedFileService.forgetAll();
 
         return employeeMapper.entityToDto(savedEmployee);
     }
+
+    /**
+     * Applies a full update to many employees in one transaction, without loading
+     * them. Either every update is applied or, when one would break a unique
+     * constraint, none is.
+     */
+    public BulkUpdateResultDTO updateEmployees(List<EmployeeUpdateDTO> updates) {
+        checkBulkUpdateSize(updates.size());
+        Set<Long> ids = new HashSet<>();
+        List<Employee> employees = new ArrayList<>(updates.size());
+        for (EmployeeUpdateDTO update : updates) {
+            Long id = requireUniqueId(update.id(), ids);
+            if (update.employee() == null) {
+                throw new InvalidRequestException("Update of employee " + id + " has no employee values");
+            }
+            Employee employee = employeeMapper.dtoToEntity(update.employee());
+            String reason = employeeRowValidator.validate(employee);
+            if (reason != null) {
+                throw new InvalidRequestException("Invalid update of employee " + id + ": " + reason);
+            }
+            employee.setId(id);
+            employees.add(employee);
+        }
+
+        BulkUpdateResultDTO result = employeeRepository.batchUpdate(employees);
+        employeeCache.evictAll(ids);
+        if (result.changed() > 0) {
+            employeeStats.markStale();
+            importedFileService.forgetAll();
+        }
+        log.info("Bulk update of {} employees matched {} and changed {}.",
+                result.requested(), result.matched(), result.changed());
+        return result;
+    }
+
+    public BulkUpdateResultDTO updateEmployeeNames(List<EmployeeNameUpdateDTO> updates) {
+        checkBulkUpdateSize(updates.size());
+        Set<Long> ids = new HashSet<>();
+        for (EmployeeNameUpdateDTO update : updates) {
+            Long id = requireUniqueId(update.id(), ids);
+            if (update.name() == null || update.name().isBlank()) {
+                throw new InvalidRequestException("Invalid update of employee " + id + ": name is required");
+            }
+        }
+
+        BulkUpdateResultDTO result = employeeRepository.batchUpdateNames(updates);
+        employeeCache.evictAll(ids);
+        if (result.changed() > 0) {
+            importedFileService.forgetAll();
+        }
+        log.info("Bulk rename of {} employees matched {} and changed {}.",
+                result.requested(), result.matched(), result.changed());
+        return result;
+    }
+
+    private void checkBulkUpdateSize(int size) {
+        if (size > queryProperties.getMaxBulkUpdateSize()) {
+            throw new InvalidRequestException("A bulk update may change at most "
+                    + queryProperties.getMaxBulkUpdateSize() + " employees");
+        }
+    }
+
+    private static Long requireUniqueId(Long id, Set<Long> seen) {
+        if (id == null) {
+            throw new InvalidRequestException("Every update needs an employee id");
+        }
+        if (!seen.add(id)) {
+            throw new InvalidRequestException("Employee " + id + " is updated more than once");
+        }
+        return id;
+    }
+
+    @FunctionalInterface
+    private interface PageQuery<R> {
+
+        List<R> fetch(long lastId, int limit);
+    }
 }
@@ -0,0 +1,203 @@
+package com.vladdumbrava.excel_csv_reader.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import com.vladdumbrava.excel_csv_reader.config.ImportProperties;
+import com.vladdumbrava.excel_csv_reader.dto.ImportJobDTO;
+import com.vladdumbrava.excel_csv_reader.exception.FileProcessingException;
+import com.vladdumbrava.excel_csv_reader.exception.ImportJobRejectedException;
+import com.vladdumbrava.excel_csv_reader.exception.ResourceNotFoundException;
+import com.vladdumbrava.excel_csv_reader.model.ImportJob;
+import com.vladdumbrava.excel_csv_reader.model.ImportJobStatus;
+import com.vladdumbrava.excel_csv_reader.model.ImportMode;
+import com.vladdumbrava.excel_csv_reader.repository.ImportJobRepository;
+import com.vladdumbrava.excel_csv_reader.service.importer.ImportReport;
+import com.vladdumbrava.excel_csv_reader.service.mapper.ImportJobMapper;
+import com.vladdumbrava.excel_csv_reader.service.utils.FileReaderFactory;
+import com.vladdumbrava.excel_csv_reader.service.utils.PathMultipartFile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Runs imports in the background. The upload is spooled to disk, a row is written
+ * to {@code import_jobs} and the import is queued on the bounded import executor.
+ * Progress counters are flushed to the job row while the import runs. Rejected rows
+ * are written to the rejection file named after the job id.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImportJobService {
+
+    private final ImportJobRepository importJobRepository;
+    private final ImportJobMapper importJobMapper;
+    private final EmployeeService employeeService;
+    private final FileReaderFactory fileReaderFactory;
+    private final RejectionFileService rejectionFileService;
+    private final ImportProperties importProperties;
+    private final PlatformTransactionManager transactionManager;
+    @Qualifier("importTaskExecutor")
+    private final TaskExecutor importTaskExecutor;
+
+    public ImportJobDTO submit(MultipartFile file, ImportMode mode) {
+        // Reject unsupported files before anything is written to disk.
+        fileReaderFactory.getReader(file);
+
+        ImportJob job = new ImportJob();
+        job.setId(UUID.randomUUID());
+        job.setFilename(file.getOriginalFilename());
+        job.setMode(mode);
+        job.setStatus(ImportJobStatus.QUEUED);
+        job.setCreatedAt(Instant.now());
+
+        spool(job.getId(), file);
+        importJobRepository.save(job);
+        log.info("Queued import job {} for file {}.", job.getId(), job.getFilename());
+        enqueue(job);
+        return importJobMapper.entityToDto(job);
+    }
+
+    public ImportJobDTO getJob(UUID id) {
+        return importJobRepository.findById(id)
+                .map(importJobMapper::entityToDto)
+                .orElseThrow(() -> new ResourceNotFoundException("Import job not found with id: " + id));
+    }
+
+    /**
+     * Jobs that were running when the application stopped are marked as failed,
+     * since part of their rows may already be committed. Queued jobs whose spooled
+     * file is still on disk are queued again.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverInterruptedJobs() {
+        for (ImportJob job : importJobRepository.findByStatusIn(EnumSet.of(ImportJobStatus.QUEUED, ImportJobStatus.RUNNING))) {
+            if (job.getStatus() == ImportJobStatus.QUEUED && Files.exists(spoolPath(job.getId()))) {
+                log.info("Re-queueing import job {} after restart.", job.getId());
+                try {
+                    enqueue(job);
+                } catch (ImportJobRejectedException e) {
+                    log.warn("Could not re-queue import job {}.", job.getId());
+                }
+            } else {
+                fail(job, "Interrupted by application restart.");
+                deleteSpooledFile(job.getId());
+            }
+        }
+    }
+
+    void run(UUID jobId) {
+        ImportJob job = importJobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Import job not found with id: " + jobId));
+        job.setStatus(ImportJobStatus.RUNNING);
+        job.setStartedAt(Instant.now());
+        importJobRepository.save(job);
+
+        ImportReport report = new ImportReport(job.getMode(), importProperties.getMaxReportedRejections());
+        report.setImportJobId(jobId);
+        report.setProgressListener(new ProgressWriter(jobId));
+        report.setRejectionFile(rejectionFileService.create(jobId));
+        try {
+            employeeService.importEmployees(new PathMultipartFile(spoolPath(jobId), job.getFilename()), report);
+            job.setStatus(ImportJobStatus.COMPLETED);
+            log.info("Import job {} completed.", jobId);
+        } catch (RuntimeException e) {
+            log.error("Import job {} failed.", jobId, e);
+            job.setStatus(ImportJobStatus.FAILED);
+            job.setErrorMessage(e.getMessage());
+        } finally {
+            job.setRowsParsed(report.getRowsRead());
+            job.setRowsPersisted(report.getRowsImported());
+            job.setRowsRejected(report.getRowsRejected());
+            job.setFinishedAt(Instant.now());
+            importJobRepository.save(job);
+            deleteSpooledFile(jobId);
+        }
+    }
+
+    private void enqueue(ImportJob job) {
+        try {
+            importTaskExecutor.execute(() -> run(job.getId()));
+        } catch (TaskRejectedException e) {
+            fail(job, "Import queue is full.");
+            deleteSpooledFile(job.getId());
+            throw new ImportJobRejectedException("Import queue is full, try again later.");
+        }
+    }
+
+    private void fail(ImportJob job, String message) {
+        job.setStatus(ImportJobStatus.FAILED);
+        job.setErrorMessage(message);
+        job.setFinishedAt(Instant.now());
+        importJobRepository.save(job);
+    }
+
+    private void spool(UUID jobId, MultipartFile file) {
+        try {
+            Files.createDirectories(importProperties.getAsync().getSpoolDirectory());
+            file.transferTo(spoolPath(jobId));
+        } catch (IOException e) {
+            log.error("Failed to spool upload {} to disk", file.getOriginalFilename(), e);
+            throw new FileProcessingException("Failed to store uploaded file: " + file.getOriginalFilename());
+        }
+    }
+
+    private Path spoolPath(UUID jobId) {
+        return importProperties.getAsync().getSpoolDirectory().resolve(jobId.toString());
+    }
+
+    private void deleteSpooledFile(UUID jobId) {
+        try {
+            Files.deleteIfExists(spoolPath(jobId));
+        } catch (IOException e) {
+            log.warn("Could not delete spooled file of import job {}", jobId, e);
+        }
+    }
+
+    /**
+     * Writes the running counters to the job row, at most once per progress interval.
+     * Each write commits in its own transaction: a COPY import calls this from inside
+     * its single import transaction, which would otherwise hold every update back
+     * until the import ends.
+     */
+    private final class ProgressWriter implements Consumer<ImportReport> {
+
+        private final UUID jobId;
+        private final long intervalNanos = importProperties.getAsync().getProgressInterval().toNanos();
+        private final AtomicLong lastWrite = new AtomicLong(System.nanoTime());
+        private final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        private ProgressWriter(UUID jobId) {
+            this.jobId = jobId;
+            transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        }
+
+        @Override
+        public void accept(ImportReport report) {
+            long now = System.nanoTime();
+            long last = lastWrite.get();
+            if (now - last < intervalNanos || !lastWrite.compareAndSet(last, now)) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> importJobRepository.updateProgress(jobId,
+                    report.getRowsRead(), report.getRowsImported(), report.getRowsRejected()));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.vladdumbrava.excel_csv_reader.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vladdumbrava.excel_csv_reader.config.ImportProperties;
+import com.vladdumbrava.excel_csv_reader.dto.ImportResultDTO;
+import com.vladdumbrava.excel_csv_reader.exception.FileProcessingException;
+import com.vladdumbrava.excel_csv_reader.model.ImportMode;
+import com.vladdumbrava.excel_csv_reader.model.ImportedFile;
+import com.vladdumbrava.excel_csv_reader.model.ImportedFileId;
+import com.vladdumbrava.excel_csv_reader.repository.ImportedFileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Remembers the content hash and result of every successful import, so a file
+ * that is sent again with the same mode within the retention period is answered
+ * from the stored result instead of being parsed and written a second time.
+ * <p>
+ * Imports that rejected rows are not remembered: sending the file again should
+ * report the rejections afresh, and the stored result would point at a rejection
+ * file that is purged long before the retention period ends.
+ * <p>
+ * A stored result only holds while {@code employees} is as the import left it, so
+ * every write to the table, including other imports, forgets all of them through
+ * {@link #forgetAll()}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImportedFileService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ImportedFileRepository importedFileRepository;
+    private final ObjectMapper objectMapper;
+    private final ImportProperties importProperties;
+
+    /**
+     * @return the hex SHA-256 of the file content, or {@code null} when duplicate
+     * detection is disabled
+     */
+    public String contentHash(MultipartFile file) {
+        if (!importProperties.getDedup().isEnabled()) {
+            return null;
+        }
+        try (InputStream in = file.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[BUFFER_SIZE];
+            for (int n; (n = in.read(buffer)) != -1; ) {
+                digest.update(buffer, 0, n);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            log.error("Failed to hash file {}", file.getOriginalFilename(), e);
+            throw new FileProcessingException("Failed to read file: " + file.getOriginalFilename());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public Optional<ImportResultDTO> findPreviousResult(String contentHash, ImportMode mode) {
+        if (contentHash == null) {
+            return Optional.empty();
+        }
+        Instant cutoff = Instant.now().minus(importProperties.getDedup().getRetention());
+        return importedFileRepository.findById(new ImportedFileId(contentHash, mode))
+                .filter(importedFile -> importedFile.getImportedAt().isAfter(cutoff))
+                .flatMap(this::readResult);
+    }
+
+    public void recordResult(String contentHash, MultipartFile file, ImportResultDTO result) {
+        if (contentHash == null) {
+            return;
+        }
+        if (result.rowsRejected() > 0) {
+            log.debug("Not remembering import of {}: {} rows were rejected.",
+                    file.getOriginalFilename(), result.rowsRejected());
+            return;
+        }
+        ImportedFile importedFile = new ImportedFile();
+        importedFile.setContentHash(contentHash);
+        importedFile.setMode(result.mode());
+        importedFile.setFilename(file.getOriginalFilename());
+        importedFile.setImportedAt(Instant.now());
+        try {
+            importedFile.setResult(objectMapper.writeValueAsString(result));
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize result of import of {}; it will not be remembered.",
+                    file.getOriginalFilename(), e);
+            return;
+        }
+        importedFileRepository.save(importedFile);
+    }
+
+    /**
+     * Called after employees were written or deleted: sending a remembered file again
+     * may now change the table, so it has to be imported for real.
+     */
+    public void forgetAll() {
+        importedFileRepository.deleteAllInBatch();
+    }
+
+    @Scheduled(fixedDelayString = "${employees.import.dedup.purge-interval:PT1H}")
+    public void purgeExpired() {
+        Instant cutoff = Instant.now().minus(importProperties.getDedup().getRetention());
+        int purged = importedFileRepository.deleteImportedBefore(cutoff);
+        if (purged > 0) {
+            log.info("Purged {} remembered imports older than {}.", purged, cutoff);
+        }
+    }
+
+    private Optional<ImportResultDTO> readResult(ImportedFile importedFile) {
+        try {
+            return Optional.of(objectMapper.readValue(importedFile.getResult(), ImportResultDTO.class));
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring unreadable stored result for file {}.", importedFile.getContentHash(), e);
+            return Optional.empty();
+        }
+    }
+}
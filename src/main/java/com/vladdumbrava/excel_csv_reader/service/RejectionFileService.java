@@ -0,0 +1,70 @@
+package com.vladdumbrava.excel_csv_reader.service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.UUID;
+
+import com.vladdumbrava.excel_csv_reader.config.ImportProperties;
+import com.vladdumbrava.excel_csv_reader.exception.ResourceNotFoundException;
+import com.vladdumbrava.excel_csv_reader.service.importer.RejectionFile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps the rejection file of each import in the configured directory, named after
+ * the import: the job id for asynchronous imports, a random id otherwise. Files are
+ * deleted once they are older than the retention period.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RejectionFileService {
+
+    private static final String EXTENSION = ".csv";
+
+    private final ImportProperties importProperties;
+
+    public RejectionFile create(UUID id) {
+        return new RejectionFile(id, path(id));
+    }
+
+    public Path getFile(UUID id) {
+        Path file = path(id);
+        if (!Files.isRegularFile(file)) {
+            throw new ResourceNotFoundException("Rejection file not found with id: " + id);
+        }
+        return file;
+    }
+
+    @Scheduled(fixedDelayString = "${employees.import.rejections.purge-interval:PT1H}")
+    public void purgeExpired() {
+        Path directory = importProperties.getRejections().getDirectory();
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        Instant cutoff = Instant.now().minus(importProperties.getRejections().getRetention());
+        int purged = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(cutoff) && Files.deleteIfExists(file)) {
+                    purged++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not purge rejection files in {}", directory, e);
+        }
+        if (purged > 0) {
+            log.info("Purged {} rejection files older than {}.", purged, cutoff);
+        }
+    }
+
+    private Path path(UUID id) {
+        return importProperties.getRejections().getDirectory().resolve(id + EXTENSION);
+    }
+}
@@ -0,0 +1,76 @@
+package com.vladdumbrava.excel_csv_reader.service.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vladdumbrava.excel_csv_reader.config.QueryProperties;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Read-through cache of single employees by id. Caffeine bounds it by
+ * {@code employees.query.cache.maximum-size}, choosing what to keep by W-TinyLFU, and
+ * drops entries after {@code employees.query.cache.expire-after-write}. Missing
+ * employees are not cached.
+ * <p>
+ * Every write that changes or deletes existing employees evicts their ids. Inside a
+ * transaction the eviction waits until it completes, so a concurrent read cannot
+ * cache the old row again before the change is visible. A read that is loading an
+ * id when it is evicted finishes first and is then discarded.
+ * <p>
+ * Hits, misses, puts and evictions are published as the {@code cache.*} meters
+ * tagged {@code cache=employees}.
+ */
+@Component
+public class EmployeeCache {
+
+    public static final String NAME = "employees";
+
+    private final Cache<Long, EmployeeDTO> cache;
+
+    public EmployeeCache(QueryProperties queryProperties, MeterRegistry meterRegistry) {
+        cache = Caffeine.newBuilder()
+                .maximumSize(queryProperties.getCache().getMaximumSize())
+                .expireAfterWrite(queryProperties.getCache().getExpireAfterWrite())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, NAME);
+    }
+
+    /**
+     * @param loader reads the employee from the database, or returns {@code null} if it does not exist
+     */
+    public Optional<EmployeeDTO> get(Long id, Function<Long, EmployeeDTO> loader) {
+        return Optional.ofNullable(cache.get(id, loader));
+    }
+
+    public void evict(Long id) {
+        evictAll(List.of(id));
+    }
+
+    public void evictAll(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<Long> evicted = List.copyOf(ids);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidateAll(evicted);
+                }
+            });
+        } else {
+            cache.invalidateAll(ids);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.vladdumbrava.excel_csv_reader.service.importer;
+
+import com.vladdumbrava.excel_csv_reader.config.ImportProperties;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.EmployeeChunk;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.EmployeeChunkHandler;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.EmployeeFileReader;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * The default import mode. Every chunk the reader hands out is validated in the same
+ * pass, then its valid rows are inserted in one transaction. Invalid rows are
+ * rejected one by one, so a bad row never costs more than itself.
+ */
+@Service
+@RequiredArgsConstructor
+public class BatchEmployeeImporter {
+
+    private final EmployeeRowValidator employeeRowValidator;
+    private final EmployeeChunkWriter employeeChunkWriter;
+    private final ImportProperties importProperties;
+
+    public void importEmployees(EmployeeFileReader reader, MultipartFile file, ImportReport report) {
+        reader.read(file, importProperties.getChunkSize(), new EmployeeChunkHandler() {
+            @Override
+            public void onChunk(EmployeeChunk chunk) {
+                report.addRowsRead(chunk.size());
+                EmployeeChunk valid = employeeRowValidator.validate(chunk, report);
+                if (valid.size() > 0) {
+                    report.addRowsImported(employeeChunkWriter.write(valid, report));
+                }
+                report.chunkCompleted();
+            }
+
+            @Override
+            public void onRejectedRow(long rowNumber, String reason) {
+                report.addRowsRead(1);
+                report.reject(rowNumber, reason);
+            }
+        });
+    }
+}
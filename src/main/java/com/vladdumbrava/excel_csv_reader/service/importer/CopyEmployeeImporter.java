@@ -0,0 +1,210 @@
+package com.vladdumbrava.excel_csv_reader.service.importer;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import com.vladdumbrava.excel_csv_reader.config.ImportProperties;
+import com.vladdumbrava.excel_csv_reader.exception.FeatureDisabledException;
+import com.vladdumbrava.excel_csv_reader.model.Employee;
+import com.vladdumbrava.excel_csv_reader.model.Gender;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeHeadcount;
+import com.vladdumbrava.excel_csv_reader.service.stats.EmployeeStats;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.EmployeeChunk;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.EmployeeChunkHandler;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.EmployeeFileReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Streams parsed rows into a temporary staging table through PostgreSQL's
+ * {@code COPY ... FROM STDIN}, then moves every row that would not break a
+ * constraint of {@code employees} with a single {@code INSERT ... SELECT}. Rows that
+ * would have failed are reported with their source row number instead of aborting
+ * the import.
+ * <p>
+ * Rows are encoded from the {@link Employee} objects the readers produce rather than
+ * from raw cell values. Readers are shared by every import mode and already reuse
+ * their parse buffers, so the only allocation this saves is one short-lived object
+ * per row, while the typed values keep the staging table's columns typed. The whole
+ * import is one transaction, as the staging tables live until it commits; progress
+ * of asynchronous jobs is written in separate transactions so it stays visible.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CopyEmployeeImporter {
+
+    private static final String CREATE_STAGING_SQL = """
+            CREATE TEMPORARY TABLE employees_import_staging (
+                row_number BIGINT NOT NULL,
+                name TEXT,
+                date_of_birth DATE,
+                gender TEXT,
+                role TEXT,
+                email TEXT,
+                phone_number TEXT,
+                active BOOLEAN
+            ) ON COMMIT DROP""";
+
+    private static final String COPY_SQL = """
+            COPY employees_import_staging (row_number, name, date_of_birth, gender, role, email, phone_number, active)
+            FROM STDIN WITH (FORMAT csv)""";
+
+    // Duplicates within the file are only counted among rows that pass the earlier
+    // checks, so a rejected row never makes a later valid row with the same email
+    // look like a duplicate. Phone numbers are compared only among rows that also
+    // passed the email duplicate check.
+    private static final String COLLECT_REJECTIONS_SQL = """
+            CREATE TEMPORARY TABLE employees_import_rejections ON COMMIT DROP AS
+            WITH checked AS (
+                SELECT s.row_number, s.email, s.phone_number,
+                       CASE
+                           WHEN s.name IS NULL THEN 'name is required'
+                           WHEN s.date_of_birth IS NULL THEN 'date_of_birth is required'
+                           WHEN s.role IS NULL THEN 'role is required'
+                           WHEN s.email IS NULL THEN 'email is required'
+                           WHEN s.active IS NULL THEN 'active is required'
+                           WHEN EXISTS (SELECT 1 FROM employees e WHERE e.email = s.email)
+                               THEN 'email already exists: ' || s.email
+                           WHEN s.phone_number IS NOT NULL
+                                AND EXISTS (SELECT 1 FROM employees e WHERE e.phone_number = s.phone_number)
+                               THEN 'phone_number already exists: ' || s.phone_number
+                       END AS reason
+                FROM employees_import_staging s
+            ),
+            email_checked AS (
+                SELECT row_number, phone_number,
+                       coalesce(reason, CASE WHEN first_email_row <> row_number
+                           THEN 'duplicate email in file, first seen on row ' || first_email_row END) AS reason
+                FROM (
+                    SELECT checked.*,
+                           min(row_number) FILTER (WHERE reason IS NULL) OVER (PARTITION BY email) AS first_email_row
+                    FROM checked
+                ) windowed
+            ),
+            phone_checked AS (
+                SELECT row_number,
+                       coalesce(reason, CASE WHEN phone_number IS NOT NULL AND first_phone_row <> row_number
+                           THEN 'duplicate phone_number in file, first seen on row ' || first_phone_row END) AS reason
+                FROM (
+                    SELECT email_checked.*,
+                           min(row_number) FILTER (WHERE reason IS NULL) OVER (PARTITION BY phone_number)
+                               AS first_phone_row
+                    FROM email_checked
+                ) windowed
+            )
+            SELECT row_number, reason
+            FROM phone_checked
+            WHERE reason IS NOT NULL""";
+
+    // Returns the inserted rows counted per role, gender and active status for the
+    // employee statistics. Rows skipped by ON CONFLICT, because another transaction
+    // inserted the same email or phone number after the checks above, are added to
+    // the rejections; emails are unique among the remaining rows, so they identify
+    // the inserted ones.
+    private static final String INSERT_VALID_ROWS_SQL = """
+            WITH inserted AS (
+                INSERT INTO employees (name, date_of_birth, gender, role, email, phone_number, active, import_job_id)
+                SELECT s.name, s.date_of_birth, s.gender, s.role, s.email, s.phone_number, s.active, ?::uuid
+                FROM employees_import_staging s
+                WHERE NOT EXISTS (SELECT 1 FROM employees_import_rejections r WHERE r.row_number = s.row_number)
+                ORDER BY s.row_number
+                ON CONFLICT DO NOTHING
+                RETURNING email, role, gender, active
+            ),
+            skipped AS (
+                INSERT INTO employees_import_rejections (row_number, reason)
+                SELECT s.row_number, 'email or phone_number already exists'
+                FROM employees_import_staging s
+                WHERE NOT EXISTS (SELECT 1 FROM employees_import_rejections r WHERE r.row_number = s.row_number)
+                  AND NOT EXISTS (SELECT 1 FROM inserted i WHERE i.email = s.email)
+            )
+            SELECT role, gender, active, count(*) AS employees
+            FROM inserted
+            GROUP BY role, gender, active""";
+
+    private static final RowMapper<EmployeeHeadcount> HEADCOUNT_MAPPER = (rs, rowNum) -> new EmployeeHeadcount(
+            rs.getString("role"),
+            rs.getString("gender") == null ? null : Gender.valueOf(rs.getString("gender")),
+            rs.getObject("active", Boolean.class),
+            rs.getLong("employees"));
+
+    private static final String SELECT_REJECTIONS_SQL =
+            "SELECT row_number, reason FROM employees_import_rejections ORDER BY row_number";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ImportProperties importProperties;
+    private final ImportMetrics importMetrics;
+    private final EmployeeStats employeeStats;
+
+    @Transactional
+    public void importEmployees(EmployeeFileReader reader, MultipartFile file, ImportReport report) {
+        Boolean postgreSql = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                connection.isWrapperFor(PGConnection.class));
+        if (!Boolean.TRUE.equals(postgreSql)) {
+            throw new FeatureDisabledException("COPY import requires a PostgreSQL database.");
+        }
+        jdbcTemplate.execute(CREATE_STAGING_SQL);
+
+        Long copied = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+            try {
+                CopyRowEncoder encoder = new CopyRowEncoder(copyIn::writeToCopy);
+                reader.read(file, importProperties.getChunkSize(), new CopyChunkHandler(encoder, report));
+                encoder.flush();
+                return copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        });
+        log.info("Copied {} rows into the staging table.", copied);
+
+        long rows = copied == null ? 0 : copied;
+        importMetrics.observeWrite("copy-collect-rejections", rows, () -> {
+            jdbcTemplate.execute(COLLECT_REJECTIONS_SQL);
+            return null;
+        });
+        List<EmployeeHeadcount> inserted = importMetrics.observeWrite("copy-insert", rows,
+                () -> jdbcTemplate.query(INSERT_VALID_ROWS_SQL, HEADCOUNT_MAPPER, report.getImportJobId()));
+        employeeStats.record(inserted);
+        report.addRowsImported(inserted.stream().mapToLong(EmployeeHeadcount::employees).sum());
+        report.chunkCompleted();
+        jdbcTemplate.query(SELECT_REJECTIONS_SQL, rs -> {
+            report.reject(rs.getLong("row_number"), rs.getString("reason"));
+        });
+    }
+
+    private record CopyChunkHandler(CopyRowEncoder encoder, ImportReport report) implements EmployeeChunkHandler {
+
+        @Override
+        public void onChunk(EmployeeChunk chunk) {
+            try {
+                for (int i = 0; i < chunk.size(); i++) {
+                    encoder.encode(chunk.rowNumber(i), chunk.employee(i));
+                }
+            } catch (SQLException e) {
+                throw new DataAccessResourceFailureException("Failed to stream rows to COPY", e);
+            }
+            report.addRowsRead(chunk.size());
+            report.chunkCompleted();
+        }
+
+        @Override
+        public void onRejectedRow(long rowNumber, String reason) {
+            report.addRowsRead(1);
+            report.reject(rowNumber, reason);
+        }
+    }
+}
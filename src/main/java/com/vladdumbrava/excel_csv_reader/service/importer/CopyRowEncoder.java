@@ -0,0 +1,80 @@
+package com.vladdumbrava.excel_csv_reader.service.importer;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+
+import com.vladdumbrava.excel_csv_reader.model.Employee;
+
+/**
+ * Encodes rows in PostgreSQL's COPY CSV format and hands them to the sink in
+ * blocks of roughly {@link #FLUSH_THRESHOLD} characters. Strings are always quoted
+ * so an unquoted empty field unambiguously means NULL.
+ */
+final class CopyRowEncoder {
+
+    static final int FLUSH_THRESHOLD = 64 * 1024;
+
+    private final StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 1024);
+    private final CopySink sink;
+
+    CopyRowEncoder(CopySink sink) {
+        this.sink = sink;
+    }
+
+    void encode(long rowNumber, Employee employee) throws SQLException {
+        buffer.append(rowNumber).append(',');
+        appendQuoted(employee.getName());
+        buffer.append(',');
+        if (employee.getDateOfBirth() != null) {
+            buffer.append(employee.getDateOfBirth());
+        }
+        buffer.append(',');
+        if (employee.getGender() != null) {
+            buffer.append(employee.getGender().name());
+        }
+        buffer.append(',');
+        appendQuoted(employee.getRole());
+        buffer.append(',');
+        appendQuoted(employee.getEmail());
+        buffer.append(',');
+        appendQuoted(employee.getPhoneNumber());
+        buffer.append(',');
+        if (employee.getActive() != null) {
+            buffer.append(employee.getActive() ? 't' : 'f');
+        }
+        buffer.append('\n');
+
+        if (buffer.length() >= FLUSH_THRESHOLD) {
+            flush();
+        }
+    }
+
+    void flush() throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        buffer.setLength(0);
+        sink.write(bytes, 0, bytes.length);
+    }
+
+    private void appendQuoted(String value) {
+        if (value == null) {
+            return;
+        }
+        buffer.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                buffer.append('"');
+            }
+            buffer.append(c);
+        }
+        buffer.append('"');
+    }
+
+    @FunctionalInterface
+    interface CopySink {
+        void write(byte[] bytes, int offset, int length) throws SQLException;
+    }
+}
@@ -0,0 +1,218 @@
+package com.vladdumbrava.excel_csv_reader.service.importer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.vladdumbrava.excel_csv_reader.config.ImportProperties;
+import com.vladdumbrava.excel_csv_reader.exception.ImportJobRejectedException;
+import com.vladdumbrava.excel_csv_reader.model.Employee;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeFingerprintRepository;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeFingerprintRepository.Fingerprint;
+import com.vladdumbrava.excel_csv_reader.service.cache.EmployeeCache;
+import com.vladdumbrava.excel_csv_reader.service.stats.EmployeeStats;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.EmployeeChunk;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.EmployeeChunkHandler;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.EmployeeFileReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Applies only what changed since the previous delta import. The fingerprints of
+ * that import are loaded into a {@link FingerprintIndex}; every parsed row is
+ * hashed and compared against it, and only new and changed rows go through the
+ * upsert statement in full batches, together with their new fingerprints in the
+ * same transaction.
+ * Once the whole file has been read, employees whose fingerprint was not seen are
+ * deleted. A rejected row still counts as seen, so a bad edit never deletes the
+ * employee; when the email of a rejected row is unknown nothing is deleted.
+ * <p>
+ * The comparison is against the previous file, not the table: edits made through
+ * the API to an employee whose row did not change in the file are kept. Delta
+ * imports run one at a time, since deletions depend on a complete pass.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DeltaEmployeeImporter {
+
+    private static final int DELETE_BATCH_SIZE = 10_000;
+
+    private final EmployeeFingerprintRepository fingerprintRepository;
+    private final UpsertEmployeeImporter upsertEmployeeImporter;
+    private final EmployeeRowValidator employeeRowValidator;
+    private final ImportProperties importProperties;
+    private final PlatformTransactionManager transactionManager;
+    private final ImportMetrics importMetrics;
+    private final EmployeeCache employeeCache;
+    private final EmployeeStats employeeStats;
+    private final ReentrantLock running = new ReentrantLock();
+
+    // Apply cost over every delta import since startup, so that runs applying only a
+    // handful of rows still get a stable estimate of the time they saved.
+    private final AtomicLong totalApplyNanos = new AtomicLong();
+    private final AtomicLong totalAppliedRows = new AtomicLong();
+
+    public void importEmployees(EmployeeFileReader reader, MultipartFile file, ImportReport report) {
+        if (!running.tryLock()) {
+            throw new ImportJobRejectedException("A delta import is already running, try again later.");
+        }
+        try {
+            new Delta(report).run(reader, file);
+        } finally {
+            running.unlock();
+        }
+    }
+
+    private final class Delta implements EmployeeChunkHandler {
+
+        private final ImportReport report;
+        private final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        private final int batchSize = importProperties.getChunkSize();
+        private final List<Employee> pending = new ArrayList<>();
+        private long[] pendingRowNumbers = new long[16];
+        private FingerprintIndex index;
+        private boolean rejectedUnknownEmail;
+        private long unchangedRows;
+        private long appliedRows;
+        private long applyNanos;
+
+        private Delta(ImportReport report) {
+            this.report = report;
+        }
+
+        private void run(EmployeeFileReader reader, MultipartFile file) {
+            index = new FingerprintIndex(fingerprintRepository.count());
+            fingerprintRepository.forEach(index::put);
+            log.info("Loaded {} fingerprints of the previous delta import.", index.size());
+
+            reader.read(file, importProperties.getChunkSize(), this);
+            applyPending();
+
+            long[] missing = rejectedUnknownEmail ? new long[0] : index.unseen();
+            if (rejectedUnknownEmail) {
+                log.warn("Delta import rejected rows without a known email; skipping deletion of missing employees.");
+            }
+            long deleted = 0;
+            for (int from = 0; from < missing.length; from += DELETE_BATCH_SIZE) {
+                long[] batch = Arrays.copyOfRange(missing, from, Math.min(missing.length, from + DELETE_BATCH_SIZE));
+                List<Long> deletedIds = importMetrics.observeWrite("delete", batch.length,
+                        () -> fingerprintRepository.deleteEmployees(batch));
+                employeeCache.evictAll(deletedIds);
+                deleted += deletedIds.size();
+            }
+            if (deleted > 0) {
+                employeeStats.markStale();
+            }
+            report.addDeltaCounts(0, 0, 0, deleted);
+
+            long totalNanos = totalApplyNanos.addAndGet(applyNanos);
+            long totalRows = totalAppliedRows.addAndGet(appliedRows);
+            long savedMillis = totalRows == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(unchangedRows * (totalNanos / totalRows));
+            report.setEstimatedMillisSaved(savedMillis);
+            log.info("Delta import applied {} rows, skipped {} unchanged rows (about {} ms saved) and deleted {}.",
+                    appliedRows, unchangedRows, savedMillis, deleted);
+        }
+
+        @Override
+        public void onChunk(EmployeeChunk chunk) {
+            report.addRowsRead(chunk.size());
+            long newRows = 0;
+            long changedRows = 0;
+            long unchanged = 0;
+            for (int i = 0; i < chunk.size(); i++) {
+                Employee employee = chunk.employee(i);
+                String reason = employeeRowValidator.validate(employee);
+                if (reason != null) {
+                    markRejected(employee.getEmail());
+                    report.reject(chunk.rowNumber(i), reason);
+                    continue;
+                }
+                switch (index.mark(RowFingerprint.emailHash(employee.getEmail()), RowFingerprint.rowHash(employee))) {
+                    case UNCHANGED -> unchanged++;
+                    case NEW -> {
+                        newRows++;
+                        addPending(chunk.rowNumber(i), employee);
+                    }
+                    case CHANGED -> {
+                        changedRows++;
+                        addPending(chunk.rowNumber(i), employee);
+                    }
+                }
+            }
+            unchangedRows += unchanged;
+            report.addRowsImported(unchanged);
+            report.addDeltaCounts(newRows, changedRows, unchanged, 0);
+            report.chunkCompleted();
+        }
+
+        @Override
+        public void onRejectedRow(long rowNumber, String reason) {
+            markRejected(null);
+            report.addRowsRead(1);
+            report.reject(rowNumber, reason);
+        }
+
+        /**
+         * Keeps the employee of a rejected row from being deleted. Rows the reader
+         * rejects carry no email, so they disable deletion for the whole run.
+         */
+        private void markRejected(String email) {
+            if (email == null) {
+                rejectedUnknownEmail = true;
+            } else {
+                index.markSeen(RowFingerprint.emailHash(email));
+            }
+        }
+
+        /**
+         * Changed rows are usually sparse, so they are collected across chunks and
+         * written in full batches rather than one small statement per parsed chunk.
+         */
+        private void addPending(long rowNumber, Employee employee) {
+            if (pending.size() == pendingRowNumbers.length) {
+                pendingRowNumbers = Arrays.copyOf(pendingRowNumbers, pendingRowNumbers.length * 2);
+            }
+            pendingRowNumbers[pending.size()] = rowNumber;
+            pending.add(employee);
+            if (pending.size() >= batchSize) {
+                applyPending();
+            }
+        }
+
+        private void applyPending() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            EmployeeChunk delta = new EmployeeChunk(List.copyOf(pending), Arrays.copyOf(pendingRowNumbers, pending.size()));
+            long start = System.nanoTime();
+            transactionTemplate.executeWithoutResult(status -> apply(delta));
+            applyNanos += System.nanoTime() - start;
+            appliedRows += delta.size();
+            pending.clear();
+        }
+
+        private void apply(EmployeeChunk delta) {
+            List<Fingerprint> fingerprints = upsertEmployeeImporter.upsertChunk(delta, report).stream()
+                    .map(row -> new Fingerprint(
+                            RowFingerprint.emailHash(row.employee().getEmail()),
+                            row.employee().getEmail(),
+                            RowFingerprint.rowHash(row.employee())))
+                    .toList();
+            if (!fingerprints.isEmpty()) {
+                importMetrics.observeWrite("fingerprint", fingerprints.size(), () -> {
+                    fingerprintRepository.saveAll(fingerprints);
+                    return null;
+                });
+            }
+        }
+    }
+}
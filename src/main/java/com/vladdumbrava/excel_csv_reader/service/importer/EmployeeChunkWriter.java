@@ -0,0 +1,85 @@
+package com.vladdumbrava.excel_csv_reader.service.importer;
+
+import java.util.List;
+
+import com.vladdumbrava.excel_csv_reader.model.Employee;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeRepository;
+import com.vladdumbrava.excel_csv_reader.service.stats.EmployeeStats;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.EmployeeChunk;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Inserts validated rows in one JDBC batch per chunk. Constraints the validator
+ * cannot see, such as an email that already exists, make the database reject the
+ * whole batch; the batch is then split in halves and each half written again, and
+ * small slices are written row by row to find the rows that fail. One bad row in a
+ * chunk of 1000 costs about 30 extra statements instead of 1000, while a chunk where
+ * every row fails costs little more than writing it row by row.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeChunkWriter {
+
+    private static final int ROW_BY_ROW_SIZE = 16;
+
+    private final EmployeeRepository employeeRepository;
+    private final ImportMetrics importMetrics;
+    private final EmployeeStats employeeStats;
+
+    /**
+     * @return the number of rows inserted; the others were rejected in the report
+     */
+    public int write(EmployeeChunk chunk, ImportReport report) {
+        if (report.getImportJobId() != null) {
+            for (Employee employee : chunk.employees()) {
+                employee.setImportJobId(report.getImportJobId());
+            }
+        }
+        return write(chunk, 0, chunk.size(), report);
+    }
+
+    private int write(EmployeeChunk chunk, int from, int to, ImportReport report) {
+        try {
+            return insert(chunk.employees().subList(from, to));
+        } catch (DataIntegrityViolationException e) {
+            if (from == 0 && to == chunk.size()) {
+                log.warn("Database rejected the batch starting at row {}, splitting it to find the failing rows.",
+                        chunk.rowNumber(0));
+            }
+        }
+        if (to - from <= ROW_BY_ROW_SIZE) {
+            return writeRowByRow(chunk, from, to, report);
+        }
+        int middle = (from + to) >>> 1;
+        return write(chunk, from, middle, report) + write(chunk, middle, to, report);
+    }
+
+    private int writeRowByRow(EmployeeChunk chunk, int from, int to, ImportReport report) {
+        int inserted = 0;
+        for (int i = from; i < to; i++) {
+            try {
+                inserted += insert(chunk.employees().subList(i, i + 1));
+            } catch (DataIntegrityViolationException e) {
+                report.reject(chunk.rowNumber(i), reason(e));
+            }
+        }
+        return inserted;
+    }
+
+    private int insert(List<Employee> employees) {
+        int inserted = importMetrics.observeWrite("insert", employees.size(),
+                () -> employeeRepository.batchInsert(employees));
+        employeeStats.added(employees);
+        return inserted;
+    }
+
+    private static String reason(DataIntegrityViolationException e) {
+        // Driver messages span several lines; the rejection file has one line per row.
+        return e.getMostSpecificCause().getMessage().replaceAll("\\s+", " ").trim();
+    }
+}
@@ -0,0 +1,74 @@
+package com.vladdumbrava.excel_csv_reader.service.importer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.vladdumbrava.excel_csv_reader.model.Employee;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.EmployeeChunk;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Checks a parsed employee against the NOT NULL constraints of the
+ * {@code employees} table, so invalid rows can be rejected individually instead of
+ * failing the statement they are batched with.
+ */
+@Component
+public class EmployeeRowValidator {
+
+    /**
+     * @return the reason the row is invalid, or {@code null} if it can be inserted
+     */
+    public String validate(Employee employee) {
+        if (employee.getName() == null) {
+            return "name is required";
+        }
+        if (employee.getDateOfBirth() == null) {
+            return "date_of_birth is required";
+        }
+        if (employee.getRole() == null) {
+            return "role is required";
+        }
+        if (employee.getEmail() == null) {
+            return "email is required";
+        }
+        if (employee.getActive() == null) {
+            return "active is required";
+        }
+        return null;
+    }
+
+    /**
+     * Rejects the invalid rows of a chunk in the report.
+     *
+     * @return the valid rows with their row numbers; the chunk itself if all of them are valid
+     */
+    public EmployeeChunk validate(EmployeeChunk chunk, ImportReport report) {
+        List<Employee> valid = null;
+        long[] rowNumbers = null;
+        int validCount = 0;
+        for (int i = 0; i < chunk.size(); i++) {
+            String reason = validate(chunk.employee(i));
+            if (reason == null) {
+                if (valid != null) {
+                    valid.add(chunk.employee(i));
+                    rowNumbers[validCount] = chunk.rowNumber(i);
+                }
+                validCount++;
+                continue;
+            }
+            report.reject(chunk.rowNumber(i), reason);
+            if (valid == null) {
+                // First invalid row: copy the valid rows seen so far.
+                valid = new ArrayList<>(chunk.employees().subList(0, i));
+                rowNumbers = new long[chunk.size()];
+                System.arraycopy(chunk.rowNumbers(), 0, rowNumbers, 0, i);
+            }
+        }
+        if (valid == null) {
+            return chunk;
+        }
+        return new EmployeeChunk(valid, Arrays.copyOf(rowNumbers, validCount));
+    }
+}
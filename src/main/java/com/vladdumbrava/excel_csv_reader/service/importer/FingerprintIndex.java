@@ -0,0 +1,138 @@
+package com.vladdumbrava.excel_csv_reader.service.importer;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from email hash to row hash held in two primitive arrays,
+ * about 32 bytes per employee, plus one bit per slot recording whether the email
+ * was seen in the current file. Key 0 marks an empty slot, so a hash of 0 is
+ * stored as {@link #ZERO_KEY} instead.
+ */
+final class FingerprintIndex {
+
+    enum Change {
+        NEW, CHANGED, UNCHANGED
+    }
+
+    private static final long ZERO_KEY = 0x9e3779b97f4a7c15L;
+    private static final double MAX_LOAD = 0.6;
+
+    private long[] keys;
+    private long[] values;
+    private long[] seen;
+    private int size;
+    private int mask;
+
+    FingerprintIndex(int expectedSize) {
+        int capacity = Integer.highestOneBit((int) Math.max(16, expectedSize / MAX_LOAD) - 1) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * Loads a fingerprint of the previous import.
+     */
+    void put(long emailHash, long rowHash) {
+        insert(key(emailHash), rowHash, false);
+    }
+
+    /**
+     * Records that the row is in the current file and stores its new hash.
+     *
+     * @return how the row differs from the previous import
+     */
+    Change mark(long emailHash, long rowHash) {
+        long key = key(emailHash);
+        int slot = find(key);
+        if (keys[slot] == 0) {
+            insert(key, rowHash, true);
+            return Change.NEW;
+        }
+        seen[slot >>> 6] |= 1L << slot;
+        long previous = values[slot];
+        values[slot] = rowHash;
+        return previous == rowHash ? Change.UNCHANGED : Change.CHANGED;
+    }
+
+    /**
+     * Records that the email is in the current file without touching its stored
+     * hash, for rows that were rejected. Unknown emails are ignored.
+     */
+    void markSeen(long emailHash) {
+        int slot = find(key(emailHash));
+        if (keys[slot] != 0) {
+            seen[slot >>> 6] |= 1L << slot;
+        }
+    }
+
+    /**
+     * @return the email hashes loaded from the previous import that were not marked
+     */
+    long[] unseen() {
+        long[] unseen = new long[16];
+        int count = 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != 0 && (seen[slot >>> 6] & (1L << slot)) == 0) {
+                if (count == unseen.length) {
+                    unseen = Arrays.copyOf(unseen, count * 2);
+                }
+                unseen[count++] = keys[slot] == ZERO_KEY ? 0 : keys[slot];
+            }
+        }
+        return Arrays.copyOf(unseen, count);
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void insert(long key, long value, boolean markSeen) {
+        if (size + 1 > keys.length * MAX_LOAD) {
+            grow();
+        }
+        int slot = find(key);
+        if (keys[slot] == 0) {
+            keys[slot] = key;
+            size++;
+        }
+        values[slot] = value;
+        if (markSeen) {
+            seen[slot >>> 6] |= 1L << slot;
+        }
+    }
+
+    private int find(long key) {
+        int slot = (int) key & mask;
+        while (keys[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        long[] oldSeen = seen;
+        allocate(oldKeys.length * 2);
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] != 0) {
+                int newSlot = find(oldKeys[slot]);
+                keys[newSlot] = oldKeys[slot];
+                values[newSlot] = oldValues[slot];
+                if ((oldSeen[slot >>> 6] & (1L << slot)) != 0) {
+                    seen[newSlot >>> 6] |= 1L << newSlot;
+                }
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        seen = new long[Math.max(1, capacity >>> 6)];
+        mask = capacity - 1;
+    }
+
+    private static long key(long emailHash) {
+        return emailHash == 0 ? ZERO_KEY : emailHash;
+    }
+}
@@ -0,0 +1,157 @@
+package com.vladdumbrava.excel_csv_reader.service.importer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import com.vladdumbrava.excel_csv_reader.model.ImportMode;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.EmployeeChunk;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.EmployeeChunkHandler;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.EmployeeFileReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Meters and observations of the import path. Each stage is an {@link Observation}:
+ * Actuator turns them into timers, and into nested spans once a tracing bridge is
+ * on the classpath. Parse time is recorded separately, since the reader observation
+ * also contains the time its handler spends writing to the database.
+ * <ul>
+ *     <li>{@code employees.import}: a whole import, by mode</li>
+ *     <li>{@code employees.import.reader.selection}: choosing the reader for a file</li>
+ *     <li>{@code employees.import.read}: a reader run, handler included, by reader</li>
+ *     <li>{@code employees.import.parse}: a reader run without its handler, by reader</li>
+ *     <li>{@code employees.import.parse.throughput}: rows parsed per second, by reader</li>
+ *     <li>{@code employees.import.file.size}: bytes of imported files, by reader</li>
+ *     <li>{@code employees.import.write} and {@code employees.import.write.rows}: latency
+ *     and size of each database batch, by operation</li>
+ *     <li>{@code employees.import.rows}: rows read, imported and rejected, by mode</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class ImportMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final ObservationRegistry observationRegistry;
+
+    public void observeImport(ImportMode mode, Runnable importer) {
+        Observation.createNotStarted("employees.import", observationRegistry)
+                .lowCardinalityKeyValue("mode", mode.name())
+                .observe(importer);
+    }
+
+    public EmployeeFileReader observeReaderSelection(Supplier<EmployeeFileReader> selection) {
+        return Observation.createNotStarted("employees.import.reader.selection", observationRegistry)
+                .observe(selection);
+    }
+
+    /**
+     * Wraps a reader so that every run records the file size, the parse time and
+     * the parse throughput of that reader implementation.
+     */
+    public EmployeeFileReader instrument(EmployeeFileReader reader) {
+        String name = reader.getClass().getSimpleName();
+        return (file, chunkSize, handler) -> read(reader, name, file, chunkSize, handler);
+    }
+
+    /**
+     * Times one database batch of an import.
+     *
+     * @param operation what the batch does, such as {@code insert} or {@code upsert}
+     */
+    public <T> T observeWrite(String operation, long rows, Supplier<T> write) {
+        DistributionSummary.builder("employees.import.write.rows")
+                .description("Rows per database batch of an import")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(rows);
+        return Observation.createNotStarted("employees.import.write", observationRegistry)
+                .lowCardinalityKeyValue("operation", operation)
+                .observe(write);
+    }
+
+    public void recordRows(ImportReport report) {
+        rows(report.getMode(), "read").increment(report.getRowsRead());
+        rows(report.getMode(), "imported").increment(report.getRowsImported());
+        rows(report.getMode(), "rejected").increment(report.getRowsRejected());
+    }
+
+    private long read(EmployeeFileReader reader, String name, MultipartFile file, int chunkSize,
+                      EmployeeChunkHandler handler) {
+        DistributionSummary.builder("employees.import.file.size")
+                .description("Size of imported files")
+                .baseUnit("bytes")
+                .tag("reader", name)
+                .register(meterRegistry)
+                .record(file.getSize());
+
+        TimedHandler timedHandler = new TimedHandler(handler);
+        long start = System.nanoTime();
+        Long rows = Observation.createNotStarted("employees.import.read", observationRegistry)
+                .lowCardinalityKeyValue("reader", name)
+                .observe(() -> reader.read(file, chunkSize, timedHandler));
+        long parseNanos = Math.max(0, System.nanoTime() - start - timedHandler.handlerNanos.get());
+
+        Timer.builder("employees.import.parse")
+                .description("Time readers spend parsing, excluding the time their handler takes")
+                .tag("reader", name)
+                .register(meterRegistry)
+                .record(parseNanos, TimeUnit.NANOSECONDS);
+        if (parseNanos > 0) {
+            DistributionSummary.builder("employees.import.parse.throughput")
+                    .description("Rows parsed per second of parse time")
+                    .baseUnit("rows")
+                    .tag("reader", name)
+                    .register(meterRegistry)
+                    .record(rows * (double) TimeUnit.SECONDS.toNanos(1) / parseNanos);
+        }
+        return rows;
+    }
+
+    private Counter rows(ImportMode mode, String outcome) {
+        return Counter.builder("employees.import.rows")
+                .description("Rows handled by imports")
+                .tag("mode", mode.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static final class TimedHandler implements EmployeeChunkHandler {
+
+        private final EmployeeChunkHandler delegate;
+        private final AtomicLong handlerNanos = new AtomicLong();
+
+        private TimedHandler(EmployeeChunkHandler delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void onChunk(EmployeeChunk chunk) {
+            long start = System.nanoTime();
+            try {
+                delegate.onChunk(chunk);
+            } finally {
+                handlerNanos.addAndGet(System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public void onRejectedRow(long rowNumber, String reason) {
+            long start = System.nanoTime();
+            try {
+                delegate.onRejectedRow(rowNumber, reason);
+            } finally {
+                handlerNanos.addAndGet(System.nanoTime() - start);
+            }
+        }
+    }
+}
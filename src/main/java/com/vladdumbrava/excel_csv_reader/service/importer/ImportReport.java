@@ -0,0 +1,172 @@
+package com.vladdumbrava.excel_csv_reader.service.importer;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import com.vladdumbrava.excel_csv_reader.dto.DeltaStatsDTO;
+import com.vladdumbrava.excel_csv_reader.dto.ImportResultDTO;
+import com.vladdumbrava.excel_csv_reader.dto.RowRejectionDTO;
+import com.vladdumbrava.excel_csv_reader.dto.StageStatsDTO;
+import com.vladdumbrava.excel_csv_reader.dto.UpsertStatsDTO;
+import com.vladdumbrava.excel_csv_reader.model.ImportMode;
+
+/**
+ * Running totals of one import. Counters are exact, while only the first
+ * {@code maxReportedRejections} rejections are kept for the result. When a
+ * {@link RejectionFile} is attached, every rejection is also written there.
+ */
+public class ImportReport {
+
+    private final ImportMode mode;
+    private final int maxReportedRejections;
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong rowsImported = new AtomicLong();
+    private final AtomicLong rowsRejected = new AtomicLong();
+    private final AtomicLong rowsInserted = new AtomicLong();
+    private final AtomicLong rowsUpdated = new AtomicLong();
+    private final AtomicLong rowsUnchanged = new AtomicLong();
+    private final AtomicLong deltaNew = new AtomicLong();
+    private final AtomicLong deltaChanged = new AtomicLong();
+    private final AtomicLong deltaUnchanged = new AtomicLong();
+    private final AtomicLong deltaDeleted = new AtomicLong();
+    private volatile long estimatedMillisSaved;
+    private final Queue<RowRejectionDTO> rejections = new ConcurrentLinkedQueue<>();
+    private final Queue<StageStatsDTO> stages = new ConcurrentLinkedQueue<>();
+    private volatile RejectionFile rejectionFile;
+    private volatile UUID importJobId;
+    private volatile Consumer<ImportReport> progressListener = report -> {
+    };
+
+    public ImportReport(ImportMode mode, int maxReportedRejections) {
+        this.mode = mode;
+        this.maxReportedRejections = maxReportedRejections;
+    }
+
+    public void addRowsRead(long rows) {
+        rowsRead.addAndGet(rows);
+    }
+
+    public void addRowsImported(long rows) {
+        rowsImported.addAndGet(rows);
+    }
+
+    /**
+     * Breakdown of the rows written by {@link ImportMode#UPSERT} and {@link ImportMode#DELTA}.
+     */
+    public void addUpsertCounts(long inserted, long updated, long unchanged) {
+        rowsInserted.addAndGet(inserted);
+        rowsUpdated.addAndGet(updated);
+        rowsUnchanged.addAndGet(unchanged);
+    }
+
+    /**
+     * Breakdown of the file against the previous import for {@link ImportMode#DELTA}.
+     */
+    public void addDeltaCounts(long newRows, long changedRows, long unchangedRows, long deletedRows) {
+        deltaNew.addAndGet(newRows);
+        deltaChanged.addAndGet(changedRows);
+        deltaUnchanged.addAndGet(unchangedRows);
+        deltaDeleted.addAndGet(deletedRows);
+    }
+
+    public void setEstimatedMillisSaved(long estimatedMillisSaved) {
+        this.estimatedMillisSaved = estimatedMillisSaved;
+    }
+
+    public void reject(long rowNumber, String reason) {
+        if (rowsRejected.incrementAndGet() <= maxReportedRejections) {
+            rejections.add(new RowRejectionDTO(rowNumber, reason));
+        }
+        if (rejectionFile != null) {
+            rejectionFile.append(rowNumber, reason);
+        }
+    }
+
+    /**
+     * Set for asynchronous imports; employees inserted by the import are tagged with it.
+     */
+    public void setImportJobId(UUID importJobId) {
+        this.importJobId = importJobId;
+    }
+
+    public void setRejectionFile(RejectionFile rejectionFile) {
+        this.rejectionFile = rejectionFile;
+    }
+
+    /**
+     * Finishes the rejection file, if any. Must be called before {@link #toResult()}
+     * for the result to point to it.
+     */
+    public void closeRejectionFile() {
+        if (rejectionFile != null) {
+            rejectionFile.close();
+        }
+    }
+
+    /**
+     * Takes over the counters of an earlier import of the same file, for callers that
+     * follow progress through this report.
+     */
+    public void restore(ImportResultDTO result) {
+        rowsRead.addAndGet(result.rowsRead());
+        rowsImported.addAndGet(result.rowsImported());
+        rowsRejected.addAndGet(result.rowsRejected());
+    }
+
+    public void addStageStats(StageStatsDTO stageStats) {
+        stages.add(stageStats);
+    }
+
+    public void setProgressListener(Consumer<ImportReport> progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * Called by importers after each chunk so that progress can be published while
+     * the import is still running.
+     */
+    public void chunkCompleted() {
+        progressListener.accept(this);
+    }
+
+    public ImportMode getMode() {
+        return mode;
+    }
+
+    public UUID getImportJobId() {
+        return importJobId;
+    }
+
+    public long getRowsRead() {
+        return rowsRead.get();
+    }
+
+    public long getRowsImported() {
+        return rowsImported.get();
+    }
+
+    public long getRowsRejected() {
+        return rowsRejected.get();
+    }
+
+    public ImportResultDTO toResult() {
+        List<RowRejectionDTO> sorted = rejections.stream()
+                .sorted(Comparator.comparingLong(RowRejectionDTO::rowNumber))
+                .toList();
+        UpsertStatsDTO upsert = mode == ImportMode.UPSERT || mode == ImportMode.DELTA
+                ? new UpsertStatsDTO(rowsInserted.get(), rowsUpdated.get(), rowsUnchanged.get())
+                : null;
+        DeltaStatsDTO delta = mode == ImportMode.DELTA
+                ? new DeltaStatsDTO(deltaNew.get(), deltaChanged.get(), deltaUnchanged.get(), deltaDeleted.get(),
+                        estimatedMillisSaved)
+                : null;
+        UUID rejectionFileId = rejectionFile != null && rejectionFile.isComplete() ? rejectionFile.getId() : null;
+        return new ImportResultDTO(mode, rowsRead.get(), rowsImported.get(), rowsRejected.get(), sorted,
+                List.copyOf(stages), upsert, delta, rejectionFileId);
+    }
+}
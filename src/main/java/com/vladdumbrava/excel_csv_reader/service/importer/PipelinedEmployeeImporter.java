@@ -0,0 +1,258 @@
+package com.vladdumbrava.excel_csv_reader.service.importer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.vladdumbrava.excel_csv_reader.config.ImportProperties;
+import com.vladdumbrava.excel_csv_reader.dto.StageStatsDTO;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.EmployeeChunk;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.EmployeeChunkHandler;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.EmployeeFileReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Overlaps parsing, validation and persistence. The reader runs on the calling
+ * thread and feeds a bounded queue of parsed chunks, validator workers feed a
+ * second bounded queue, and writer workers insert each chunk in its own
+ * transaction. A full queue blocks the stage in front of it, so a fast parser
+ * cannot get more than {@code queueCapacity} chunks ahead of the database.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PipelinedEmployeeImporter {
+
+    private static final long POLL_MILLIS = 100;
+
+    private final EmployeeChunkWriter employeeChunkWriter;
+    private final EmployeeRowValidator employeeRowValidator;
+    private final ImportProperties importProperties;
+    private final Environment environment;
+
+    public void importEmployees(EmployeeFileReader reader, MultipartFile file, ImportReport report) {
+        new Pipeline(importProperties.getPipeline(), report).run(reader, file);
+    }
+
+    private final class Pipeline {
+
+        private final EmployeeChunk endOfParsedChunks = new EmployeeChunk(new ArrayList<>(0), new long[0]);
+        private final EmployeeChunk endOfValidChunks = new EmployeeChunk(new ArrayList<>(0), new long[0]);
+
+        private final ImportProperties.Pipeline config;
+        private final ImportReport report;
+        private final BlockingQueue<EmployeeChunk> parsedChunks;
+        private final BlockingQueue<EmployeeChunk> validChunks;
+        private final StageStats readerStats = new StageStats("reader", 1);
+        private final StageStats validatorStats;
+        private final StageStats writerStats;
+        private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        private Pipeline(ImportProperties.Pipeline config, ImportReport report) {
+            this.config = config;
+            this.report = report;
+            this.parsedChunks = new ArrayBlockingQueue<>(config.getQueueCapacity());
+            this.validChunks = new ArrayBlockingQueue<>(config.getQueueCapacity());
+            this.validatorStats = new StageStats("validator", config.getValidatorThreads());
+            this.writerStats = new StageStats("writer", config.getWriterThreads());
+        }
+
+        private void run(EmployeeFileReader reader, MultipartFile file) {
+            int validators = config.getValidatorThreads();
+            int writers = config.getWriterThreads();
+            CountDownLatch validatorsDone = new CountDownLatch(validators);
+            CountDownLatch writersDone = new CountDownLatch(writers);
+            ExecutorService workers = Executors.newFixedThreadPool(validators + writers, namedThreads());
+            long start = System.nanoTime();
+            try {
+                for (int i = 0; i < validators; i++) {
+                    workers.execute(() -> runWorker(this::validateChunks, validatorsDone));
+                }
+                for (int i = 0; i < writers; i++) {
+                    workers.execute(() -> runWorker(this::writeChunks, writersDone));
+                }
+
+                try {
+                    readChunks(reader, file);
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                }
+
+                for (int i = 0; i < validators; i++) {
+                    put(parsedChunks, endOfParsedChunks);
+                }
+                await(validatorsDone);
+                for (int i = 0; i < writers; i++) {
+                    put(validChunks, endOfValidChunks);
+                }
+                await(writersDone);
+            } finally {
+                workers.shutdownNow();
+                long wallNanos = System.nanoTime() - start;
+                for (StageStats stats : List.of(readerStats, validatorStats, writerStats)) {
+                    StageStatsDTO dto = stats.toDto(wallNanos);
+                    log.info("Pipeline stage {}: {} workers, {} chunks, {} ms busy, {} ms waiting, utilization {}",
+                            dto.stage(), dto.workers(), dto.chunks(), dto.busyMillis(), dto.waitMillis(),
+                            String.format("%.2f", dto.utilization()));
+                    report.addStageStats(dto);
+                }
+            }
+
+            RuntimeException error = failure.get();
+            if (error != null) {
+                throw error;
+            }
+        }
+
+        private void readChunks(EmployeeFileReader reader, MultipartFile file) {
+            long[] lastHandOff = {System.nanoTime()};
+            reader.read(file, importProperties.getChunkSize(), new EmployeeChunkHandler() {
+                @Override
+                public void onChunk(EmployeeChunk chunk) {
+                    long parsed = System.nanoTime();
+                    readerStats.busy(parsed - lastHandOff[0]);
+                    report.addRowsRead(chunk.size());
+                    if (!put(parsedChunks, chunk)) {
+                        throw new PipelineAbortedException();
+                    }
+                    lastHandOff[0] = System.nanoTime();
+                    readerStats.waited(lastHandOff[0] - parsed);
+                }
+
+                @Override
+                public void onRejectedRow(long rowNumber, String reason) {
+                    report.addRowsRead(1);
+                    report.reject(rowNumber, reason);
+                }
+            });
+        }
+
+        private void validateChunks() {
+            while (true) {
+                long waitStart = System.nanoTime();
+                EmployeeChunk chunk = take(parsedChunks);
+                long start = System.nanoTime();
+                validatorStats.waited(start - waitStart);
+                if (chunk == null || chunk == endOfParsedChunks) {
+                    return;
+                }
+
+                EmployeeChunk valid = employeeRowValidator.validate(chunk, report);
+                validatorStats.busy(System.nanoTime() - start);
+
+                if (valid.size() > 0) {
+                    long putStart = System.nanoTime();
+                    boolean accepted = put(validChunks, valid);
+                    validatorStats.waited(System.nanoTime() - putStart);
+                    if (!accepted) {
+                        return;
+                    }
+                }
+            }
+        }
+
+        private void writeChunks() {
+            while (true) {
+                long waitStart = System.nanoTime();
+                EmployeeChunk chunk = take(validChunks);
+                long start = System.nanoTime();
+                writerStats.waited(start - waitStart);
+                if (chunk == null || chunk == endOfValidChunks) {
+                    return;
+                }
+
+                report.addRowsImported(employeeChunkWriter.write(chunk, report));
+                writerStats.busy(System.nanoTime() - start);
+                report.chunkCompleted();
+            }
+        }
+
+        private void runWorker(Runnable work, CountDownLatch done) {
+            try {
+                work.run();
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                done.countDown();
+            }
+        }
+
+        /**
+         * Blocks until the queue accepts the item.
+         *
+         * @return {@code false} if another stage failed first and the item was dropped
+         */
+        private <T> boolean put(BlockingQueue<T> queue, T item) {
+            try {
+                while (!queue.offer(item, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    if (failure.get() != null) {
+                        return false;
+                    }
+                }
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure.compareAndSet(null, new PipelineAbortedException());
+                return false;
+            }
+        }
+
+        /**
+         * @return the next item, or {@code null} once another stage has failed
+         */
+        private <T> T take(BlockingQueue<T> queue) {
+            try {
+                while (true) {
+                    T item = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (item != null) {
+                        return item;
+                    }
+                    if (failure.get() != null) {
+                        return null;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+
+        private void await(CountDownLatch latch) {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure.compareAndSet(null, new PipelineAbortedException());
+            }
+        }
+
+        private ThreadFactory namedThreads() {
+            if (Threading.VIRTUAL.isActive(environment)) {
+                return Thread.ofVirtual().name("employee-import-pipeline-", 1).factory();
+            }
+            AtomicInteger counter = new AtomicInteger();
+            return runnable -> new Thread(runnable, "employee-import-pipeline-" + counter.incrementAndGet());
+        }
+    }
+
+    private static final class PipelineAbortedException extends RuntimeException {
+
+        private PipelineAbortedException() {
+            super("Import pipeline aborted");
+        }
+    }
+}
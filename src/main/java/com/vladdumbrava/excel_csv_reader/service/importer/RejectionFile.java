@@ -0,0 +1,124 @@
+package com.vladdumbrava.excel_csv_reader.service.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+import lombok.extern.slf4j.Slf4j;
+
+import static com.vladdumbrava.excel_csv_reader.service.utils.writer.CSVEmployeeFileWriter.writeField;
+
+/**
+ * Every rejected row of one import, appended to a CSV file on disk as it is
+ * rejected. {@link ImportReport} only keeps the first rejections in memory; this
+ * file holds all of them however many rows fail. It is created on the first
+ * rejection and only appears under its final name once closed, so a download never
+ * sees a half-written file.
+ * <p>
+ * A write failure is logged and stops further writes without failing the import.
+ */
+@Slf4j
+public class RejectionFile implements Closeable {
+
+    private final UUID id;
+    private final Path path;
+    private final Path partialPath;
+    // Not synchronized: a virtual thread blocked on disk I/O inside a monitor would pin its carrier.
+    private final ReentrantLock lock = new ReentrantLock();
+    private Writer writer;
+    private boolean failed;
+    private boolean closed;
+
+    public RejectionFile(UUID id, Path path) {
+        this.id = id;
+        this.path = path;
+        this.partialPath = path.resolveSibling(path.getFileName() + ".part");
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    void append(long rowNumber, String reason) {
+        lock.lock();
+        try {
+            appendLocked(rowNumber, reason);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void appendLocked(long rowNumber, String reason) {
+        if (failed || closed) {
+            return;
+        }
+        try {
+            if (writer == null) {
+                Files.createDirectories(partialPath.getParent());
+                writer = Files.newBufferedWriter(partialPath, StandardCharsets.UTF_8);
+                writer.write("row_number,reason\r\n");
+            }
+            writer.write(Long.toString(rowNumber));
+            writer.write(',');
+            writeField(writer, reason);
+            writer.write("\r\n");
+        } catch (IOException e) {
+            log.warn("Could not write rejection file {}; further rejections are only counted.", partialPath, e);
+            failed = true;
+        }
+    }
+
+    /**
+     * @return whether the file holds every rejection of the import and can be downloaded
+     */
+    boolean isComplete() {
+        lock.lock();
+        try {
+            return closed && writer != null && !failed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closeLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void closeLocked() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+            if (!failed) {
+                Files.move(partialPath, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.warn("Could not finish rejection file {}", path, e);
+            failed = true;
+        }
+        if (failed) {
+            try {
+                Files.deleteIfExists(partialPath);
+            } catch (IOException e) {
+                log.warn("Could not delete partial rejection file {}", partialPath, e);
+            }
+        }
+    }
+}
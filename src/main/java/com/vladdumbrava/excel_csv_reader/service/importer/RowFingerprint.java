@@ -0,0 +1,53 @@
+package com.vladdumbrava.excel_csv_reader.service.importer;
+
+import com.vladdumbrava.excel_csv_reader.model.Employee;
+import lombok.experimental.UtilityClass;
+
+/**
+ * 64-bit FNV-1a over the characters of each field, finished with the MurmurHash3
+ * mixer so that the low bits are usable as a hash table index. Fields are separated
+ * by a character that cannot occur in a parsed value and {@code null} hashes
+ * differently from an empty string.
+ */
+@UtilityClass
+public class RowFingerprint {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final char SEPARATOR = '\u001f';
+    private static final char NULL = '\u0000';
+
+    public long emailHash(String email) {
+        return mix(hash(FNV_OFFSET, email));
+    }
+
+    long rowHash(Employee employee) {
+        long h = FNV_OFFSET;
+        h = hash(h, employee.getName());
+        h = hash(h, employee.getDateOfBirth() == null ? null : employee.getDateOfBirth().toString());
+        h = hash(h, employee.getGender() == null ? null : employee.getGender().name());
+        h = hash(h, employee.getRole());
+        h = hash(h, employee.getPhoneNumber());
+        h = hash(h, employee.getActive() == null ? null : employee.getActive().toString());
+        return mix(h);
+    }
+
+    private long hash(long h, String value) {
+        if (value == null) {
+            return (h ^ NULL) * FNV_PRIME;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            h = (h ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return (h ^ SEPARATOR) * FNV_PRIME;
+    }
+
+    private long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,46 @@
+package com.vladdumbrava.excel_csv_reader.service.importer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.vladdumbrava.excel_csv_reader.dto.StageStatsDTO;
+
+/**
+ * Time a pipeline stage spent working versus waiting on its queues. Utilization
+ * close to 1 marks the bottleneck; a low value means the stage has too many workers.
+ */
+final class StageStats {
+
+    private final String stage;
+    private final int workers;
+    private final LongAdder chunks = new LongAdder();
+    private final LongAdder busyNanos = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+
+    StageStats(String stage, int workers) {
+        this.stage = stage;
+        this.workers = workers;
+    }
+
+    void busy(long nanos) {
+        chunks.increment();
+        busyNanos.add(nanos);
+    }
+
+    void waited(long nanos) {
+        waitNanos.add(nanos);
+    }
+
+    StageStatsDTO toDto(long wallNanos) {
+        long busy = busyNanos.sum();
+        double utilization = wallNanos <= 0 ? 0 : (double) busy / ((double) wallNanos * workers);
+        return new StageStatsDTO(
+                stage,
+                workers,
+                chunks.sum(),
+                TimeUnit.NANOSECONDS.toMillis(busy),
+                TimeUnit.NANOSECONDS.toMillis(waitNanos.sum()),
+                Math.min(1.0, utilization)
+        );
+    }
+}
@@ -0,0 +1,243 @@
+package com.vladdumbrava.excel_csv_reader.service.importer;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.vladdumbrava.excel_csv_reader.config.ImportProperties;
+import com.vladdumbrava.excel_csv_reader.model.Employee;
+import com.vladdumbrava.excel_csv_reader.service.cache.EmployeeCache;
+import com.vladdumbrava.excel_csv_reader.service.stats.EmployeeStats;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.EmployeeChunk;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.EmployeeChunkHandler;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.EmployeeFileReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Inserts new employees and updates existing ones, matched on email, with one
+ * {@code INSERT ... ON CONFLICT (email) DO UPDATE} per chunk. The update only fires
+ * when a column actually differs, so re-importing an unchanged file writes nothing.
+ * Each chunk commits on its own; an interrupted import can simply be run again.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UpsertEmployeeImporter {
+
+    // The whole chunk is bound as one array per column. Rows whose phone number
+    // belongs to another employee would violate the unique constraint and abort the
+    // statement, so they are left out and returned for rejection. xmax is 0 only for
+    // freshly inserted row versions, which tells inserts and updates apart. The import
+    // job id is only written on insert, so updated rows keep the job that created them.
+    private static final String UPSERT_SQL = """
+            WITH input AS (
+                SELECT *
+                FROM unnest(?::bigint[], ?::text[], ?::date[], ?::text[], ?::text[], ?::text[], ?::text[], ?::boolean[])
+                    AS t(row_number, name, date_of_birth, gender, role, email, phone_number, active)
+            ),
+            phone_conflicts AS (
+                SELECT i.row_number, i.phone_number
+                FROM input i
+                WHERE i.phone_number IS NOT NULL
+                  AND EXISTS (SELECT 1 FROM employees e WHERE e.phone_number = i.phone_number AND e.email <> i.email)
+            ),
+            upserted AS (
+                INSERT INTO employees AS e (name, date_of_birth, gender, role, email, phone_number, active, import_job_id)
+                SELECT i.name, i.date_of_birth, i.gender, i.role, i.email, i.phone_number, i.active, ?::uuid
+                FROM input i
+                WHERE NOT EXISTS (SELECT 1 FROM phone_conflicts c WHERE c.row_number = i.row_number)
+                ORDER BY i.row_number
+                ON CONFLICT (email) DO UPDATE
+                SET name = EXCLUDED.name,
+                    date_of_birth = EXCLUDED.date_of_birth,
+                    gender = EXCLUDED.gender,
+                    role = EXCLUDED.role,
+                    phone_number = EXCLUDED.phone_number,
+                    active = EXCLUDED.active
+                WHERE (e.name, e.date_of_birth, e.gender, e.role, e.phone_number, e.active)
+                      IS DISTINCT FROM
+                      (EXCLUDED.name, EXCLUDED.date_of_birth, EXCLUDED.gender, EXCLUDED.role,
+                       EXCLUDED.phone_number, EXCLUDED.active)
+                RETURNING (xmax = 0) AS inserted, e.employee_id
+            )
+            SELECT NULL::bigint AS row_number, NULL::text AS phone_number,
+                   count(*) FILTER (WHERE inserted) AS inserted,
+                   count(*) FILTER (WHERE NOT inserted) AS updated,
+                   array_agg(employee_id) FILTER (WHERE NOT inserted) AS updated_ids
+            FROM upserted
+            UNION ALL
+            SELECT row_number, phone_number, 0, 0, NULL
+            FROM phone_conflicts""";
+
+    private static final ResultSetExtractor<UpsertResult> RESULT_EXTRACTOR = rs -> {
+        long inserted = 0;
+        long updated = 0;
+        List<Long> updatedIds = List.of();
+        Map<Long, String> phoneConflicts = new LinkedHashMap<>();
+        while (rs.next()) {
+            long rowNumber = rs.getLong("row_number");
+            if (rs.wasNull()) {
+                inserted = rs.getLong("inserted");
+                updated = rs.getLong("updated");
+                Array ids = rs.getArray("updated_ids");
+                if (ids != null) {
+                    updatedIds = List.of((Long[]) ids.getArray());
+                }
+            } else {
+                phoneConflicts.put(rowNumber, rs.getString("phone_number"));
+            }
+        }
+        return new UpsertResult(inserted, updated, updatedIds, phoneConflicts);
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EmployeeRowValidator employeeRowValidator;
+    private final ImportProperties importProperties;
+    private final ImportMetrics importMetrics;
+    private final EmployeeCache employeeCache;
+    private final EmployeeStats employeeStats;
+
+    public void importEmployees(EmployeeFileReader reader, MultipartFile file, ImportReport report) {
+        reader.read(file, importProperties.getChunkSize(), new EmployeeChunkHandler() {
+            @Override
+            public void onChunk(EmployeeChunk chunk) {
+                report.addRowsRead(chunk.size());
+                upsertChunk(chunk, report);
+                report.chunkCompleted();
+            }
+
+            @Override
+            public void onRejectedRow(long rowNumber, String reason) {
+                report.addRowsRead(1);
+                report.reject(rowNumber, reason);
+            }
+        });
+    }
+
+    /**
+     * Upserts one chunk, rejecting the rows that could not be written.
+     *
+     * @return the rows whose values are now stored in {@code employees}
+     */
+    List<Row> upsertChunk(EmployeeChunk chunk, ImportReport report) {
+        List<Row> rows = prepare(chunk, report);
+        if (rows.isEmpty()) {
+            return rows;
+        }
+
+        UpsertResult result = importMetrics.observeWrite("upsert", rows.size(),
+                () -> jdbcTemplate.query(connection -> bind(connection, rows, report.getImportJobId()), RESULT_EXTRACTOR));
+        employeeCache.evictAll(result.updatedIds());
+        if (result.inserted() + result.updated() > 0) {
+            // Updated rows do not return their previous values, so recount instead.
+            employeeStats.markStale();
+        }
+        result.phoneConflicts().forEach((rowNumber, phoneNumber) ->
+                report.reject(rowNumber, "phone_number already exists: " + phoneNumber));
+        long unchanged = rows.size() - result.phoneConflicts().size() - result.inserted() - result.updated();
+        report.addUpsertCounts(result.inserted(), result.updated(), unchanged);
+        report.addRowsImported(result.inserted() + result.updated() + unchanged);
+
+        if (result.phoneConflicts().isEmpty()) {
+            return rows;
+        }
+        return rows.stream()
+                .filter(row -> !result.phoneConflicts().containsKey(row.rowNumber()))
+                .toList();
+    }
+
+    /**
+     * Drops rows the statement cannot take: invalid rows, all but the last row of an
+     * email repeated within the chunk (ON CONFLICT may not touch a row twice), and
+     * later rows reusing a phone number already taken by another email in the chunk.
+     */
+    List<Row> prepare(EmployeeChunk chunk, ImportReport report) {
+        Map<String, Row> byEmail = new LinkedHashMap<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            Employee employee = chunk.employee(i);
+            long rowNumber = chunk.rowNumber(i);
+            String reason = employeeRowValidator.validate(employee);
+            if (reason != null) {
+                report.reject(rowNumber, reason);
+                continue;
+            }
+            Row superseded = byEmail.put(employee.getEmail(), new Row(rowNumber, employee));
+            if (superseded != null) {
+                report.reject(superseded.rowNumber(), "duplicate email in file, superseded by row " + rowNumber);
+            }
+        }
+
+        List<Row> candidates = new ArrayList<>(byEmail.values());
+        candidates.sort(Comparator.comparingLong(Row::rowNumber));
+        List<Row> rows = new ArrayList<>(candidates.size());
+        Map<String, Long> phoneRows = new HashMap<>();
+        for (Row row : candidates) {
+            String phoneNumber = row.employee().getPhoneNumber();
+            Long firstRow = phoneNumber == null ? null : phoneRows.putIfAbsent(phoneNumber, row.rowNumber());
+            if (firstRow != null) {
+                report.reject(row.rowNumber(), "duplicate phone_number in file, first seen on row " + firstRow);
+                continue;
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static PreparedStatement bind(Connection connection, List<Row> rows, UUID importJobId)
+            throws SQLException {
+        int size = rows.size();
+        Long[] rowNumbers = new Long[size];
+        String[] names = new String[size];
+        Date[] datesOfBirth = new Date[size];
+        String[] genders = new String[size];
+        String[] roles = new String[size];
+        String[] emails = new String[size];
+        String[] phoneNumbers = new String[size];
+        Boolean[] active = new Boolean[size];
+        for (int i = 0; i < size; i++) {
+            Employee employee = rows.get(i).employee();
+            rowNumbers[i] = rows.get(i).rowNumber();
+            names[i] = employee.getName();
+            datesOfBirth[i] = Date.valueOf(employee.getDateOfBirth());
+            genders[i] = employee.getGender() == null ? null : employee.getGender().name();
+            roles[i] = employee.getRole();
+            emails[i] = employee.getEmail();
+            phoneNumbers[i] = employee.getPhoneNumber();
+            active[i] = employee.getActive();
+        }
+
+        PreparedStatement ps = connection.prepareStatement(UPSERT_SQL);
+        ps.setArray(1, connection.createArrayOf("bigint", rowNumbers));
+        ps.setArray(2, connection.createArrayOf("text", names));
+        ps.setArray(3, connection.createArrayOf("date", datesOfBirth));
+        ps.setArray(4, connection.createArrayOf("text", genders));
+        ps.setArray(5, connection.createArrayOf("text", roles));
+        ps.setArray(6, connection.createArrayOf("text", emails));
+        ps.setArray(7, connection.createArrayOf("text", phoneNumbers));
+        ps.setArray(8, connection.createArrayOf("boolean", active));
+        ps.setObject(9, importJobId, Types.OTHER);
+        return ps;
+    }
+
+    record Row(long rowNumber, Employee employee) {
+    }
+
+    record UpsertResult(long inserted, long updated, List<Long> updatedIds, Map<Long, String> phoneConflicts) {
+    }
+}
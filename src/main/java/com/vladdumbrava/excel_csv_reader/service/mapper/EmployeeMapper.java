@@ -2,6 +2,7 @@ package com.vladdumbrava.excel_csv_reader.service.mapper;
 
 import com.vladdumbrava.excel_csv_reader.dto.EmployeeDTO;
 import com.vladdumbrava.excel_csv_reader.model.Employee;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeRow;
 
 import org.springframework.stereotype.Service;
 
@@ -20,6 +21,18 @@ public class EmployeeMapper {
         );
     }
 
+    public EmployeeDTO rowToDto(EmployeeRow row) {
+        return new EmployeeDTO(
+                row.name(),
+                row.dateOfBirth(),
+                row.gender(),
+                row.role(),
+                row.email(),
+                row.phoneNumber(),
+                row.active()
+        );
+    }
+
     public Employee dtoToEntity(EmployeeDTO employeeDTO) {
         Employee employee = new Employee();
         employee.setName(employeeDTO.name());
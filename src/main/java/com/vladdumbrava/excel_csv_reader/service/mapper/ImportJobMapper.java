@@ -0,0 +1,39 @@
+package com.vladdumbrava.excel_csv_reader.service.mapper;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import com.vladdumbrava.excel_csv_reader.dto.ImportJobDTO;
+import com.vladdumbrava.excel_csv_reader.model.ImportJob;
+
+import org.springframework.stereotype.Service;
+
+@Service
+public class ImportJobMapper {
+
+    public ImportJobDTO entityToDto(ImportJob job) {
+        return new ImportJobDTO(
+                job.getId(),
+                job.getFilename(),
+                job.getMode(),
+                job.getStatus(),
+                job.getRowsParsed(),
+                job.getRowsPersisted(),
+                job.getRowsRejected(),
+                rowsPerSecond(job),
+                job.getErrorMessage(),
+                job.getCreatedAt(),
+                job.getStartedAt(),
+                job.getFinishedAt()
+        );
+    }
+
+    private double rowsPerSecond(ImportJob job) {
+        if (job.getStartedAt() == null) {
+            return 0;
+        }
+        Instant end = job.getFinishedAt() != null ? job.getFinishedAt() : Instant.now();
+        long millis = Duration.between(job.getStartedAt(), end).toMillis();
+        return millis <= 0 ? 0 : job.getRowsParsed() * 1000.0 / millis;
+    }
+}
@@ -0,0 +1,211 @@
+package com.vladdumbrava.excel_csv_reader.service.stats;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.vladdumbrava.excel_csv_reader.config.QueryProperties;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeStatsDTO;
+import com.vladdumbrava.excel_csv_reader.model.Employee;
+import com.vladdumbrava.excel_csv_reader.model.Gender;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeHeadcount;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory headcount of employees by role, gender and active status, so reading
+ * the statistics does not scan the table. Writes that know which employees they
+ * added, changed or removed apply that as {@link EmployeeHeadcount} changes; writes
+ * that do not, such as upserts and bulk updates, mark the summary stale instead.
+ * Inside a transaction both wait until it commits, so rolled back writes are never
+ * counted.
+ * <p>
+ * Every {@code employees.query.stats.check-interval} the summary is recounted with
+ * one {@code GROUP BY} if it is stale or older than
+ * {@code employees.query.stats.reconcile-interval}. Changes applied while a recount
+ * runs are recorded and applied again on top of its result, since the recount may
+ * not see them. One that commits just before the {@code GROUP BY} reads its snapshot
+ * is then counted twice until the next recount.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeStats {
+
+    private final EmployeeRepository employeeRepository;
+    private final QueryProperties queryProperties;
+
+    private final Map<Bucket, Long> counts = new HashMap<>();
+    // One list per running recount, holding the changes applied since it started.
+    private final Set<List<EmployeeHeadcount>> recountRecordings = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final AtomicBoolean stale = new AtomicBoolean();
+    private volatile Instant reconciledAt;
+    private volatile EmployeeStatsDTO snapshot;
+
+    /**
+     * Returns the summary built after the last change, rebuilding it from the
+     * buckets if something changed since. Only the first read before the initial
+     * recount queries the database.
+     */
+    public EmployeeStatsDTO get() {
+        EmployeeStatsDTO current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        if (reconciledAt == null) {
+            reconcile();
+        }
+        return buildSnapshot();
+    }
+
+    public void added(Collection<Employee> employees) {
+        record(employees.stream().map(employee -> EmployeeHeadcount.of(employee, 1)).toList());
+    }
+
+    /**
+     * @param changes headcount changes; removed employees are counted negatively
+     */
+    public void record(Collection<EmployeeHeadcount> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        List<EmployeeHeadcount> recorded = List.copyOf(changes);
+        afterCommit(() -> apply(recorded));
+    }
+
+    /**
+     * Has the summary recounted at the next check, for writes that changed employees
+     * without knowing their previous role, gender or active status.
+     */
+    public void markStale() {
+        afterCommit(() -> stale.set(true));
+    }
+
+    @Scheduled(fixedDelayString = "${employees.query.stats.check-interval:PT10S}")
+    public void reconcileIfDue() {
+        Instant last = reconciledAt;
+        if (stale.get() || last == null
+                || !Instant.now().isBefore(last.plus(queryProperties.getStats().getReconcileInterval()))) {
+            reconcile();
+        }
+    }
+
+    public void reconcile() {
+        // Cleared first, so that writes marking it during the recount are not lost.
+        stale.set(false);
+        Instant startedAt = Instant.now();
+        List<EmployeeHeadcount> appliedMeanwhile = new ArrayList<>();
+        synchronized (this) {
+            recountRecordings.add(appliedMeanwhile);
+        }
+        List<EmployeeHeadcount> headcounts;
+        try {
+            headcounts = employeeRepository.countHeadcounts();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                recountRecordings.remove(appliedMeanwhile);
+            }
+            stale.set(true);
+            throw e;
+        }
+
+        Map<Bucket, Long> recounted = new HashMap<>();
+        for (EmployeeHeadcount headcount : headcounts) {
+            recounted.put(Bucket.of(headcount), headcount.employees());
+        }
+        synchronized (this) {
+            recountRecordings.remove(appliedMeanwhile);
+            merge(recounted, appliedMeanwhile);
+            if (reconciledAt != null && !recounted.equals(counts)) {
+                log.info("Recount of employee statistics corrected the incrementally maintained summary.");
+            }
+            counts.clear();
+            counts.putAll(recounted);
+            reconciledAt = startedAt;
+            snapshot = null;
+        }
+        log.debug("Recounted employee statistics in {} buckets.", recounted.size());
+    }
+
+    private synchronized void apply(List<EmployeeHeadcount> changes) {
+        merge(counts, changes);
+        for (List<EmployeeHeadcount> recording : recountRecordings) {
+            recording.addAll(changes);
+        }
+        snapshot = null;
+    }
+
+    private static void merge(Map<Bucket, Long> counts, List<EmployeeHeadcount> changes) {
+        for (EmployeeHeadcount change : changes) {
+            counts.merge(Bucket.of(change), change.employees(), (count, delta) -> {
+                long updated = count + delta;
+                return updated == 0 ? null : updated;
+            });
+        }
+    }
+
+    private synchronized EmployeeStatsDTO buildSnapshot() {
+        if (snapshot != null) {
+            return snapshot;
+        }
+        long total = 0;
+        long active = 0;
+        long inactive = 0;
+        Map<String, Long> byRole = new TreeMap<>();
+        Map<Gender, Long> byGender = new EnumMap<>(Gender.class);
+        for (Map.Entry<Bucket, Long> entry : counts.entrySet()) {
+            Bucket bucket = entry.getKey();
+            long employees = entry.getValue();
+            total += employees;
+            if (Boolean.TRUE.equals(bucket.active())) {
+                active += employees;
+            } else if (Boolean.FALSE.equals(bucket.active())) {
+                inactive += employees;
+            }
+            if (bucket.role() != null) {
+                byRole.merge(bucket.role(), employees, Long::sum);
+            }
+            if (bucket.gender() != null) {
+                byGender.merge(bucket.gender(), employees, Long::sum);
+            }
+        }
+        snapshot = new EmployeeStatsDTO(total, active, inactive, Collections.unmodifiableMap(byRole),
+                Collections.unmodifiableMap(byGender), reconciledAt);
+        return snapshot;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record Bucket(String role, Gender gender, Boolean active) {
+
+        static Bucket of(EmployeeHeadcount headcount) {
+            return new Bucket(headcount.role(), headcount.gender(), headcount.active());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.vladdumbrava.excel_csv_reader.service.utils;
 
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 
@@ -16,6 +17,15 @@ public class DataTypeParser {
                 : s.trim());
     }
 
+    /**
+     * @return whether the value stands for a missing value. The typed parsers return
+     * {@code null} both for these and for values they cannot read; readers use this
+     * to tell the two apart.
+     */
+    public boolean isNullValue(String s) {
+        return handleNullityInString(s) == null;
+    }
+
     public LocalDate parseDate(String s) {
         try {
             return (handleNullityInString(s) == null ? null : LocalDate.parse(handleNullityInString(s)));
@@ -43,4 +53,110 @@ public class DataTypeParser {
         };
     }
 
+    // Overloads reading a field straight out of a character buffer, so the CSV reader
+    // only allocates a String for values that are kept as strings.
+
+    public String handleNullityInString(char[] chars, int offset, int length) {
+        int start = trimStart(chars, offset, offset + length);
+        int end = trimEnd(chars, start, offset + length);
+        return isNullToken(chars, start, end) ? null : new String(chars, start, end - start);
+    }
+
+    public boolean isNullValue(char[] chars, int offset, int length) {
+        int start = trimStart(chars, offset, offset + length);
+        return isNullToken(chars, start, trimEnd(chars, start, offset + length));
+    }
+
+    public LocalDate parseDate(char[] chars, int offset, int length) {
+        int start = trimStart(chars, offset, offset + length);
+        int end = trimEnd(chars, start, offset + length);
+        if (isNullToken(chars, start, end)) {
+            return null;
+        }
+        if (end - start != 10 || chars[start + 4] != '-' || chars[start + 7] != '-') {
+            return parseDate(new String(chars, start, end - start));
+        }
+        int year = digits(chars, start, 4);
+        int month = digits(chars, start + 5, 2);
+        int day = digits(chars, start + 8, 2);
+        if (year < 0 || month < 0 || day < 0) {
+            return null;
+        }
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    public Gender parseGender(char[] chars, int offset, int length) {
+        int start = trimStart(chars, offset, offset + length);
+        int end = trimEnd(chars, start, offset + length);
+        for (Gender gender : Gender.values()) {
+            if (equalsIgnoreCase(chars, start, end, gender.name())) {
+                return gender;
+            }
+        }
+        return null;
+    }
+
+    public Boolean parseBoolean(char[] chars, int offset, int length) {
+        int start = trimStart(chars, offset, offset + length);
+        int end = trimEnd(chars, start, offset + length);
+        if (equalsIgnoreCase(chars, start, end, "true")) {
+            return true;
+        }
+        if (equalsIgnoreCase(chars, start, end, "false")) {
+            return false;
+        }
+        return null;
+    }
+
+    private int trimStart(char[] chars, int start, int end) {
+        while (start < end && chars[start] <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private int trimEnd(char[] chars, int start, int end) {
+        while (end > start && chars[end - 1] <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    private boolean isNullToken(char[] chars, int start, int end) {
+        return start == end || equalsIgnoreCase(chars, start, end, "null") || equalsIgnoreCase(chars, start, end, "n/a");
+    }
+
+    private boolean equalsIgnoreCase(char[] chars, int start, int end, String token) {
+        if (end - start != token.length()) {
+            return false;
+        }
+        for (int i = 0; i < token.length(); i++) {
+            char c = chars[start + i];
+            char t = token.charAt(i);
+            if (c != t && Character.toUpperCase(c) != Character.toUpperCase(t)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the value of {@code count} ASCII digits, or {@code -1} if any of them is not a digit
+     */
+    private int digits(char[] chars, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = chars[i];
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
 }
@@ -3,12 +3,17 @@ package com.vladdumbrava.excel_csv_reader.service.utils;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
+import com.vladdumbrava.excel_csv_reader.config.ImportProperties;
 import com.vladdumbrava.excel_csv_reader.exception.ReaderNotFoundException;
 import com.vladdumbrava.excel_csv_reader.service.utils.reader.CSVEmployeeFileReader;
 import com.vladdumbrava.excel_csv_reader.service.utils.reader.EmployeeFileReader;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.ParallelCSVEmployeeFileReader;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.StreamingXLSXEmployeeFileReader;
 import com.vladdumbrava.excel_csv_reader.service.utils.reader.XLSXEmployeeFileReader;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -16,11 +21,24 @@ import org.springframework.web.multipart.MultipartFile;
 public class FileReaderFactory {
 
     private final Map<String, EmployeeFileReader> readers;
+    private final EmployeeFileReader streamingXlsxReader;
+    private final EmployeeFileReader parallelCsvReader;
+    private final ImportProperties.Xlsx xlsxProperties;
+    private final ImportProperties.Csv csvProperties;
 
-    public FileReaderFactory(List<EmployeeFileReader> readerList) {
+    @Autowired
+    public FileReaderFactory(List<EmployeeFileReader> readerList, ImportProperties importProperties) {
         this.readers = new HashMap<>();
         readers.put("csv", getReaderByType(readerList, CSVEmployeeFileReader.class));
         readers.put("xlsx", getReaderByType(readerList, XLSXEmployeeFileReader.class));
+        this.streamingXlsxReader = findReaderByType(readerList, StreamingXLSXEmployeeFileReader.class).orElse(null);
+        this.parallelCsvReader = findReaderByType(readerList, ParallelCSVEmployeeFileReader.class).orElse(null);
+        this.xlsxProperties = importProperties.getXlsx();
+        this.csvProperties = importProperties.getCsv();
+    }
+
+    public FileReaderFactory(List<EmployeeFileReader> readerList) {
+        this(readerList, new ImportProperties());
     }
 
     public EmployeeFileReader getReader(MultipartFile file) {
@@ -34,14 +52,46 @@ public class FileReaderFactory {
             throw new UnsupportedOperationException("Unsupported file extension: " + extension);
         }
 
+        if (extension.equals("xlsx") && useStreamingXlsxReader(file)) {
+            return streamingXlsxReader;
+        }
+
+        if (extension.equals("csv") && useParallelCsvReader(file)) {
+            return parallelCsvReader;
+        }
+
         return readers.get(extension);
     }
 
+    /**
+     * Only files on local disk can be split into byte ranges; uploads are parsed sequentially.
+     */
+    private boolean useParallelCsvReader(MultipartFile file) {
+        return parallelCsvReader != null
+                && file instanceof PathMultipartFile
+                && csvProperties.getParallelism() > 1
+                && file.getSize() >= csvProperties.getParallelThreshold().toBytes();
+    }
+
+    private boolean useStreamingXlsxReader(MultipartFile file) {
+        if (streamingXlsxReader == null) {
+            return false;
+        }
+        return switch (xlsxProperties.getReadMode()) {
+            case STREAMING -> true;
+            case IN_MEMORY -> false;
+            case AUTO -> file.getSize() >= xlsxProperties.getStreamingThreshold().toBytes();
+        };
+    }
+
     private EmployeeFileReader getReaderByType(List<EmployeeFileReader> list, Class<?> clazz) {
+        return findReaderByType(list, clazz)
+                .orElseThrow(() -> new ReaderNotFoundException("Reader not found for class: " + clazz));
+    }
+
+    private Optional<EmployeeFileReader> findReaderByType(List<EmployeeFileReader> list, Class<?> clazz) {
         return list.stream()
                 .filter(clazz::isInstance)
-                .findFirst()
-                .orElseThrow(() -> new ReaderNotFoundException("Reader not found for class: " + clazz));
+                .findFirst();
     }
 }
-
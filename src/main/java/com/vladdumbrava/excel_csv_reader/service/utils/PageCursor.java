@@ -0,0 +1,34 @@
+package com.vladdumbrava.excel_csv_reader.service.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.vladdumbrava.excel_csv_reader.exception.InvalidRequestException;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Opaque cursor for keyset pagination. It carries the last id of the previous page,
+ * so clients cannot build on its format and it can change without breaking them.
+ */
+@UtilityClass
+public class PageCursor {
+
+    private static final String PREFIX = "id:";
+
+    public String encode(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public long decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            if (decoded.startsWith(PREFIX)) {
+                return Long.parseLong(decoded.substring(PREFIX.length()));
+            }
+        } catch (IllegalArgumentException e) {
+            // Falls through to the error below; NumberFormatException is an IllegalArgumentException.
+        }
+        throw new InvalidRequestException("Invalid cursor: " + cursor);
+    }
+}
@@ -0,0 +1,113 @@
+package com.vladdumbrava.excel_csv_reader.service.utils.csv;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Cuts a CSV file into byte ranges that each start at a record boundary, so the
+ * ranges can be tokenized independently.
+ * <p>
+ * Whether a newline ends a record depends on every quote before it, so the file is
+ * scanned once from the start with the same quoting rules as {@link CsvTokenizer}.
+ * The scan is a serial pass that finishes before any range is parsed; it only looks
+ * at single bytes, so it costs one read of the file rather than a parse of it. It is
+ * safe on UTF-8 because quote, comma and newline bytes never occur inside a
+ * multi-byte character.
+ */
+@UtilityClass
+public class CsvRangeSplitter {
+
+    private static final int SCAN_BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * @param start           first byte of the range
+     * @param end             byte after the last byte of the range
+     * @param firstLineNumber line the first record of the range starts on
+     */
+    public record CsvRange(long start, long end, long firstLineNumber) {
+    }
+
+    /**
+     * Splits the file into at most {@code rangeCount} ranges of roughly equal size.
+     * Fewer ranges are returned when the file has fewer records than that.
+     */
+    public List<CsvRange> split(Path path, int rangeCount) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            List<CsvRange> ranges = new ArrayList<>(rangeCount);
+            if (rangeCount <= 1 || size == 0) {
+                ranges.add(new CsvRange(0, size, 1));
+                return ranges;
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+            long position = 0;
+            long rangeStart = 0;
+            long rangeFirstLine = 1;
+            long nextTarget = size / rangeCount;
+            long lines = 0;
+            boolean quoted = false;
+            boolean quotePending = false;
+            boolean fieldStart = true;
+            boolean afterCarriageReturn = false;
+
+            while (ranges.size() < rangeCount - 1 && channel.read(buffer, position) > 0) {
+                buffer.flip();
+                byte[] bytes = buffer.array();
+                int limit = buffer.limit();
+                for (int i = 0; i < limit; i++) {
+                    byte b = bytes[i];
+                    if (b == '\n' && !afterCarriageReturn || b == '\r') {
+                        lines++;
+                    }
+                    afterCarriageReturn = b == '\r';
+
+                    if (quoted) {
+                        if (!quotePending) {
+                            quotePending = b == '"';
+                            continue;
+                        }
+                        quotePending = false;
+                        if (b == '"') {
+                            continue;
+                        }
+                        quoted = false;
+                    }
+
+                    if (b == ',' || b == '\r') {
+                        fieldStart = true;
+                    } else if (b == '\n') {
+                        fieldStart = true;
+                        long recordStart = position + i + 1;
+                        if (recordStart >= nextTarget && recordStart < size) {
+                            ranges.add(new CsvRange(rangeStart, recordStart, rangeFirstLine));
+                            rangeStart = recordStart;
+                            rangeFirstLine = lines + 1;
+                            nextTarget = Math.max(recordStart, size * (ranges.size() + 1) / rangeCount);
+                            if (ranges.size() == rangeCount - 1) {
+                                break;
+                            }
+                        }
+                    } else if (b == '"' && fieldStart) {
+                        quoted = true;
+                        fieldStart = false;
+                    } else {
+                        fieldStart = false;
+                    }
+                }
+                position += limit;
+                buffer.clear();
+            }
+
+            ranges.add(new CsvRange(rangeStart, size, rangeFirstLine));
+            return ranges;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.vladdumbrava.excel_csv_reader.service.utils.csv;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.vladdumbrava.excel_csv_reader.exception.FileProcessingException;
+
+/**
+ * Single-pass RFC 4180 tokenizer. Fields may be quoted, quotes inside a quoted
+ * field are escaped by doubling them, and quoted fields may span lines. LF, CRLF
+ * and CR all end a record.
+ * <p>
+ * Input is pulled through one reusable {@code char[]} and the unescaped fields of
+ * the current record are written into another, so reading a file allocates nothing
+ * once the buffers have grown to the widest record. Callers read fields straight
+ * out of {@link #chars()} and only create a {@code String} when they need one.
+ */
+public final class CsvTokenizer {
+
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final int EOF = -1;
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Anything that can fill a {@code char[]}, such as {@link java.io.Reader#read(char[], int, int)}.
+     */
+    @FunctionalInterface
+    public interface CharSource {
+
+        /**
+         * @return the number of chars read, or {@code -1} at the end of the input
+         */
+        int read(char[] buffer, int offset, int length) throws IOException;
+    }
+
+    private final CharSource source;
+    private final char[] input;
+    private int inputPosition;
+    private int inputLimit;
+    private boolean endOfInput;
+
+    private char[] record = new char[256];
+    private int recordLength;
+    private int[] fieldStarts = new int[16];
+    private int[] fieldEnds = new int[16];
+    private int fieldCount;
+
+    private long nextLine;
+    private long recordLine;
+
+    public CsvTokenizer(CharSource source) {
+        this(source, DEFAULT_BUFFER_SIZE);
+    }
+
+    public CsvTokenizer(CharSource source, int bufferSize) {
+        this(source, bufferSize, 1);
+    }
+
+    /**
+     * @param firstLineNumber line number of the first record, for sources that start
+     *                        in the middle of a file
+     */
+    public CsvTokenizer(CharSource source, int bufferSize, long firstLineNumber) {
+        this.source = source;
+        this.input = new char[bufferSize];
+        this.nextLine = firstLineNumber;
+    }
+
+    /**
+     * Advances to the next record.
+     *
+     * @return {@code false} at the end of the input
+     * @throws FileProcessingException if the input ends inside a quoted field
+     */
+    public boolean next() throws IOException {
+        recordLength = 0;
+        fieldCount = 0;
+        int c = read();
+        if (c == EOF) {
+            return false;
+        }
+        recordLine = nextLine;
+
+        int fieldStart = 0;
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == EOF) {
+                    throw new FileProcessingException(
+                            "Unterminated quoted field in CSV record starting at line " + recordLine);
+                }
+                if (c == QUOTE) {
+                    if (peek() == QUOTE) {
+                        read();
+                        append(QUOTE);
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    if (c == '\n' || (c == '\r' && peek() != '\n')) {
+                        nextLine++;
+                    }
+                    append((char) c);
+                }
+            } else if (c == SEPARATOR) {
+                endField(fieldStart);
+                fieldStart = recordLength;
+            } else if (c == '\n' || c == '\r' || c == EOF) {
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                if (c != EOF) {
+                    nextLine++;
+                }
+                endField(fieldStart);
+                return true;
+            } else if (c == QUOTE && recordLength == fieldStart) {
+                quoted = true;
+            } else {
+                append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * @return the line the current record starts on, counting from 1
+     */
+    public long lineNumber() {
+        return recordLine;
+    }
+
+    public int fieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * Backing array of the current record. Only valid until the next call to {@link #next()}.
+     */
+    public char[] chars() {
+        return record;
+    }
+
+    public int start(int field) {
+        return fieldStarts[field];
+    }
+
+    public int length(int field) {
+        return fieldEnds[field] - fieldStarts[field];
+    }
+
+    public String field(int field) {
+        return new String(record, start(field), length(field));
+    }
+
+    /**
+     * @return whether the current record is an empty or whitespace-only line
+     */
+    public boolean isBlank() {
+        if (fieldCount != 1) {
+            return false;
+        }
+        for (int i = 0; i < recordLength; i++) {
+            if (!Character.isWhitespace(record[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void endField(int fieldStart) {
+        if (fieldCount == fieldStarts.length) {
+            fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+        }
+        fieldStarts[fieldCount] = fieldStart;
+        fieldEnds[fieldCount] = recordLength;
+        fieldCount++;
+    }
+
+    private void append(char c) {
+        if (recordLength == record.length) {
+            record = Arrays.copyOf(record, recordLength * 2);
+        }
+        record[recordLength++] = c;
+    }
+
+    private int read() throws IOException {
+        if (inputPosition == inputLimit && !fill()) {
+            return EOF;
+        }
+        return input[inputPosition++];
+    }
+
+    private int peek() throws IOException {
+        if (inputPosition == inputLimit && !fill()) {
+            return EOF;
+        }
+        return input[inputPosition];
+    }
+
+    private boolean fill() throws IOException {
+        if (endOfInput) {
+            return false;
+        }
+        int read;
+        do {
+            read = source.read(input, 0, input.length);
+        } while (read == 0);
+        if (read < 0) {
+            endOfInput = true;
+            return false;
+        }
+        inputPosition = 0;
+        inputLimit = read;
+        return true;
+    }
+}
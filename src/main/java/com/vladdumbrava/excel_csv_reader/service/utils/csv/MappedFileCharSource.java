@@ -0,0 +1,135 @@
+package com.vladdumbrava.excel_csv_reader.service.utils.csv;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Decodes a UTF-8 file on local disk from memory-mapped windows into the
+ * tokenizer's buffer, without going through an {@code InputStream} or a
+ * {@code Reader}. There are no read system calls; read-ahead is left to the page cache.
+ * <p>
+ * Bytes are bulk-copied from the mapping into a small reusable heap buffer before
+ * decoding, because the JDK's UTF-8 decoder only takes its vectorized ASCII fast
+ * path on array-backed buffers and is several times slower on a mapped buffer.
+ * The file is mapped in windows of at most {@code windowSize} bytes, since a
+ * single mapping cannot exceed 2 GB. A multi-byte character cut by the end of a
+ * window stays in the heap buffer until the next window completes it.
+ */
+public final class MappedFileCharSource implements CsvTokenizer.CharSource, Closeable {
+
+    private static final long DEFAULT_WINDOW_SIZE = 256L * 1024 * 1024;
+    private static final int DECODE_BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final long end;
+    private final long windowSize;
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+    private final ByteBuffer bytes = ByteBuffer.allocate(DECODE_BUFFER_SIZE).flip();
+    private MappedByteBuffer window;
+    private long windowStart;
+    private boolean endOfInput;
+    private char[] targetArray;
+    private CharBuffer target;
+    private boolean flushed;
+
+    public MappedFileCharSource(Path path) throws IOException {
+        this(path, 0, -1);
+    }
+
+    /**
+     * Reads the bytes in {@code [start, end)} only, or up to the end of the file when
+     * {@code end} is negative. {@code start} must be at a character boundary.
+     */
+    public MappedFileCharSource(Path path, long start, long end) throws IOException {
+        this(path, start, end, DEFAULT_WINDOW_SIZE);
+    }
+
+    MappedFileCharSource(Path path, long windowSize) throws IOException {
+        this(path, 0, -1, windowSize);
+    }
+
+    private MappedFileCharSource(Path path, long start, long end, long windowSize) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.end = end < 0 ? channel.size() : end;
+        this.windowSize = windowSize;
+        map(start);
+        if (start == 0) {
+            skipByteOrderMark();
+        }
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) throws IOException {
+        if (flushed) {
+            return -1;
+        }
+        if (buffer != targetArray) {
+            targetArray = buffer;
+            target = CharBuffer.wrap(buffer);
+        }
+        target.limit(offset + length);
+        target.position(offset);
+
+        while (target.position() == offset) {
+            CoderResult result = decoder.decode(bytes, target, endOfInput);
+            if (result.isOverflow()) {
+                break;
+            }
+            if (endOfInput) {
+                decoder.flush(target);
+                flushed = true;
+                break;
+            }
+            refill();
+        }
+
+        int read = target.position() - offset;
+        return read == 0 && flushed ? -1 : read;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Keeps undecoded bytes and tops the heap buffer up from the mapping, moving on
+     * to the next window once the current one is used up.
+     */
+    private void refill() throws IOException {
+        if (!window.hasRemaining() && windowStart + window.limit() < end) {
+            map(windowStart + window.limit());
+        }
+        bytes.compact();
+        int count = Math.min(bytes.remaining(), window.remaining());
+        window.get(bytes.array(), bytes.arrayOffset() + bytes.position(), count);
+        bytes.position(bytes.position() + count);
+        bytes.flip();
+        endOfInput = !window.hasRemaining() && windowStart + window.limit() >= end;
+    }
+
+    private void map(long position) throws IOException {
+        window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(windowSize, end - position));
+        windowStart = position;
+    }
+
+    private void skipByteOrderMark() {
+        if (window.remaining() >= 3
+                && window.get(0) == (byte) 0xEF && window.get(1) == (byte) 0xBB && window.get(2) == (byte) 0xBF) {
+            window.position(3);
+        }
+    }
+}
@@ -1,13 +1,15 @@
 package com.vladdumbrava.excel_csv_reader.service.utils.reader;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.util.List;
-import java.util.Objects;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 
 import com.vladdumbrava.excel_csv_reader.exception.FileProcessingException;
 import com.vladdumbrava.excel_csv_reader.model.Employee;
+import com.vladdumbrava.excel_csv_reader.service.utils.PathMultipartFile;
+import com.vladdumbrava.excel_csv_reader.service.utils.csv.CsvTokenizer;
+import com.vladdumbrava.excel_csv_reader.service.utils.csv.MappedFileCharSource;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.stereotype.Component;
@@ -19,48 +21,20 @@ import static com.vladdumbrava.excel_csv_reader.service.utils.DataTypeParser.*;
 @Slf4j
 public class CSVEmployeeFileReader implements EmployeeFileReader{
 
+    private static final int EXPECTED_FIELDS = 7;
+
     @Override
-    public List<Employee> read(MultipartFile file) {
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream()))) {
+    public long read(MultipartFile file, int chunkSize, EmployeeChunkHandler handler) {
+        EmployeeChunkBuffer buffer = new EmployeeChunkBuffer(chunkSize, handler);
+        if (file instanceof PathMultipartFile localFile) {
+            return readLocalFile(localFile, buffer);
+        }
+        try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
             log.info("Starting to parse CSV file: {}", file.getOriginalFilename());
-
-            String headerLine = reader.readLine();
-            if (headerLine == null) {
-                log.error("CSV file is empty.");
-                throw new FileProcessingException("CSV file is empty.");
-            }
-
-            String[] headerLineParts = headerLine.split(",");
-            int expectedFields = 7;
-
-            if (headerLineParts.length != expectedFields) {
-                log.error("CSV header is malformed. Expected {} fields, but got {}: {}",
-                        expectedFields, headerLineParts.length, headerLine);
-                throw new FileProcessingException("Invalid CSV header format.");
-            }
-
-            return reader.lines()
-                    .map(String::trim)
-                    .filter(line -> !line.isBlank())
-                    .map(line -> {
-                        String[] parts = line.split(",", -1);
-                        if (parts.length != expectedFields) {
-                            log.warn("Skipping malformed line: {}", line);
-                            return null;
-                        }
-                        Employee employee = new Employee();
-                        employee.setName(handleNullityInString(parts[0]));
-                        employee.setDateOfBirth(parseDate(parts[1]));
-                        employee.setGender(parseGender(parts[2]));
-                        employee.setRole(handleNullityInString(parts[3]));
-                        employee.setEmail(handleNullityInString(parts[4]));
-                        employee.setPhoneNumber(handleNullityInString(parts[5]));
-                        employee.setActive(parseBoolean(parts[6]));
-                        return employee;
-                    })
-                    .filter(Objects::nonNull)
-                    .toList();
-
+            return read(new CsvTokenizer(reader::read), buffer);
+        }
+        catch (EmployeeChunkBuffer.HandlerException e) {
+            throw e.getCause();
         }
         catch (IOException e) {
             log.error("Failed to read CSV file", e);
@@ -75,4 +49,88 @@ public class CSVEmployeeFileReader implements EmployeeFileReader{
         }
     }
 
+    /**
+     * Files already on local disk skip the {@code Reader} stack and are decoded
+     * straight from memory-mapped windows.
+     */
+    private long readLocalFile(PathMultipartFile file, EmployeeChunkBuffer buffer) {
+        try (MappedFileCharSource source = new MappedFileCharSource(file.getPath())) {
+            log.info("Starting to parse memory-mapped CSV file: {}", file.getPath());
+            return read(new CsvTokenizer(source), buffer);
+        }
+        catch (EmployeeChunkBuffer.HandlerException e) {
+            throw e.getCause();
+        }
+        catch (IOException e) {
+            log.error("Failed to read CSV file", e);
+            throw new FileProcessingException("Failed to read CSV file");
+        }
+    }
+
+    private long read(CsvTokenizer tokenizer, EmployeeChunkBuffer buffer) throws IOException {
+        readHeader(tokenizer);
+        readRecords(tokenizer, buffer);
+        return buffer.finish();
+    }
+
+    static void readHeader(CsvTokenizer tokenizer) throws IOException {
+        if (!tokenizer.next()) {
+            log.error("CSV file is empty.");
+            throw new FileProcessingException("CSV file is empty.");
+        }
+
+        if (tokenizer.fieldCount() != EXPECTED_FIELDS) {
+            log.error("CSV header is malformed. Expected {} fields, but got {}.",
+                    EXPECTED_FIELDS, tokenizer.fieldCount());
+            throw new FileProcessingException("Invalid CSV header format.");
+        }
+    }
+
+    /**
+     * Reads all remaining records from the tokenizer. Typed fields are parsed
+     * straight from the tokenizer's buffer; only the string columns allocate.
+     */
+    static void readRecords(CsvTokenizer tokenizer, EmployeeChunkBuffer buffer) throws IOException {
+        while (tokenizer.next()) {
+            if (tokenizer.isBlank()) {
+                continue;
+            }
+            if (tokenizer.fieldCount() != EXPECTED_FIELDS) {
+                log.warn("Skipping malformed line {}", tokenizer.lineNumber());
+                buffer.reject(tokenizer.lineNumber(),
+                        "Expected " + EXPECTED_FIELDS + " fields but got " + tokenizer.fieldCount());
+                continue;
+            }
+            char[] chars = tokenizer.chars();
+            Employee employee = new Employee();
+            employee.setName(handleNullityInString(chars, tokenizer.start(0), tokenizer.length(0)));
+            employee.setDateOfBirth(parseDate(chars, tokenizer.start(1), tokenizer.length(1)));
+            employee.setGender(parseGender(chars, tokenizer.start(2), tokenizer.length(2)));
+            employee.setRole(handleNullityInString(chars, tokenizer.start(3), tokenizer.length(3)));
+            employee.setEmail(handleNullityInString(chars, tokenizer.start(4), tokenizer.length(4)));
+            employee.setPhoneNumber(handleNullityInString(chars, tokenizer.start(5), tokenizer.length(5)));
+            employee.setActive(parseBoolean(chars, tokenizer.start(6), tokenizer.length(6)));
+
+            String invalidValue = invalidValue(tokenizer, employee);
+            if (invalidValue != null) {
+                buffer.reject(tokenizer.lineNumber(), invalidValue);
+                continue;
+            }
+            buffer.add(tokenizer.lineNumber(), employee);
+        }
+    }
+
+    private static String invalidValue(CsvTokenizer tokenizer, Employee employee) {
+        if (employee.getDateOfBirth() == null && !isNullValue(tokenizer.chars(), tokenizer.start(1), tokenizer.length(1))) {
+            return InvalidValues.dateOfBirth(tokenizer.field(1));
+        }
+        if (employee.getGender() == null && !isNullValue(tokenizer.chars(), tokenizer.start(2), tokenizer.length(2))) {
+            return InvalidValues.gender(tokenizer.field(2));
+        }
+        if (employee.getActive() == null && !isNullValue(tokenizer.chars(), tokenizer.start(6), tokenizer.length(6))) {
+            return InvalidValues.active(tokenizer.field(6));
+        }
+        return null;
+    }
+
 }
@@ -0,0 +1,24 @@
+package com.vladdumbrava.excel_csv_reader.service.utils.reader;
+
+import java.util.List;
+
+import com.vladdumbrava.excel_csv_reader.model.Employee;
+
+/**
+ * A bounded slice of parsed employees together with the row each one came from
+ * (1-based, header included, as shown by a spreadsheet or text editor).
+ */
+public record EmployeeChunk(List<Employee> employees, long[] rowNumbers) {
+
+    public int size() {
+        return employees.size();
+    }
+
+    public Employee employee(int index) {
+        return employees.get(index);
+    }
+
+    public long rowNumber(int index) {
+        return rowNumbers[index];
+    }
+}
@@ -0,0 +1,91 @@
+package com.vladdumbrava.excel_csv_reader.service.utils.reader;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.vladdumbrava.excel_csv_reader.model.Employee;
+
+/**
+ * Accumulates parsed rows and flushes them to an {@link EmployeeChunkHandler} once
+ * the chunk is full. Failures raised by the handler are wrapped in
+ * {@link HandlerException} so readers can tell them apart from parsing errors and
+ * rethrow them untouched.
+ */
+final class EmployeeChunkBuffer {
+
+    private final int chunkSize;
+    private final EmployeeChunkHandler handler;
+    private List<Employee> employees;
+    private long[] rowNumbers;
+    private long total;
+
+    EmployeeChunkBuffer(int chunkSize, EmployeeChunkHandler handler) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        this.handler = handler;
+        reset();
+    }
+
+    void add(long rowNumber, Employee employee) {
+        int size = employees.size();
+        if (size == rowNumbers.length) {
+            rowNumbers = Arrays.copyOf(rowNumbers, (int) Math.min(chunkSize, 2L * size));
+        }
+        rowNumbers[size] = rowNumber;
+        employees.add(employee);
+        if (employees.size() == chunkSize) {
+            flush();
+        }
+    }
+
+    void reject(long rowNumber, String reason) {
+        try {
+            handler.onRejectedRow(rowNumber, reason);
+        } catch (RuntimeException e) {
+            throw new HandlerException(e);
+        }
+    }
+
+    /**
+     * Flushes the last partial chunk and returns the number of employees handed out.
+     */
+    long finish() {
+        flush();
+        return total;
+    }
+
+    private void flush() {
+        if (employees.isEmpty()) {
+            return;
+        }
+        EmployeeChunk chunk = new EmployeeChunk(employees, Arrays.copyOf(rowNumbers, employees.size()));
+        total += chunk.size();
+        reset();
+        try {
+            handler.onChunk(chunk);
+        } catch (RuntimeException e) {
+            throw new HandlerException(e);
+        }
+    }
+
+    private void reset() {
+        int initialCapacity = Math.min(chunkSize, EmployeeFileReader.DEFAULT_CHUNK_SIZE);
+        employees = new ArrayList<>(initialCapacity);
+        rowNumbers = new long[initialCapacity];
+    }
+
+    static final class HandlerException extends RuntimeException {
+
+        HandlerException(RuntimeException cause) {
+            super(cause);
+        }
+
+        @Override
+        public RuntimeException getCause() {
+            return (RuntimeException) super.getCause();
+        }
+    }
+}
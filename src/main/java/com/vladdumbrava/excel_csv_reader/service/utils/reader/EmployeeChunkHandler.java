@@ -0,0 +1,14 @@
+package com.vladdumbrava.excel_csv_reader.service.utils.reader;
+
+@FunctionalInterface
+public interface EmployeeChunkHandler {
+
+    void onChunk(EmployeeChunk chunk);
+
+    /**
+     * Called for rows the reader could not turn into an employee, such as CSV lines
+     * with the wrong number of fields.
+     */
+    default void onRejectedRow(long rowNumber, String reason) {
+    }
+}
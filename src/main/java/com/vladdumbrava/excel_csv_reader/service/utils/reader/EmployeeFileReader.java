@@ -1,5 +1,6 @@
 package com.vladdumbrava.excel_csv_reader.service.utils.reader;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import com.vladdumbrava.excel_csv_reader.model.Employee;
@@ -7,5 +8,20 @@ import com.vladdumbrava.excel_csv_reader.model.Employee;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface EmployeeFileReader {
-    List<Employee> read(MultipartFile file);
+
+    int DEFAULT_CHUNK_SIZE = 1_000;
+
+    /**
+     * Parses the file and hands the employees to the handler in chunks of at most
+     * {@code chunkSize} rows, so callers never need more than one chunk in memory.
+     *
+     * @return the number of employees passed to the handler
+     */
+    long read(MultipartFile file, int chunkSize, EmployeeChunkHandler handler);
+
+    default List<Employee> read(MultipartFile file) {
+        List<Employee> employees = new ArrayList<>();
+        read(file, DEFAULT_CHUNK_SIZE, chunk -> employees.addAll(chunk.employees()));
+        return employees;
+    }
 }
@@ -0,0 +1,48 @@
+package com.vladdumbrava.excel_csv_reader.service.utils.reader;
+
+import java.util.Arrays;
+
+import com.vladdumbrava.excel_csv_reader.model.Employee;
+import com.vladdumbrava.excel_csv_reader.model.Gender;
+import com.vladdumbrava.excel_csv_reader.service.utils.DataTypeParser;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Rejection reasons for typed cells that hold a value the parser could not read.
+ * Without this check such a cell would reach the row validator as a missing value,
+ * or be stored as {@code null} for nullable columns such as gender.
+ */
+@UtilityClass
+class InvalidValues {
+
+    private static final String GENDERS = Arrays.toString(Gender.values());
+
+    /**
+     * @return the reason the row cannot be imported, or {@code null} if every typed
+     * cell was either read or left empty
+     */
+    String check(Employee employee, String dateOfBirth, String gender, String active) {
+        if (employee.getDateOfBirth() == null && !DataTypeParser.isNullValue(dateOfBirth)) {
+            return dateOfBirth(dateOfBirth);
+        }
+        if (employee.getGender() == null && !DataTypeParser.isNullValue(gender)) {
+            return gender(gender);
+        }
+        if (employee.getActive() == null && !DataTypeParser.isNullValue(active)) {
+            return active(active);
+        }
+        return null;
+    }
+
+    String dateOfBirth(String value) {
+        return "date_of_birth is not a yyyy-MM-dd date: " + value.trim();
+    }
+
+    String gender(String value) {
+        return "gender must be one of " + GENDERS + ": " + value.trim();
+    }
+
+    String active(String value) {
+        return "active must be true or false: " + value.trim();
+    }
+}
@@ -0,0 +1,251 @@
+package com.vladdumbrava.excel_csv_reader.service.utils.reader;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import com.vladdumbrava.excel_csv_reader.config.ImportProperties;
+import com.vladdumbrava.excel_csv_reader.exception.FileProcessingException;
+import com.vladdumbrava.excel_csv_reader.service.utils.PathMultipartFile;
+import com.vladdumbrava.excel_csv_reader.service.utils.csv.CsvRangeSplitter;
+import com.vladdumbrava.excel_csv_reader.service.utils.csv.CsvRangeSplitter.CsvRange;
+import com.vladdumbrava.excel_csv_reader.service.utils.csv.CsvTokenizer;
+import com.vladdumbrava.excel_csv_reader.service.utils.csv.MappedFileCharSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Parses one large CSV file on several cores. The file is cut into byte ranges at
+ * record boundaries, each range is tokenized on a fork-join pool, and the parsed
+ * ranges are handed to the {@link EmployeeChunkHandler} on the calling thread, so
+ * handlers never see concurrent calls.
+ * <p>
+ * Rows, row numbers and rejections come out in the same order as with
+ * {@link CSVEmployeeFileReader} when file order is preserved; only chunk boundaries
+ * differ, since every range ends with its own partial chunk.
+ */
+@Component("parallelCsvReader")
+@RequiredArgsConstructor
+@Slf4j
+public class ParallelCSVEmployeeFileReader implements EmployeeFileReader {
+
+    /**
+     * Segments, each at most one chunk of rows, a running range may parse ahead of
+     * the consumer.
+     */
+    private static final int SEGMENTS_AHEAD = 2;
+
+    private final ImportProperties importProperties;
+
+    @Override
+    public long read(MultipartFile file, int chunkSize, EmployeeChunkHandler handler) {
+        if (!(file instanceof PathMultipartFile localFile)) {
+            throw new UnsupportedOperationException(
+                    "Parallel CSV parsing needs a file on local disk: " + file.getOriginalFilename());
+        }
+        ImportProperties.Csv config = importProperties.getCsv();
+        Path path = localFile.getPath();
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, config.getParallelism()));
+        try {
+            long rangeSize = Math.max(1, config.getRangeSize().toBytes());
+            int rangeCount = (int) Math.max(1, Math.min(Integer.MAX_VALUE, localFile.getSize() / rangeSize));
+            List<CsvRange> ranges = CsvRangeSplitter.split(path, rangeCount);
+            log.info("Parsing CSV file {} in {} ranges on {} threads.", path, ranges.size(), pool.getParallelism());
+            return parseRanges(pool, path, ranges, chunkSize, handler, config.isPreserveOrder());
+        }
+        catch (EmployeeChunkBuffer.HandlerException e) {
+            throw e.getCause();
+        }
+        catch (IOException e) {
+            log.error("Failed to read CSV file", e);
+            throw new FileProcessingException("Failed to read CSV file");
+        }
+        finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Parses at most as many ranges at a time as the pool has threads. Each parser
+     * hands its output over through a queue holding at most {@link #SEGMENTS_AHEAD}
+     * segments per running range, so memory is bounded by chunk count rather than by
+     * range size. In file order the consumer drains one range's queue at a time and
+     * later parsers wait once theirs is full; otherwise all parsers share one queue
+     * and the consumer takes whatever comes first.
+     */
+    private long parseRanges(ForkJoinPool pool, Path path, List<CsvRange> ranges, int chunkSize,
+                             EmployeeChunkHandler handler, boolean preserveOrder) throws IOException {
+        int window = pool.getParallelism();
+        BlockingQueue<Segment> shared = preserveOrder ? null : new ArrayBlockingQueue<>(window * SEGMENTS_AHEAD);
+        Map<Integer, RunningRange> running = new LinkedHashMap<>();
+        int submitted = 0;
+        long total = 0;
+
+        while (submitted < ranges.size() || !running.isEmpty()) {
+            while (submitted < ranges.size() && running.size() < window) {
+                BlockingQueue<Segment> queue = preserveOrder ? new ArrayBlockingQueue<>(SEGMENTS_AHEAD) : shared;
+                RunningRange range = submit(pool, path, ranges.get(submitted), submitted, chunkSize, queue);
+                running.put(range.index(), range);
+                submitted++;
+            }
+            BlockingQueue<Segment> next = preserveOrder ? running.values().iterator().next().queue() : shared;
+            Segment segment = take(next);
+            total += segment.handOut(handler);
+            if (segment.last()) {
+                result(running.remove(segment.rangeIndex()).future());
+            }
+        }
+        return total;
+    }
+
+    private RunningRange submit(ForkJoinPool pool, Path path, CsvRange range, int index, int chunkSize,
+                                BlockingQueue<Segment> queue) {
+        Callable<Void> task = () -> {
+            RangeProducer producer = new RangeProducer(index, chunkSize, queue);
+            try {
+                parseRange(path, range, index == 0, chunkSize, producer);
+            } finally {
+                producer.close();
+            }
+            return null;
+        };
+        return new RunningRange(index, queue, pool.submit(task));
+    }
+
+    private void parseRange(Path path, CsvRange range, boolean withHeader, int chunkSize,
+                            EmployeeChunkHandler producer) throws IOException {
+        try (MappedFileCharSource source = new MappedFileCharSource(path, range.start(), range.end())) {
+            CsvTokenizer tokenizer = new CsvTokenizer(source, CsvTokenizer.DEFAULT_BUFFER_SIZE, range.firstLineNumber());
+            if (withHeader) {
+                CSVEmployeeFileReader.readHeader(tokenizer);
+            }
+            EmployeeChunkBuffer buffer = new EmployeeChunkBuffer(chunkSize, producer);
+            CSVEmployeeFileReader.readRecords(tokenizer, buffer);
+            buffer.finish();
+        }
+    }
+
+    private Segment take(BlockingQueue<Segment> queue) {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileProcessingException("Interrupted while parsing CSV file");
+        }
+    }
+
+    private void result(Future<Void> future) throws IOException {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileProcessingException("Interrupted while parsing CSV file");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof FileProcessingException fileProcessingException) {
+                throw fileProcessingException;
+            }
+            log.error("Unexpected error while processing CSV file", cause);
+            throw new FileProcessingException("Unexpected error while processing CSV file");
+        }
+    }
+
+    private record RunningRange(int index, BlockingQueue<Segment> queue, Future<Void> future) {
+    }
+
+    /**
+     * Collects what a parser produces into segments: the rows rejected since the
+     * previous chunk followed by the chunk itself, which is the order the serial
+     * reader reports them in. Long runs of rejected rows are flushed on their own
+     * once they reach the chunk size.
+     */
+    private static final class RangeProducer implements EmployeeChunkHandler {
+
+        private final int rangeIndex;
+        private final int chunkSize;
+        private final BlockingQueue<Segment> queue;
+        private List<RejectedRow> rejectedRows = new ArrayList<>();
+
+        private RangeProducer(int rangeIndex, int chunkSize, BlockingQueue<Segment> queue) {
+            this.rangeIndex = rangeIndex;
+            this.chunkSize = chunkSize;
+            this.queue = queue;
+        }
+
+        @Override
+        public void onChunk(EmployeeChunk chunk) {
+            put(chunk, false);
+        }
+
+        @Override
+        public void onRejectedRow(long rowNumber, String reason) {
+            rejectedRows.add(new RejectedRow(rowNumber, reason));
+            if (rejectedRows.size() >= chunkSize) {
+                put(null, false);
+            }
+        }
+
+        /**
+         * Marks the end of the range, also when parsing failed, so the consumer never
+         * waits on a parser that has stopped. Gives up quietly once the read is
+         * cancelled and the pool interrupts its threads.
+         */
+        private void close() {
+            try {
+                put(null, true);
+            } catch (FileProcessingException e) {
+                log.debug("CSV range {} was cancelled", rangeIndex);
+            }
+        }
+
+        private void put(EmployeeChunk chunk, boolean last) {
+            try {
+                queue.put(new Segment(rangeIndex, rejectedRows, chunk, last));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FileProcessingException("Interrupted while parsing CSV file");
+            }
+            rejectedRows = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Rows rejected before {@code chunk} followed by the chunk, which is null when
+     * only rejections are handed out. {@code last} marks the end of the range.
+     */
+    private record Segment(int rangeIndex, List<RejectedRow> rejectedRows, EmployeeChunk chunk, boolean last) {
+
+        private long handOut(EmployeeChunkHandler handler) {
+            try {
+                for (RejectedRow rejectedRow : rejectedRows) {
+                    handler.onRejectedRow(rejectedRow.rowNumber(), rejectedRow.reason());
+                }
+                if (chunk == null) {
+                    return 0;
+                }
+                handler.onChunk(chunk);
+                return chunk.size();
+            } catch (RuntimeException e) {
+                throw new EmployeeChunkBuffer.HandlerException(e);
+            }
+        }
+    }
+
+    private record RejectedRow(long rowNumber, String reason) {
+    }
+}
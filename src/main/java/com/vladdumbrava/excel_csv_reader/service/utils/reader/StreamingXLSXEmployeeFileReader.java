@@ -0,0 +1,189 @@
+package com.vladdumbrava.excel_csv_reader.service.utils.reader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import javax.xml.parsers.ParserConfigurationException;
+
+import com.vladdumbrava.excel_csv_reader.exception.FileProcessingException;
+import com.vladdumbrava.excel_csv_reader.model.Employee;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import static com.vladdumbrava.excel_csv_reader.service.utils.DataTypeParser.*;
+
+/**
+ * XLSX reader built on POI's event model. The first sheet is parsed with SAX and
+ * every row is turned into an {@link Employee} as soon as its closing tag is seen
+ * and handed out one chunk at a time, so memory stays flat regardless of the
+ * number of rows. Only the shared strings table is kept in memory.
+ */
+@Component("streamingXlsxReader")
+@Slf4j
+public class StreamingXLSXEmployeeFileReader implements EmployeeFileReader {
+
+    private static final int EXPECTED_COLUMNS = 7;
+
+    @Override
+    public long read(MultipartFile file, int chunkSize, EmployeeChunkHandler handler) {
+        EmployeeChunkBuffer buffer = new EmployeeChunkBuffer(chunkSize, handler);
+        Path tempFile = null;
+        try {
+            // OPCPackage only avoids buffering the whole zip when it can open a real file.
+            tempFile = Files.createTempFile("employees-", ".xlsx");
+            try (InputStream inputStream = file.getInputStream()) {
+                Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            try (OPCPackage pkg = OPCPackage.open(tempFile.toFile(), PackageAccess.READ)) {
+                log.info("Opened Excel file for streaming: {}", file.getOriginalFilename());
+                parseFirstSheet(pkg, buffer);
+            }
+
+            long employees = buffer.finish();
+            log.info("Successfully streamed {} employee records from Excel file.", employees);
+            return employees;
+        }
+        catch (EmployeeChunkBuffer.HandlerException e) {
+            throw e.getCause();
+        }
+        catch (IOException | OpenXML4JException | SAXException | ParserConfigurationException e) {
+            log.error("Error reading Excel file: {}", file.getOriginalFilename(), e);
+            throw new FileProcessingException("Failed to read Excel file: " + file.getOriginalFilename());
+        }
+        catch (Exception e) {
+            if (e instanceof FileProcessingException) {
+                throw e;
+            }
+            log.error("Unexpected error while processing Excel file", e);
+            throw new FileProcessingException("Unexpected error while processing Excel file");
+        }
+        finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    private void parseFirstSheet(OPCPackage pkg, EmployeeChunkBuffer buffer)
+            throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+        XSSFReader xssfReader = new XSSFReader(pkg);
+        ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg);
+        StylesTable styles = xssfReader.getStylesTable();
+
+        Iterator<InputStream> sheets = xssfReader.getSheetsData();
+        if (!sheets.hasNext()) {
+            log.error("No sheet found in Excel file.");
+            throw new FileProcessingException("No sheet found in Excel file.");
+        }
+
+        EmployeeRowHandler rowHandler = new EmployeeRowHandler(buffer);
+        try (InputStream sheet = sheets.next()) {
+            XMLReader parser = XMLHelper.newXMLReader();
+            parser.setContentHandler(new XSSFSheetXMLHandler(
+                    styles, null, sharedStrings, rowHandler, XLSXEmployeeFileReader.cellFormatter(), false));
+            parser.parse(new InputSource(sheet));
+        }
+
+        if (!rowHandler.headerSeen) {
+            log.error("Excel file has no header row.");
+            throw new FileProcessingException("Excel file is missing header row.");
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete temporary file {}", path, e);
+        }
+    }
+
+    /**
+     * Collects the cells of the current row and emits an employee on {@code endRow}.
+     * Cells that are missing from the sheet XML stay {@code null}, which the
+     * {@code DataTypeParser} methods treat the same way as a blank cell.
+     */
+    private static final class EmployeeRowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final EmployeeChunkBuffer buffer;
+        private final String[] cells = new String[EXPECTED_COLUMNS];
+        private boolean headerSeen;
+
+        private EmployeeRowHandler(EmployeeChunkBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            if (!headerSeen && rowNum != 0) {
+                log.error("Excel file has no header row.");
+                throw new FileProcessingException("Excel file is missing header row.");
+            }
+            Arrays.fill(cells, null);
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (rowNum == 0) {
+                headerSeen = true;
+                return;
+            }
+
+            Employee employee = new Employee();
+            employee.setName(handleNullityInString(cells[0]));
+            employee.setDateOfBirth(parseDate(cells[1]));
+            employee.setGender(parseGender(cells[2]));
+            employee.setRole(handleNullityInString(cells[3]));
+            employee.setEmail(handleNullityInString(cells[4]));
+            employee.setPhoneNumber(handleNullityInString(cells[5]));
+            employee.setActive(parseBoolean(cells[6]));
+
+            String invalidValue = InvalidValues.check(employee, cells[1], cells[2], cells[6]);
+            if (invalidValue != null) {
+                buffer.reject(rowNum + 1L, invalidValue);
+                return;
+            }
+            buffer.add(rowNum + 1L, employee);
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = columnIndex(cellReference);
+            if (column < EXPECTED_COLUMNS) {
+                cells[column] = formattedValue;
+            }
+        }
+
+        private static int columnIndex(String cellReference) {
+            int column = 0;
+            for (int i = 0; i < cellReference.length(); i++) {
+                char c = cellReference.charAt(i);
+                if (c < 'A' || c > 'Z') {
+                    break;
+                }
+                column = column * 26 + (c - 'A' + 1);
+            }
+            return column - 1;
+        }
+    }
+}
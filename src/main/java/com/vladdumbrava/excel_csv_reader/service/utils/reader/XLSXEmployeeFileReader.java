@@ -2,16 +2,12 @@ package com.vladdumbrava.excel_csv_reader.service.utils.reader;
 
 import java.io.IOException;
 import java.time.LocalDate;
-import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 import com.vladdumbrava.excel_csv_reader.exception.FileProcessingException;
 import com.vladdumbrava.excel_csv_reader.model.Employee;
 import com.vladdumbrava.excel_csv_reader.model.Gender;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DataFormatter;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
@@ -28,7 +24,9 @@ import static com.vladdumbrava.excel_csv_reader.service.utils.DataTypeParser.*;
 public class XLSXEmployeeFileReader implements EmployeeFileReader {
 
     @Override
-    public List<Employee> read(MultipartFile file) {
+    public long read(MultipartFile file, int chunkSize, EmployeeChunkHandler handler) {
+        EmployeeChunkBuffer buffer = new EmployeeChunkBuffer(chunkSize, handler);
+        DataFormatter formatter = cellFormatter();
         try (Workbook workbook = new XSSFWorkbook(file.getInputStream())) {
             log.info("Opened Excel file for reading: {}", file.getOriginalFilename());
 
@@ -47,36 +45,49 @@ public class XLSXEmployeeFileReader implements EmployeeFileReader {
             int totalRows = sheet.getLastRowNum();
             log.info("Processing Excel sheet with {} data rows.", totalRows);
 
-            List<Employee> employees = IntStream.rangeClosed(1, totalRows)
-                    .mapToObj(sheet::getRow)
-                    .filter(Objects::nonNull)
-                    .map(row -> {
-                        String name = handleNullityInString(getCellAsString(row, 0));
-                        LocalDate dateOfBirth = parseDate(getCellAsString(row, 1));
-                        Gender gender = parseGender(getCellAsString(row, 2));
-                        String role = handleNullityInString(getCellAsString(row, 3));
-                        String email = handleNullityInString(getCellAsString(row, 4));
-                        String phone = handleNullityInString(getCellAsString(row, 5));
-                        Boolean active = parseBoolean(getCellAsString(row, 6));
-
-                        Employee employee = new Employee();
-                        employee.setName(name);
-                        employee.setDateOfBirth(dateOfBirth);
-                        employee.setGender(gender);
-                        employee.setRole(role);
-                        employee.setEmail(email);
-                        employee.setPhoneNumber(phone);
-                        employee.setActive(active);
-
-                        log.info("Parsed employee from row {}: {}", row.getRowNum(), employee);
-                        return employee;
-                    })
-                    .collect(Collectors.toList());
-
-            log.info("Successfully read {} employee records from Excel file.", employees.size());
+            for (int rowIndex = 1; rowIndex <= totalRows; rowIndex++) {
+                Row row = sheet.getRow(rowIndex);
+                if (row == null) {
+                    continue;
+                }
+                String dateOfBirthCell = formatter.formatCellValue(row.getCell(1));
+                String genderCell = formatter.formatCellValue(row.getCell(2));
+                String activeCell = formatter.formatCellValue(row.getCell(6));
+
+                String name = handleNullityInString(formatter.formatCellValue(row.getCell(0)));
+                LocalDate dateOfBirth = parseDate(dateOfBirthCell);
+                Gender gender = parseGender(genderCell);
+                String role = handleNullityInString(formatter.formatCellValue(row.getCell(3)));
+                String email = handleNullityInString(formatter.formatCellValue(row.getCell(4)));
+                String phone = handleNullityInString(formatter.formatCellValue(row.getCell(5)));
+                Boolean active = parseBoolean(activeCell);
+
+                Employee employee = new Employee();
+                employee.setName(name);
+                employee.setDateOfBirth(dateOfBirth);
+                employee.setGender(gender);
+                employee.setRole(role);
+                employee.setEmail(email);
+                employee.setPhoneNumber(phone);
+                employee.setActive(active);
+
+                String invalidValue = InvalidValues.check(employee, dateOfBirthCell, genderCell, activeCell);
+                if (invalidValue != null) {
+                    buffer.reject(row.getRowNum() + 1L, invalidValue);
+                    continue;
+                }
+
+                buffer.add(row.getRowNum() + 1L, employee);
+            }
+
+            long employees = buffer.finish();
+            log.info("Successfully read {} employee records from Excel file.", employees);
             return employees;
 
         }
+        catch (EmployeeChunkBuffer.HandlerException e) {
+            throw e.getCause();
+        }
         catch (IOException e) {
             log.error("Error reading Excel file: {}", file.getOriginalFilename(), e);
             throw new FileProcessingException("Failed to read Excel file: " + file.getOriginalFilename());
@@ -90,15 +101,17 @@ public class XLSXEmployeeFileReader implements EmployeeFileReader {
         }
     }
 
-    private String getCellAsString(Row row, int colIndex) {
-        Cell cell = row.getCell(colIndex, Row.MissingCellPolicy.CREATE_NULL_AS_BLANK);
-        return switch (cell.getCellType()) {
-            case STRING -> cell.getStringCellValue().trim();
-            case NUMERIC -> String.valueOf(cell.getNumericCellValue()).trim();
-            case BOOLEAN -> String.valueOf(cell.getBooleanCellValue()).trim();
-            case BLANK -> "N/A";
-            default -> "UNKNOWN";
-        };
+    /**
+     * Formats cells as Excel displays them, so a numeric phone number reads as
+     * {@code 40712345678} rather than {@code 4.0712345678E10}. Formula cells give
+     * their cached result. The streaming reader formats with the same settings, so a
+     * sheet imports the same values whichever reader the file size selects. Not
+     * thread-safe; create one per read.
+     */
+    static DataFormatter cellFormatter() {
+        DataFormatter formatter = new DataFormatter();
+        formatter.setUseCachedValuesForFormulaCells(true);
+        return formatter;
     }
 
 }
@@ -0,0 +1,92 @@
+package com.vladdumbrava.excel_csv_reader.service.utils.writer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeDTO;
+import com.vladdumbrava.excel_csv_reader.model.ExportFormat;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes RFC 4180 CSV: fields containing a comma, quote or line break are quoted
+ * and embedded quotes doubled; {@code null} values are left empty.
+ */
+@Component
+public class CSVEmployeeFileWriter implements EmployeeFileWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Override
+    public ExportFormat format() {
+        return ExportFormat.CSV;
+    }
+
+    @Override
+    public long write(Iterator<EmployeeDTO> employees, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write(String.join(",", HEADER));
+        writer.write("\r\n");
+
+        long written = 0;
+        while (employees.hasNext()) {
+            EmployeeDTO employee = employees.next();
+            writeField(writer, employee.name());
+            writer.write(',');
+            writeField(writer, employee.dateOfBirth());
+            writer.write(',');
+            writeField(writer, employee.gender());
+            writer.write(',');
+            writeField(writer, employee.role());
+            writer.write(',');
+            writeField(writer, employee.email());
+            writer.write(',');
+            writeField(writer, employee.phoneNumber());
+            writer.write(',');
+            writeField(writer, employee.active());
+            writer.write("\r\n");
+            written++;
+        }
+        writer.flush();
+        return written;
+    }
+
+    /**
+     * Writes one field, quoted if needed. Shared with other CSV files the application
+     * produces, such as import rejection files.
+     */
+    public static void writeField(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String s = value.toString();
+        if (!needsQuoting(s)) {
+            writer.write(s);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private static boolean needsQuoting(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,26 @@
+package com.vladdumbrava.excel_csv_reader.service.utils.writer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeDTO;
+import com.vladdumbrava.excel_csv_reader.model.ExportFormat;
+
+public interface EmployeeFileWriter {
+
+    /**
+     * Column order shared with the readers, so an export can be imported again.
+     */
+    String[] HEADER = {"name", "dateOfBirth", "gender", "role", "email", "phoneNumber", "active"};
+
+    ExportFormat format();
+
+    /**
+     * Writes a header row followed by one row per employee. The iterator is consumed
+     * once and no rows are retained; {@code out} is flushed but left open.
+     *
+     * @return the number of employees written
+     */
+    long write(Iterator<EmployeeDTO> employees, OutputStream out) throws IOException;
+}
@@ -0,0 +1,80 @@
+package com.vladdumbrava.excel_csv_reader.service.utils.writer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+
+import com.vladdumbrava.excel_csv_reader.config.QueryProperties;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeDTO;
+import com.vladdumbrava.excel_csv_reader.model.ExportFormat;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes XLSX through POI's streaming SXSSF model. Only the last
+ * {@code employees.query.export.xlsx-row-window} rows stay in memory; older rows
+ * are flushed to a gzip-compressed temporary file and zipped into {@code out} once
+ * the last row is written. Dates are written as ISO text cells, which both XLSX
+ * readers parse back.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class XLSXEmployeeFileWriter implements EmployeeFileWriter {
+
+    private final QueryProperties queryProperties;
+
+    @Override
+    public ExportFormat format() {
+        return ExportFormat.XLSX;
+    }
+
+    @Override
+    public long write(Iterator<EmployeeDTO> employees, OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(queryProperties.getExport().getXlsxRowWindow());
+        workbook.setCompressTempFiles(true);
+        try {
+            SXSSFSheet sheet = workbook.createSheet("Employees");
+            Row header = sheet.createRow(0);
+            for (int i = 0; i < HEADER.length; i++) {
+                header.createCell(i).setCellValue(HEADER[i]);
+            }
+
+            int rowNum = 1;
+            while (employees.hasNext()) {
+                EmployeeDTO employee = employees.next();
+                Row row = sheet.createRow(rowNum++);
+                setCell(row, 0, employee.name());
+                setCell(row, 1, employee.dateOfBirth());
+                setCell(row, 2, employee.gender());
+                setCell(row, 3, employee.role());
+                setCell(row, 4, employee.email());
+                setCell(row, 5, employee.phoneNumber());
+                if (employee.active() != null) {
+                    row.createCell(6).setCellValue(employee.active());
+                }
+            }
+
+            workbook.write(out);
+            out.flush();
+            return rowNum - 1L;
+        }
+        finally {
+            if (!workbook.dispose()) {
+                log.warn("Could not delete temporary files of XLSX export.");
+            }
+            workbook.close();
+        }
+    }
+
+    private static void setCell(Row row, int column, Object value) {
+        if (value != null) {
+            row.createCell(column).setCellValue(value.toString());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+CREATE TABLE import_jobs(
+    job_id UUID PRIMARY KEY,
+    filename TEXT NOT NULL,
+    mode TEXT NOT NULL,
+    status TEXT NOT NULL,
+    rows_parsed BIGINT NOT NULL DEFAULT 0,
+    rows_persisted BIGINT NOT NULL DEFAULT 0,
+    rows_rejected BIGINT NOT NULL DEFAULT 0,
+    error_message TEXT,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    started_at TIMESTAMP WITH TIME ZONE,
+    finished_at TIMESTAMP WITH TIME ZONE
+);
@@ -0,0 +1,10 @@
+CREATE TABLE imported_files(
+    content_hash TEXT NOT NULL,
+    mode TEXT NOT NULL,
+    filename TEXT,
+    result TEXT NOT NULL,
+    imported_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (content_hash, mode)
+);
+
+CREATE INDEX imported_files_imported_at_idx ON imported_files (imported_at);
@@ -0,0 +1,5 @@
+CREATE TABLE employee_fingerprints(
+    email_hash BIGINT PRIMARY KEY,
+    email TEXT NOT NULL,
+    row_hash BIGINT NOT NULL
+);
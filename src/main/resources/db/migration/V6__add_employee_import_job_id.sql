@@ -0,0 +1,4 @@
+ALTER TABLE employees
+ADD COLUMN import_job_id UUID;
+
+CREATE INDEX employees_import_job_id_idx ON employees (import_job_id);
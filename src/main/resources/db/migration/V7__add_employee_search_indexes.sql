@@ -0,0 +1,9 @@
+-- Equality filters of the search API. The id is the second key so that a keyset
+-- page on one filter is a single range scan, already in id order.
+CREATE INDEX employees_role_idx ON employees (role, employee_id);
+
+CREATE INDEX employees_gender_idx ON employees (gender, employee_id);
+
+CREATE INDEX employees_active_idx ON employees (active, employee_id);
+
+CREATE INDEX employees_date_of_birth_idx ON employees (date_of_birth);
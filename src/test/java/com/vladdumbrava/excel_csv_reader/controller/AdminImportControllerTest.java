@@ -0,0 +1,41 @@
+package com.vladdumbrava.excel_csv_reader.controller;
+
+import java.util.List;
+
+import com.vladdumbrava.excel_csv_reader.dto.ImportResultDTO;
+import com.vladdumbrava.excel_csv_reader.model.ImportMode;
+import com.vladdumbrava.excel_csv_reader.service.EmployeeService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AdminImportControllerTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @InjectMocks
+    private AdminImportController adminImportController;
+
+    @Test
+    void givenServerFilePath_whenImportServerFile_thenReturnOk() {
+        ImportResultDTO result = new ImportResultDTO(ImportMode.COPY, 10, 10, 0, List.of(), List.of(), null, null, null);
+        when(employeeService.importServerFile("nightly/employees.csv", ImportMode.COPY)).thenReturn(result);
+
+        ResponseEntity<ImportResultDTO> response =
+                adminImportController.importServerFile("nightly/employees.csv", ImportMode.COPY);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(result);
+        verify(employeeService, times(1)).importServerFile("nightly/employees.csv", ImportMode.COPY);
+    }
+}
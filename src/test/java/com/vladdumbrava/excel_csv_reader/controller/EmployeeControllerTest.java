@@ -1,22 +1,47 @@
 package com.vladdumbrava.excel_csv_reader.controller;
 
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
+import com.vladdumbrava.excel_csv_reader.dto.BulkDeleteResultDTO;
+import com.vladdumbrava.excel_csv_reader.dto.BulkUpdateResultDTO;
 import com.vladdumbrava.excel_csv_reader.dto.EmployeeDTO;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeNameUpdateDTO;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeePageDTO;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeStatsDTO;
+import com.vladdumbrava.excel_csv_reader.dto.ImportJobDTO;
+import com.vladdumbrava.excel_csv_reader.dto.ImportResultDTO;
 import com.vladdumbrava.excel_csv_reader.model.Employee;
+import com.vladdumbrava.excel_csv_reader.model.ExportFormat;
 import com.vladdumbrava.excel_csv_reader.model.Gender;
+import com.vladdumbrava.excel_csv_reader.model.ImportJobStatus;
+import com.vladdumbrava.excel_csv_reader.model.ImportMode;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeSearchCriteria;
+import com.vladdumbrava.excel_csv_reader.service.EmployeeDeletionService;
+import com.vladdumbrava.excel_csv_reader.service.EmployeeExportService;
 import com.vladdumbrava.excel_csv_reader.service.EmployeeService;
+import com.vladdumbrava.excel_csv_reader.service.ImportJobService;
+import com.vladdumbrava.excel_csv_reader.service.RejectionFileService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -27,6 +52,18 @@ public class EmployeeControllerTest {
     @Mock
     private EmployeeService employeeService;
 
+    @Mock
+    private ImportJobService importJobService;
+
+    @Mock
+    private EmployeeExportService employeeExportService;
+
+    @Mock
+    private RejectionFileService rejectionFileService;
+
+    @Mock
+    private EmployeeDeletionService employeeDeletionService;
+
     @InjectMocks
     private EmployeeController employeeController;
 
@@ -40,11 +77,14 @@ public class EmployeeControllerTest {
                 fileContent
         );
 
-        ResponseEntity<String> response = employeeController.importEmployees(mockFile);
+        ImportResultDTO result = new ImportResultDTO(ImportMode.BATCH, 1, 1, 0, List.of(), List.of(), null, null, null);
+        when(employeeService.importEmployees(mockFile, ImportMode.BATCH)).thenReturn(result);
+
+        ResponseEntity<ImportResultDTO> response = employeeController.importEmployees(mockFile, ImportMode.BATCH);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).isEqualTo("Employees imported successfully.");
-        verify(employeeService, times(1)).importEmployees(mockFile);
+        assertThat(response.getBody()).isEqualTo(result);
+        verify(employeeService, times(1)).importEmployees(mockFile, ImportMode.BATCH);
     }
 
     @Test
@@ -59,11 +99,14 @@ public class EmployeeControllerTest {
                     inputStream
             );
 
-            ResponseEntity<String> response = employeeController.importEmployees(mockFile);
+            ImportResultDTO result = new ImportResultDTO(ImportMode.COPY, 4, 4, 0, List.of(), List.of(), null, null, null);
+            when(employeeService.importEmployees(mockFile, ImportMode.COPY)).thenReturn(result);
+
+            ResponseEntity<ImportResultDTO> response = employeeController.importEmployees(mockFile, ImportMode.COPY);
 
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-            assertThat(response.getBody()).isEqualTo("Employees imported successfully.");
-            verify(employeeService, times(1)).importEmployees(mockFile);
+            assertThat(response.getBody()).isEqualTo(result);
+            verify(employeeService, times(1)).importEmployees(mockFile, ImportMode.COPY);
         }
     }
 
@@ -97,6 +140,30 @@ public class EmployeeControllerTest {
         assertThat(response.getBody().name()).isEqualTo("John Doe");
     }
 
+    @Test
+    void whenGetEmployeeStats_thenReturnOk() {
+        EmployeeStatsDTO stats = new EmployeeStatsDTO(3, 2, 1, Map.of("Engineer", 3L), Map.of(Gender.MALE, 3L),
+                Instant.EPOCH);
+        when(employeeService.getEmployeeStats()).thenReturn(stats);
+
+        ResponseEntity<EmployeeStatsDTO> response = employeeController.getEmployeeStats();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(stats);
+    }
+
+    @Test
+    void givenId_whenGetEmployee_thenReturnOk() {
+        EmployeeDTO employeeDTO = new EmployeeDTO("John Doe", LocalDate.of(1990, 1, 1), Gender.MALE, "Engineer",
+                "john@example.com", "1234567890", true);
+        when(employeeService.getEmployee(1L)).thenReturn(employeeDTO);
+
+        ResponseEntity<EmployeeDTO> response = employeeController.getEmployee(1L);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(employeeDTO);
+    }
+
     @Test
     void givenId_whenDeleteEmployee_thenReturnNoContent() {
         employeeService.createEmployee(new EmployeeDTO("example",
@@ -134,14 +201,43 @@ public class EmployeeControllerTest {
                 "+4100000007",
                 true));
 
-        List<EmployeeDTO> employees = employeeService.getAllEmployees();
+        EmployeePageDTO<EmployeeDTO> employees = employeeService.getEmployees(null, null);
 
-        ResponseEntity<List<EmployeeDTO>> response = employeeController.getAllEmployees();
+        ResponseEntity<EmployeePageDTO<EmployeeDTO>> response = employeeController.getEmployees(null, null);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(employees);
     }
 
+    @Test
+    void whenStreamEmployees_thenWriteNdjsonFromService() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        when(employeeService.writeEmployeesAsNdjson(out)).thenReturn(2L);
+
+        ResponseEntity<StreamingResponseBody> response = employeeController.streamEmployees();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+
+        response.getBody().writeTo(out);
+
+        verify(employeeService, times(1)).writeEmployeesAsNdjson(out);
+    }
+
+    @Test
+    void givenXlsxFormat_whenExportEmployees_thenReturnAttachmentStreamedFromService() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        when(employeeExportService.resolveFormat("xlsx")).thenReturn(ExportFormat.XLSX);
+
+        ResponseEntity<StreamingResponseBody> response = employeeController.exportEmployees("xlsx");
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).hasToString(ExportFormat.XLSX.getContentType());
+        assertThat(response.getHeaders().getContentDisposition().getFilename()).isEqualTo("employees.xlsx");
+
+        response.getBody().writeTo(out);
+
+        verify(employeeExportService, times(1)).exportEmployees(ExportFormat.XLSX, out);
+    }
+
     @Test
     void givenIdAndNewEmployee_whenUpdateEmployee_thenReturnOk() {
         Long id = 1L;
@@ -190,4 +286,102 @@ public class EmployeeControllerTest {
 
         verify(employeeService, times(1)).updateEmployeeName(id, newName);
     }
+
+    @Test
+    void givenNameUpdates_whenUpdateEmployeeNames_thenReturnMatchedAndChangedCounts() {
+        List<EmployeeNameUpdateDTO> updates = List.of(
+                new EmployeeNameUpdateDTO(1L, "Renamed"),
+                new EmployeeNameUpdateDTO(2L, "Same Name"));
+        when(employeeService.updateEmployeeNames(updates)).thenReturn(new BulkUpdateResultDTO(2, 2, 1));
+
+        ResponseEntity<BulkUpdateResultDTO> response = employeeController.updateEmployeeNames(updates);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(new BulkUpdateResultDTO(2, 2, 1));
+    }
+
+    @Test
+    void givenFilters_whenSearchEmployees_thenReturnPage() {
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria("Engineer", Gender.FEMALE, true,
+                LocalDate.of(1990, 1, 1), null, "ann", null);
+        EmployeePageDTO<EmployeeDTO> page = new EmployeePageDTO<>(List.of(), null);
+        when(employeeService.searchEmployees(criteria, "cursor", 50)).thenReturn(page);
+
+        ResponseEntity<EmployeePageDTO<EmployeeDTO>> response = employeeController.searchEmployees(
+                "Engineer", Gender.FEMALE, true, LocalDate.of(1990, 1, 1), null, "ann", null, "cursor", 50);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isSameAs(page);
+    }
+
+    @Test
+    void givenIds_whenDeleteEmployees_thenReturnDeletedCount() {
+        when(employeeDeletionService.deleteEmployees(List.of(1L, 2L))).thenReturn(new BulkDeleteResultDTO(2, 1));
+
+        ResponseEntity<BulkDeleteResultDTO> response = employeeController.deleteEmployees(List.of(1L, 2L));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(new BulkDeleteResultDTO(2, 1));
+    }
+
+    @Test
+    void givenFilter_whenDeleteEmployees_thenReturnDeletedCount() {
+        when(employeeDeletionService.deleteEmployees(false, null)).thenReturn(new BulkDeleteResultDTO(1500, 2));
+
+        ResponseEntity<BulkDeleteResultDTO> response = employeeController.deleteEmployees(false, null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(new BulkDeleteResultDTO(1500, 2));
+    }
+
+    @Test
+    void givenImportJob_whenDeleteImportedEmployees_thenReturnDeletedCount() {
+        UUID jobId = UUID.randomUUID();
+        when(employeeDeletionService.deleteImportedEmployees(jobId)).thenReturn(new BulkDeleteResultDTO(3, 1));
+
+        ResponseEntity<BulkDeleteResultDTO> response = employeeController.deleteImportedEmployees(jobId);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(new BulkDeleteResultDTO(3, 1));
+    }
+
+    @Test
+    void givenCsv_whenImportEmployeesAsync_thenReturnAccepted() {
+        MockMultipartFile mockFile = new MockMultipartFile("file", "employees.csv", "text/csv", new byte[0]);
+        ImportJobDTO job = new ImportJobDTO(UUID.randomUUID(), "employees.csv", ImportMode.BATCH,
+                ImportJobStatus.QUEUED, 0, 0, 0, 0, null, Instant.now(), null, null);
+        when(importJobService.submit(mockFile, ImportMode.BATCH)).thenReturn(job);
+
+        ResponseEntity<ImportJobDTO> response = employeeController.importEmployeesAsync(mockFile, ImportMode.BATCH);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getBody()).isEqualTo(job);
+    }
+
+    @Test
+    void givenJobId_whenGetImportJob_thenReturnOk() {
+        UUID jobId = UUID.randomUUID();
+        ImportJobDTO job = new ImportJobDTO(jobId, "employees.csv", ImportMode.BATCH,
+                ImportJobStatus.COMPLETED, 10, 9, 1, 100, null, Instant.now(), Instant.now(), Instant.now());
+        when(importJobService.getJob(jobId)).thenReturn(job);
+
+        ResponseEntity<ImportJobDTO> response = employeeController.getImportJob(jobId);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(job);
+    }
+
+    @Test
+    void givenRejectionFileId_whenGetImportRejections_thenReturnCsvAttachment(@TempDir Path directory) throws Exception {
+        UUID id = UUID.randomUUID();
+        Path file = Files.writeString(directory.resolve(id + ".csv"), "row_number,reason\r\n3,role is required\r\n");
+        when(rejectionFileService.getFile(id)).thenReturn(file);
+
+        ResponseEntity<Resource> response = employeeController.getImportRejections(id);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).hasToString("text/csv");
+        assertThat(response.getHeaders().getContentDisposition().getFilename()).isEqualTo("rejections-" + id + ".csv");
+        assertThat(response.getBody().getContentAsByteArray()).isEqualTo(Files.readAllBytes(file));
+    }
 }
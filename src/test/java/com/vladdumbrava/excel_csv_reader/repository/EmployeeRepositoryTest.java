@@ -1,16 +1,27 @@
 package com.vladdumbrava.excel_csv_reader.repository;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
 
+import com.vladdumbrava.excel_csv_reader.config.ImportProperties;
+import com.vladdumbrava.excel_csv_reader.dto.BulkUpdateResultDTO;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeContactDTO;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeDTO;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeNameUpdateDTO;
 import com.vladdumbrava.excel_csv_reader.model.Employee;
 import com.vladdumbrava.excel_csv_reader.model.Gender;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 
 @DataJpaTest
+@EnableConfigurationProperties(ImportProperties.class)
 public class EmployeeRepositoryTest {
 
     @Autowired
@@ -32,4 +43,209 @@ public class EmployeeRepositoryTest {
         Assertions.assertThat(savedEmployee).isNotNull();
         Assertions.assertThat(savedEmployee.getId()).isNotNull();
     }
+
+    @Test
+    public void givenEmployees_WhenBatchInsert_ThenAllRowsArePersisted() {
+        Employee first = new Employee();
+        first.setName("First");
+        first.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        first.setGender(Gender.FEMALE);
+        first.setRole("Engineer");
+        first.setEmail("first@email.com");
+        first.setActive(true);
+
+        Employee second = new Employee();
+        second.setName("Second");
+        second.setDateOfBirth(LocalDate.of(1991, 1, 1));
+        second.setRole("Tester");
+        second.setEmail("second@email.com");
+        second.setPhoneNumber("+40623654780");
+        second.setActive(false);
+
+        int inserted = employeeRepository.batchInsert(List.of(first, second));
+
+        Assertions.assertThat(inserted).isEqualTo(2);
+        Assertions.assertThat(employeeRepository.findAll())
+                .extracting(Employee::getEmail, Employee::getGender, Employee::getPhoneNumber)
+                .contains(
+                        Assertions.tuple("first@email.com", Gender.FEMALE, null),
+                        Assertions.tuple("second@email.com", null, "+40623654780"));
+    }
+
+    @Test
+    public void givenLastId_WhenFindNextPage_ThenReturnRowsAfterItInIdOrder() {
+        List<EmployeeRow> all = employeeRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(10), EmployeeRow.class);
+        Assertions.assertThat(all).extracting(EmployeeRow::id).isSorted();
+        Assertions.assertThat(all).extracting(EmployeeRow::email).contains("alice.smith@example.com");
+
+        List<EmployeeRow> page = employeeRepository.findByIdGreaterThanOrderByIdAsc(
+                all.getFirst().id(), Limit.of(1), EmployeeRow.class);
+
+        Assertions.assertThat(page).containsExactly(all.get(1));
+    }
+
+    @Test
+    public void givenContactProjection_WhenFindPage_ThenReturnOnlyContactColumns() {
+        List<EmployeeContactDTO> contacts = employeeRepository.findByIdGreaterThanOrderByIdAsc(
+                0L, Limit.unlimited(), EmployeeContactDTO.class);
+
+        Assertions.assertThat(contacts)
+                .extracting(EmployeeContactDTO::name, EmployeeContactDTO::email)
+                .contains(Assertions.tuple("Alice Smith", "alice.smith@example.com"));
+    }
+
+    @Test
+    public void whenStreamAllOrderById_ThenReturnEveryRowInIdOrder() {
+        List<String> pagedEmails = employeeRepository.findByIdGreaterThanOrderByIdAsc(
+                        0L, Limit.unlimited(), EmployeeRow.class)
+                .stream().map(EmployeeRow::email).toList();
+
+        try (Stream<EmployeeDTO> employees = employeeRepository.streamAllOrderById()) {
+            Assertions.assertThat(employees.map(EmployeeDTO::email)).containsExactlyElementsOf(pagedEmails);
+        }
+    }
+
+    @Test
+    public void givenNameUpdates_WhenBatchUpdateNames_ThenCountMatchedAndChangedRows() {
+        List<EmployeeRow> rows = employeeRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2), EmployeeRow.class);
+        EmployeeRow renamed = rows.get(0);
+        EmployeeRow unchanged = rows.get(1);
+
+        BulkUpdateResultDTO result = employeeRepository.batchUpdateNames(List.of(
+                new EmployeeNameUpdateDTO(renamed.id(), "Renamed"),
+                new EmployeeNameUpdateDTO(unchanged.id(), unchanged.name()),
+                new EmployeeNameUpdateDTO(Long.MAX_VALUE, "Nobody")));
+
+        Assertions.assertThat(result).isEqualTo(new BulkUpdateResultDTO(3, 2, 1));
+        Assertions.assertThat(reload(renamed).name()).isEqualTo("Renamed");
+    }
+
+    @Test
+    public void givenFullUpdates_WhenBatchUpdate_ThenWriteOnlyRowsWithDifferentValues() {
+        List<EmployeeRow> rows = employeeRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2), EmployeeRow.class);
+        Employee changed = toEntity(rows.get(0));
+        changed.setRole("Director");
+        changed.setPhoneNumber(null);
+        Employee unchanged = toEntity(rows.get(1));
+
+        BulkUpdateResultDTO result = employeeRepository.batchUpdate(List.of(changed, unchanged));
+
+        Assertions.assertThat(result).isEqualTo(new BulkUpdateResultDTO(2, 2, 1));
+        Assertions.assertThat(reload(rows.get(0)))
+                .extracting(EmployeeRow::role, EmployeeRow::phoneNumber)
+                .containsExactly("Director", null);
+        Assertions.assertThat(reload(rows.get(1))).isEqualTo(rows.get(1));
+    }
+
+    @Test
+    public void givenImportJobId_WhenBatchInsert_ThenFindMatchingReturnsOnlyThatJobsRowsInIdOrder() {
+        UUID jobId = UUID.randomUUID();
+        List<Employee> imported = List.of(newEmployee("first@email.com"), newEmployee("second@email.com"),
+                newEmployee("third@email.com"));
+        imported.forEach(employee -> employee.setImportJobId(jobId));
+        employeeRepository.batchInsert(imported);
+        EmployeeFilter filter = new EmployeeFilter(null, null, jobId);
+
+        List<EmployeeContactDTO> firstBatch = employeeRepository.findMatching(filter, 0, 2);
+        List<EmployeeContactDTO> secondBatch = employeeRepository.findMatching(filter, firstBatch.getLast().id(), 2);
+
+        Assertions.assertThat(firstBatch).extracting(EmployeeContactDTO::email)
+                .containsExactly("first@email.com", "second@email.com");
+        Assertions.assertThat(secondBatch).extracting(EmployeeContactDTO::email)
+                .containsExactly("third@email.com");
+    }
+
+    @Test
+    public void givenIdsAndFilter_WhenDeleteMatching_ThenDeleteOnlyRowsStillMatchingTheFilter() {
+        List<Long> ids = employeeRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2), EmployeeRow.class)
+                .stream().map(EmployeeRow::id).toList();
+
+        int deleted = employeeRepository.deleteMatching(ids, new EmployeeFilter(true, "Engineer", null));
+
+        Assertions.assertThat(deleted).isEqualTo(1);
+        Assertions.assertThat(employeeRepository.findByIdIn(ids, EmployeeContactDTO.class))
+                .extracting(EmployeeContactDTO::email)
+                .containsExactly("bob.johnson@example.com");
+    }
+
+    @Test
+    public void givenCriteria_WhenSearch_ThenReturnOnlyMatchingRowsInIdOrder() {
+        employeeRepository.batchInsert(List.of(newEmployee("Ann_Lee@Example.com"), newEmployee("annlee@example.com")));
+
+        List<EmployeeRow> byRole = employeeRepository.search(
+                new EmployeeSearchCriteria("Engineer", null, true, null, null, null, null), 0, 10);
+        List<EmployeeRow> byEmail = employeeRepository.search(
+                new EmployeeSearchCriteria(null, null, null, null, null, "ann_", null), 0, 10);
+        List<EmployeeRow> byNameAndBirth = employeeRepository.search(new EmployeeSearchCriteria(
+                null, null, null, LocalDate.of(1985, 1, 1), LocalDate.of(1985, 12, 31), null, "JOHN"), 0, 10);
+
+        Assertions.assertThat(byRole).extracting(EmployeeRow::email).containsExactly(
+                "alice.smith@example.com", "Ann_Lee@Example.com", "annlee@example.com");
+        Assertions.assertThat(employeeRepository.search(
+                        new EmployeeSearchCriteria("Engineer", null, true, null, null, null, null),
+                        byRole.getFirst().id(), 1))
+                .containsExactly(byRole.get(1));
+        Assertions.assertThat(byEmail).extracting(EmployeeRow::email).containsExactly("Ann_Lee@Example.com");
+        Assertions.assertThat(byNameAndBirth).extracting(EmployeeRow::email)
+                .containsExactly("bob.johnson@example.com");
+    }
+
+    @Test
+    public void givenNullPhoneNumber_WhenSearch_ThenMapActiveFromItsOwnColumn() {
+        employeeRepository.batchInsert(List.of(newEmployee("nophone@example.com")));
+
+        List<EmployeeRow> rows = employeeRepository.search(
+                new EmployeeSearchCriteria(null, null, null, null, null, "nophone@", null), 0, 10);
+
+        Assertions.assertThat(rows).singleElement().satisfies(row -> {
+            Assertions.assertThat(row.phoneNumber()).isNull();
+            Assertions.assertThat(row.active()).isTrue();
+        });
+    }
+
+    @Test
+    public void givenEmployees_WhenCountHeadcounts_ThenGroupByRoleGenderAndActive() {
+        Employee employee = new Employee();
+        employee.setName("Counted");
+        employee.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        employee.setGender(Gender.FEMALE);
+        employee.setRole("Statistician");
+        employee.setEmail("counted@email.com");
+        employee.setActive(true);
+        employeeRepository.save(employee);
+
+        List<EmployeeHeadcount> headcounts = employeeRepository.countHeadcounts();
+
+        Assertions.assertThat(headcounts).contains(new EmployeeHeadcount("Statistician", Gender.FEMALE, true, 1));
+        Assertions.assertThat(headcounts.stream().mapToLong(EmployeeHeadcount::employees).sum())
+                .isEqualTo(employeeRepository.count());
+    }
+
+    private EmployeeRow reload(EmployeeRow row) {
+        return employeeRepository.findByIdGreaterThanOrderByIdAsc(row.id() - 1, Limit.of(1), EmployeeRow.class)
+                .getFirst();
+    }
+
+    private static Employee newEmployee(String email) {
+        Employee employee = new Employee();
+        employee.setName("Imported");
+        employee.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        employee.setRole("Engineer");
+        employee.setEmail(email);
+        employee.setActive(true);
+        return employee;
+    }
+
+    private static Employee toEntity(EmployeeRow row) {
+        Employee employee = new Employee();
+        employee.setId(row.id());
+        employee.setName(row.name());
+        employee.setDateOfBirth(row.dateOfBirth());
+        employee.setGender(row.gender());
+        employee.setRole(row.role());
+        employee.setEmail(row.email());
+        employee.setPhoneNumber(row.phoneNumber());
+        employee.setActive(row.active());
+        return employee;
+    }
 }
@@ -0,0 +1,82 @@
+package com.vladdumbrava.excel_csv_reader.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.vladdumbrava.excel_csv_reader.model.Gender;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Runs {@code EXPLAIN} for every search filter against the PostgreSQL database of
+ * the application, with the table filled up to a million employees, and checks that
+ * none is answered by a sequential scan. The rows are inserted in the test
+ * transaction and rolled back afterwards. Tagged {@code postgres}, so it only runs
+ * with the {@code postgres-tests} Maven profile.
+ */
+@JdbcTest
+@Tag("postgres")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class EmployeeSearchQueryPlanTest {
+
+    private static final int ROWS = 1_000_000;
+
+    private static final String FILL_SQL = """
+            INSERT INTO employees (name, date_of_birth, gender, role, email, phone_number, active)
+            SELECT 'Plan Test ' || n,
+                   DATE '1960-01-01' + n % 20000,
+                   CASE WHEN n % 2 = 0 THEN 'MALE' ELSE 'FEMALE' END,
+                   'Plan Role ' || n % 50,
+                   'plan.test.' || n || '@example.invalid',
+                   NULL,
+                   n % 3 <> 0
+            FROM generate_series(1, ?) AS n""";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void fillTable() {
+        Integer existing = jdbcTemplate.queryForObject("SELECT count(*) FROM employees", Integer.class);
+        if (existing < ROWS) {
+            jdbcTemplate.update(FILL_SQL, ROWS - existing);
+        }
+        jdbcTemplate.execute("ANALYZE employees");
+    }
+
+    @Test
+    void givenMillionRows_whenExplainEverySearchFilter_thenNoneScansTheTable() {
+        List<EmployeeSearchCriteria> searches = List.of(
+                new EmployeeSearchCriteria("Plan Role 7", null, null, null, null, null, null),
+                new EmployeeSearchCriteria(null, Gender.FEMALE, null, null, null, null, null),
+                new EmployeeSearchCriteria(null, null, false, null, null, null, null),
+                new EmployeeSearchCriteria(null, null, null, LocalDate.of(1990, 1, 1), LocalDate.of(1990, 1, 31),
+                        null, null),
+                new EmployeeSearchCriteria(null, null, null, null, null, "plan.test.4242", null),
+                new EmployeeSearchCriteria(null, null, null, null, null, null, "test 4242"),
+                new EmployeeSearchCriteria("Plan Role 7", Gender.MALE, true, LocalDate.of(1970, 1, 1), null,
+                        "plan.test.1", "Plan"));
+
+        SoftAssertions softly = new SoftAssertions();
+        for (EmployeeSearchCriteria criteria : searches) {
+            for (long afterId : new long[]{0, 500_000}) {
+                String plan = explain(criteria, afterId);
+                softly.assertThat(plan).as("plan of %s after id %d", criteria, afterId)
+                        .doesNotContain("Seq Scan on employees");
+            }
+        }
+        softly.assertAll();
+    }
+
+    private String explain(EmployeeSearchCriteria criteria, long afterId) {
+        EmployeeSearchRepositoryImpl.SearchQuery query = EmployeeSearchRepositoryImpl.query(criteria, afterId, 101);
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + query.sql(), String.class, query.args()));
+    }
+}
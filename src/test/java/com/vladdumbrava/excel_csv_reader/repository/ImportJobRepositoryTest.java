@@ -0,0 +1,53 @@
+package com.vladdumbrava.excel_csv_reader.repository;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.UUID;
+
+import com.vladdumbrava.excel_csv_reader.config.ImportProperties;
+import com.vladdumbrava.excel_csv_reader.model.ImportJob;
+import com.vladdumbrava.excel_csv_reader.model.ImportJobStatus;
+import com.vladdumbrava.excel_csv_reader.model.ImportMode;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+@DataJpaTest
+@EnableConfigurationProperties(ImportProperties.class)
+public class ImportJobRepositoryTest {
+
+    @Autowired
+    private ImportJobRepository importJobRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    public void givenJob_WhenUpdateProgress_ThenCountersAreStored() {
+        ImportJob job = new ImportJob();
+        job.setId(UUID.randomUUID());
+        job.setFilename("employees.csv");
+        job.setMode(ImportMode.BATCH);
+        job.setStatus(ImportJobStatus.RUNNING);
+        job.setCreatedAt(Instant.now());
+        importJobRepository.saveAndFlush(job);
+
+        int updated = importJobRepository.updateProgress(job.getId(), 10, 8, 2);
+        entityManager.clear();
+
+        Assertions.assertThat(updated).isEqualTo(1);
+        Assertions.assertThat(importJobRepository.findById(job.getId()))
+                .hasValueSatisfying(stored -> {
+                    Assertions.assertThat(stored.getRowsParsed()).isEqualTo(10);
+                    Assertions.assertThat(stored.getRowsPersisted()).isEqualTo(8);
+                    Assertions.assertThat(stored.getRowsRejected()).isEqualTo(2);
+                });
+        Assertions.assertThat(importJobRepository.findByStatusIn(EnumSet.of(ImportJobStatus.RUNNING)))
+                .extracting(ImportJob::getId)
+                .containsExactly(job.getId());
+    }
+}
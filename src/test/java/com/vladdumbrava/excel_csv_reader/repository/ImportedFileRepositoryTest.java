@@ -0,0 +1,50 @@
+package com.vladdumbrava.excel_csv_reader.repository;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import com.vladdumbrava.excel_csv_reader.config.ImportProperties;
+import com.vladdumbrava.excel_csv_reader.model.ImportMode;
+import com.vladdumbrava.excel_csv_reader.model.ImportedFile;
+import com.vladdumbrava.excel_csv_reader.model.ImportedFileId;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest
+@EnableConfigurationProperties(ImportProperties.class)
+public class ImportedFileRepositoryTest {
+
+    @Autowired
+    private ImportedFileRepository importedFileRepository;
+
+    @Test
+    public void givenOldAndRecentImports_WhenDeleteImportedBefore_ThenOnlyOldOneIsRemoved() {
+        Instant now = Instant.now();
+        importedFileRepository.save(importedFile("old", now.minus(Duration.ofDays(10))));
+        importedFileRepository.save(importedFile("recent", now));
+        importedFileRepository.flush();
+
+        int deleted = importedFileRepository.deleteImportedBefore(now.minus(Duration.ofDays(7)));
+
+        Assertions.assertThat(deleted).isEqualTo(1);
+        Assertions.assertThat(importedFileRepository.findAll())
+                .extracting(ImportedFile::getContentHash)
+                .containsExactly("recent");
+        Assertions.assertThat(importedFileRepository.findById(new ImportedFileId("recent", ImportMode.BATCH)))
+                .hasValueSatisfying(stored -> Assertions.assertThat(stored.getResult()).hasSize(5_000));
+    }
+
+    private ImportedFile importedFile(String contentHash, Instant importedAt) {
+        ImportedFile importedFile = new ImportedFile();
+        importedFile.setContentHash(contentHash);
+        importedFile.setMode(ImportMode.BATCH);
+        importedFile.setFilename("employees.csv");
+        importedFile.setResult("x".repeat(5_000));
+        importedFile.setImportedAt(importedAt);
+        return importedFile;
+    }
+}
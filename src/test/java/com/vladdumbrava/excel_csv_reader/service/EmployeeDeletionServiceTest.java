@@ -0,0 +1,174 @@
+package com.vladdumbrava.excel_csv_reader.service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.vladdumbrava.excel_csv_reader.config.QueryProperties;
+import com.vladdumbrava.excel_csv_reader.dto.BulkDeleteResultDTO;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeContactDTO;
+import com.vladdumbrava.excel_csv_reader.exception.InvalidRequestException;
+import com.vladdumbrava.excel_csv_reader.exception.ResourceNotFoundException;
+import com.vladdumbrava.excel_csv_reader.model.ImportJob;
+import com.vladdumbrava.excel_csv_reader.model.ImportJobStatus;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeFilter;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeFingerprintRepository;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeRepository;
+import com.vladdumbrava.excel_csv_reader.repository.ImportJobRepository;
+import com.vladdumbrava.excel_csv_reader.service.cache.EmployeeCache;
+import com.vladdumbrava.excel_csv_reader.service.importer.RowFingerprint;
+import com.vladdumbrava.excel_csv_reader.service.stats.EmployeeStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeDeletionServiceTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private EmployeeFingerprintRepository fingerprintRepository;
+
+    @Mock
+    private ImportJobRepository importJobRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EmployeeCache employeeCache;
+
+    @Mock
+    private EmployeeStats employeeStats;
+
+    @Mock
+    private ImportedFileService importedFileService;
+
+    private QueryProperties queryProperties;
+    private EmployeeDeletionService deletionService;
+
+    @BeforeEach
+    void setUp() {
+        queryProperties = new QueryProperties();
+        queryProperties.setDeleteBatchSize(2);
+        deletionService = new EmployeeDeletionService(employeeRepository, fingerprintRepository,
+                importJobRepository, queryProperties, transactionManager, employeeCache,
+                employeeStats, importedFileService);
+    }
+
+    @Test
+    void givenFilter_whenDeleteEmployees_thenDeleteKeysetBatchesInSeparateTransactions() {
+        EmployeeFilter filter = new EmployeeFilter(false, null, null);
+        when(employeeRepository.findMatching(filter, 0, 2)).thenReturn(List.of(contact(3), contact(7)));
+        when(employeeRepository.findMatching(filter, 7, 2)).thenReturn(List.of(contact(9)));
+        when(employeeRepository.deleteMatching(anyList(), eq(filter))).thenAnswer(invocation ->
+                invocation.<List<Long>>getArgument(0).size());
+
+        BulkDeleteResultDTO result = deletionService.deleteEmployees(false, null);
+
+        assertThat(result).isEqualTo(new BulkDeleteResultDTO(3, 2));
+        InOrder inOrder = inOrder(employeeRepository, fingerprintRepository, transactionManager);
+        inOrder.verify(employeeRepository).deleteMatching(List.of(3L, 7L), filter);
+        inOrder.verify(fingerprintRepository).deleteFingerprints(emailHashes(3, 7));
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(employeeRepository).deleteMatching(List.of(9L), filter);
+        inOrder.verify(fingerprintRepository).deleteFingerprints(emailHashes(9));
+        inOrder.verify(transactionManager).commit(any());
+        verify(employeeCache).evictAll(List.of(3L, 7L));
+        verify(employeeCache).evictAll(List.of(9L));
+        verify(employeeStats, times(2)).markStale();
+        verify(importedFileService, times(2)).forgetAll();
+    }
+
+    @Test
+    void givenNoFilter_whenDeleteEmployees_thenThrowException() {
+        assertThatThrownBy(() -> deletionService.deleteEmployees(null, null))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("at least one filter");
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    void givenIds_whenDeleteEmployees_thenDeleteSortedDistinctIdsInBatches() {
+        when(employeeRepository.findByIdIn(List.of(1L, 2L), EmployeeContactDTO.class))
+                .thenReturn(List.of(contact(1), contact(2)));
+        when(employeeRepository.findByIdIn(List.of(5L), EmployeeContactDTO.class)).thenReturn(List.of());
+        when(employeeRepository.deleteMatching(List.of(1L, 2L), EmployeeFilter.NONE)).thenReturn(2);
+
+        BulkDeleteResultDTO result = deletionService.deleteEmployees(List.of(5L, 2L, 1L, 2L));
+
+        assertThat(result).isEqualTo(new BulkDeleteResultDTO(2, 2));
+        verify(fingerprintRepository).deleteFingerprints(emailHashes(1, 2));
+        verify(employeeRepository, times(1)).deleteMatching(anyList(), any());
+    }
+
+    @Test
+    void givenTooManyIds_whenDeleteEmployees_thenThrowException() {
+        queryProperties.setMaxBulkUpdateSize(2);
+
+        assertThatThrownBy(() -> deletionService.deleteEmployees(List.of(1L, 2L, 3L)))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("at most 2 employees");
+        assertThatThrownBy(() -> deletionService.deleteEmployees(Collections.singletonList(null)))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("may not be null");
+    }
+
+    @Test
+    void givenFinishedImportJob_whenDeleteImportedEmployees_thenDeleteRowsOfThatJob() {
+        UUID jobId = UUID.randomUUID();
+        EmployeeFilter filter = new EmployeeFilter(null, null, jobId);
+        when(importJobRepository.findById(jobId)).thenReturn(Optional.of(job(jobId, ImportJobStatus.FAILED)));
+        when(employeeRepository.findMatching(filter, 0, 2)).thenReturn(List.of(contact(4)));
+        when(employeeRepository.deleteMatching(List.of(4L), filter)).thenReturn(1);
+
+        BulkDeleteResultDTO result = deletionService.deleteImportedEmployees(jobId);
+
+        assertThat(result).isEqualTo(new BulkDeleteResultDTO(1, 1));
+    }
+
+    @Test
+    void givenRunningOrMissingImportJob_whenDeleteImportedEmployees_thenThrowException() {
+        UUID running = UUID.randomUUID();
+        when(importJobRepository.findById(running)).thenReturn(Optional.of(job(running, ImportJobStatus.RUNNING)));
+
+        assertThatThrownBy(() -> deletionService.deleteImportedEmployees(running))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("has not finished yet");
+        assertThatThrownBy(() -> deletionService.deleteImportedEmployees(UUID.randomUUID()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(employeeRepository);
+    }
+
+    private static EmployeeContactDTO contact(long id) {
+        return new EmployeeContactDTO(id, "Employee " + id, "employee" + id + "@example.com");
+    }
+
+    private static long[] emailHashes(long... ids) {
+        long[] hashes = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            hashes[i] = RowFingerprint.emailHash(contact(ids[i]).email());
+        }
+        return hashes;
+    }
+
+    private static ImportJob job(UUID id, ImportJobStatus status) {
+        ImportJob job = new ImportJob();
+        job.setId(id);
+        job.setStatus(status);
+        return job;
+    }
+}
@@ -0,0 +1,69 @@
+package com.vladdumbrava.excel_csv_reader.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import com.vladdumbrava.excel_csv_reader.config.QueryProperties;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeDTO;
+import com.vladdumbrava.excel_csv_reader.exception.InvalidRequestException;
+import com.vladdumbrava.excel_csv_reader.model.ExportFormat;
+import com.vladdumbrava.excel_csv_reader.model.Gender;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeRepository;
+import com.vladdumbrava.excel_csv_reader.service.utils.writer.CSVEmployeeFileWriter;
+import com.vladdumbrava.excel_csv_reader.service.utils.writer.XLSXEmployeeFileWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeExportServiceTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private EmployeeExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new EmployeeExportService(employeeRepository,
+                List.of(new CSVEmployeeFileWriter(), new XLSXEmployeeFileWriter(new QueryProperties())));
+    }
+
+    @Test
+    void givenFormatInAnyCase_whenResolveFormat_thenReturnFormat() {
+        assertThat(exportService.resolveFormat("csv")).isEqualTo(ExportFormat.CSV);
+        assertThat(exportService.resolveFormat(" XLSX ")).isEqualTo(ExportFormat.XLSX);
+    }
+
+    @Test
+    void givenUnknownFormat_whenResolveFormat_thenThrowException() {
+        assertThatThrownBy(() -> exportService.resolveFormat("pdf"))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("Unsupported export format: pdf");
+    }
+
+    @Test
+    void whenExportEmployees_thenWriteStreamedRowsAndCloseStream() throws IOException {
+        AtomicBoolean closed = new AtomicBoolean();
+        EmployeeDTO employee = new EmployeeDTO("John Doe", LocalDate.of(1990, 1, 1), Gender.MALE,
+                "Engineer", "john@example.com", "+40712345678", true);
+        when(employeeRepository.streamAllOrderById()).thenReturn(Stream.of(employee).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = exportService.exportEmployees(ExportFormat.CSV, out);
+
+        assertThat(written).isEqualTo(1);
+        assertThat(out.toString()).endsWith("John Doe,1990-01-01,MALE,Engineer,john@example.com,+40712345678,true\r\n");
+        assertThat(closed).isTrue();
+    }
+}
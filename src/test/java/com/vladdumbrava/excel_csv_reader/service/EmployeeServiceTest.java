@@ -1,28 +1,79 @@
 package com.vladdumbrava.excel_csv_reader.service;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
-
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import com.vladdumbrava.excel_csv_reader.config.ImportProperties;
+import com.vladdumbrava.excel_csv_reader.config.QueryProperties;
+import com.vladdumbrava.excel_csv_reader.dto.BulkUpdateResultDTO;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeContactDTO;
 import com.vladdumbrava.excel_csv_reader.dto.EmployeeDTO;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeNameUpdateDTO;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeePageDTO;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeUpdateDTO;
+import com.vladdumbrava.excel_csv_reader.dto.ImportResultDTO;
+import com.vladdumbrava.excel_csv_reader.dto.RowRejectionDTO;
+import com.vladdumbrava.excel_csv_reader.exception.FeatureDisabledException;
+import com.vladdumbrava.excel_csv_reader.exception.FileProcessingException;
+import com.vladdumbrava.excel_csv_reader.exception.InvalidRequestException;
 import com.vladdumbrava.excel_csv_reader.exception.ResourceNotFoundException;
 import com.vladdumbrava.excel_csv_reader.model.Employee;
 import com.vladdumbrava.excel_csv_reader.model.Gender;
+import com.vladdumbrava.excel_csv_reader.model.ImportMode;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeFingerprintRepository;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeHeadcount;
 import com.vladdumbrava.excel_csv_reader.repository.EmployeeRepository;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeRow;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeSearchCriteria;
+import com.vladdumbrava.excel_csv_reader.service.cache.EmployeeCache;
+import com.vladdumbrava.excel_csv_reader.service.importer.BatchEmployeeImporter;
+import com.vladdumbrava.excel_csv_reader.service.importer.CopyEmployeeImporter;
+import com.vladdumbrava.excel_csv_reader.service.importer.DeltaEmployeeImporter;
+import com.vladdumbrava.excel_csv_reader.service.importer.EmployeeRowValidator;
+import com.vladdumbrava.excel_csv_reader.service.importer.ImportAuditLog;
+import com.vladdumbrava.excel_csv_reader.service.importer.ImportMetrics;
+import com.vladdumbrava.excel_csv_reader.service.importer.ImportReport;
+import com.vladdumbrava.excel_csv_reader.service.importer.PipelinedEmployeeImporter;
+import com.vladdumbrava.excel_csv_reader.service.importer.RejectionFile;
+import com.vladdumbrava.excel_csv_reader.service.importer.RowFingerprint;
+import com.vladdumbrava.excel_csv_reader.service.importer.UpsertEmployeeImporter;
 import com.vladdumbrava.excel_csv_reader.service.mapper.EmployeeMapper;
+import com.vladdumbrava.excel_csv_reader.service.stats.EmployeeStats;
 import com.vladdumbrava.excel_csv_reader.service.utils.FileReaderFactory;
+import com.vladdumbrava.excel_csv_reader.service.utils.PageCursor;
+import com.vladdumbrava.excel_csv_reader.service.utils.PathMultipartFile;
 import com.vladdumbrava.excel_csv_reader.service.utils.reader.EmployeeFileReader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.web.multipart.MultipartFile;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,12 +82,63 @@ public class EmployeeServiceTest {
     @Mock
     private EmployeeRepository employeeRepository;
 
+    @Mock
+    private EmployeeFingerprintRepository fingerprintRepository;
+
     @Mock
     private EmployeeMapper employeeMapper;
 
+    @Spy
+    private EmployeeRowValidator employeeRowValidator = new EmployeeRowValidator();
+
+    @Mock
+    private ImportedFileService importedFileService;
+
+    @Mock
+    private RejectionFileService rejectionFileService;
+
     @Mock
     private FileReaderFactory fileReaderFactory;
 
+    @Spy
+    private ImportProperties importProperties = new ImportProperties();
+
+    @Spy
+    private QueryProperties queryProperties = new QueryProperties();
+
+    @Spy
+    private ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Spy
+    private ImportMetrics importMetrics = new ImportMetrics(new SimpleMeterRegistry(), ObservationRegistry.NOOP);
+
+    @Spy
+    private ImportAuditLog importAuditLog = new ImportAuditLog(new ImportProperties());
+
+    @Mock
+    private BatchEmployeeImporter batchEmployeeImporter;
+
+    @Mock
+    private CopyEmployeeImporter copyEmployeeImporter;
+
+    @Mock
+    private PipelinedEmployeeImporter pipelinedEmployeeImporter;
+
+    @Mock
+    private UpsertEmployeeImporter upsertEmployeeImporter;
+
+    @Mock
+    private DeltaEmployeeImporter deltaEmployeeImporter;
+
+    @Mock
+    private EmployeeStats employeeStats;
+
+    @Spy
+    private EmployeeCache employeeCache = new EmployeeCache(new QueryProperties(), new SimpleMeterRegistry());
+
     @InjectMocks
     private EmployeeService employeeService;
 
@@ -45,7 +147,12 @@ public class EmployeeServiceTest {
 
     @BeforeEach
     void setUp() {
+        // Hand importers the reader the factory chose, so tests can verify it.
+        lenient().doAnswer(returnsFirstArg()).when(importMetrics).instrument(any());
+        lenient().doAnswer(returnsFirstArg()).when(importAuditLog).audit(any(), any(), any());
+
         employee = new Employee();
+        employee.setId(1L);
         employee.setName("John Doe");
         employee.setDateOfBirth(LocalDate.of(1990, 1, 1));
         employee.setGender(Gender.MALE);
@@ -75,24 +182,158 @@ public class EmployeeServiceTest {
 
         assertThat(result).isNotNull();
         verify(employeeRepository, times(1)).save(employee);
+        verify(employeeStats).added(List.of(employee));
     }
 
     @Test
-    public void whenGetAll_thenReturnEmployees() {
-        when(employeeRepository.findAll()).thenReturn(List.of(employee));
-        when(employeeMapper.entityToDto(employee)).thenReturn(employeeDTO);
+    public void whenGetEmployees_thenReturnFirstPage() {
+        EmployeeRow row = row(1L);
+        when(employeeRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(101), EmployeeRow.class))
+                .thenReturn(List.of(row));
+        when(employeeMapper.rowToDto(row)).thenReturn(employeeDTO);
+
+        EmployeePageDTO<EmployeeDTO> result = employeeService.getEmployees(null, null);
+
+        assertThat(result.employees()).hasSize(1);
+        assertThat(result.employees().getFirst().email()).isEqualTo("john@example.com");
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    public void givenMoreRowsThanPageSize_whenGetEmployees_thenReturnCursorAfterLastRow() {
+        when(employeeRepository.findByIdGreaterThanOrderByIdAsc(6L, Limit.of(3), EmployeeRow.class))
+                .thenReturn(List.of(row(7L), row(8L), row(9L)));
+        when(employeeMapper.rowToDto(any(EmployeeRow.class))).thenReturn(employeeDTO);
 
-        List<EmployeeDTO> result = employeeService.getAllEmployees();
+        EmployeePageDTO<EmployeeDTO> result = employeeService.getEmployees(PageCursor.encode(6), 2);
 
-        assertThat(result).hasSize(1);
-        assertThat(result.getFirst().email()).isEqualTo("john@example.com");
+        assertThat(result.employees()).hasSize(2);
+        assertThat(PageCursor.decode(result.nextCursor())).isEqualTo(8L);
+    }
+
+    @Test
+    public void whenGetEmployeeContacts_thenSelectContactProjection() {
+        EmployeeContactDTO first = new EmployeeContactDTO(3L, "John Doe", "john@example.com");
+        EmployeeContactDTO second = new EmployeeContactDTO(5L, "Jane Doe", "jane@example.com");
+        when(employeeRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2), EmployeeContactDTO.class))
+                .thenReturn(List.of(first, second));
+
+        EmployeePageDTO<EmployeeContactDTO> result = employeeService.getEmployeeContacts(null, 1);
+
+        assertThat(result.employees()).containsExactly(first);
+        assertThat(PageCursor.decode(result.nextCursor())).isEqualTo(3L);
+        verifyNoInteractions(employeeMapper);
+    }
+
+    @Test
+    public void givenCriteria_whenSearchEmployees_thenSearchTrimmedCriteriaAfterCursor() {
+        EmployeeSearchCriteria trimmed = new EmployeeSearchCriteria("Engineer", Gender.MALE, null, null, null,
+                null, "John");
+        when(employeeRepository.search(trimmed, 6L, 3)).thenReturn(List.of(row(7L), row(8L), row(9L)));
+        when(employeeMapper.rowToDto(any(EmployeeRow.class))).thenReturn(employeeDTO);
+
+        EmployeePageDTO<EmployeeDTO> result = employeeService.searchEmployees(new EmployeeSearchCriteria(
+                " Engineer ", Gender.MALE, null, null, null, " ", "John "), PageCursor.encode(6), 2);
+
+        assertThat(result.employees()).hasSize(2);
+        assertThat(PageCursor.decode(result.nextCursor())).isEqualTo(8L);
+    }
+
+    @Test
+    public void givenShortNameOrInvertedDateRange_whenSearchEmployees_thenThrowException() {
+        assertThatThrownBy(() -> employeeService.searchEmployees(
+                new EmployeeSearchCriteria(null, null, null, null, null, null, "Jo"), null, null))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("at least 3 characters");
+        assertThatThrownBy(() -> employeeService.searchEmployees(new EmployeeSearchCriteria(null, null, null,
+                LocalDate.of(2000, 1, 1), LocalDate.of(1990, 1, 1), null, null), null, null))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("bornFrom must not be after bornTo");
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    public void givenPageSizeAboveLimit_whenGetEmployees_thenThrowException() {
+        assertThatThrownBy(() -> employeeService.getEmployees(null, 1_001))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("between 1 and 1000");
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    public void givenMalformedCursor_whenGetEmployees_thenThrowException() {
+        assertThatThrownBy(() -> employeeService.getEmployees("not-a-cursor", 10))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("Invalid cursor");
+    }
+
+    @Test
+    public void whenWriteEmployeesAsNdjson_thenWriteOneObjectPerLine() throws IOException {
+        EmployeeDTO secondDTO = new EmployeeDTO("Jane Doe", null, Gender.FEMALE, "Manager", "jane@example.com", null, false);
+        when(employeeRepository.streamAllOrderById()).thenReturn(Stream.of(employeeDTO, secondDTO));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = employeeService.writeEmployeesAsNdjson(out);
+
+        assertThat(written).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8).split("\\n")).containsExactly(
+                "{\"name\":\"John Doe\",\"dateOfBirth\":\"1990-01-01\",\"gender\":\"MALE\",\"role\":\"Engineer\","
+                        + "\"email\":\"john@example.com\",\"phoneNumber\":\"1234567890\",\"active\":true}",
+                "{\"name\":\"Jane Doe\",\"dateOfBirth\":null,\"gender\":\"FEMALE\",\"role\":\"Manager\","
+                        + "\"email\":\"jane@example.com\",\"phoneNumber\":null,\"active\":false}");
+        verifyNoInteractions(employeeMapper);
     }
 
     @Test
     public void givenEmployeeId_whenDelete_thenDelete() {
         Long id = employee.getId();
+        when(employeeRepository.findById(id)).thenReturn(Optional.of(employee));
+
         employeeService.deleteEmployee(id);
-        verify(employeeRepository, times(1)).deleteById(id);
+
+        verify(employeeRepository, times(1)).delete(employee);
+        verify(employeeStats).record(List.of(new EmployeeHeadcount("Engineer", Gender.MALE, true, -1)));
+    }
+
+    @Test
+    void givenEmployeeFromDeltaImport_whenDelete_thenForgetItsFingerprint() {
+        Long id = employee.getId();
+        when(employeeRepository.findById(id)).thenReturn(Optional.of(employee));
+
+        employeeService.deleteEmployee(id);
+
+        verify(fingerprintRepository).deleteFingerprints(new long[]{RowFingerprint.emailHash(employee.getEmail())});
+    }
+
+    @Test
+    void givenCachedEmployee_whenGetEmployee_thenReadDatabaseOnceUntilUpdated() {
+        EmployeeRow row = row(5L);
+        when(employeeRepository.findProjectedById(5L, EmployeeRow.class)).thenReturn(Optional.of(row));
+        when(employeeMapper.rowToDto(row)).thenReturn(employeeDTO);
+
+        assertThat(employeeService.getEmployee(5L)).isEqualTo(employeeDTO);
+        assertThat(employeeService.getEmployee(5L)).isEqualTo(employeeDTO);
+        verify(employeeRepository, times(1)).findProjectedById(5L, EmployeeRow.class);
+
+        when(employeeRepository.findById(5L)).thenReturn(Optional.of(employee));
+        when(employeeRepository.save(employee)).thenReturn(employee);
+        employeeService.updateEmployeeName(5L, "Johnny Doe");
+        employeeService.getEmployee(5L);
+
+        verify(employeeCache).evict(5L);
+        verify(employeeRepository, times(2)).findProjectedById(5L, EmployeeRow.class);
+    }
+
+    @Test
+    void givenMissingEmployee_whenGetEmployee_thenThrowExceptionAndCacheNothing() {
+        when(employeeRepository.findProjectedById(5L, EmployeeRow.class)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> employeeService.getEmployee(5L))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("5");
+        assertThatThrownBy(() -> employeeService.getEmployee(5L))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(employeeRepository, times(2)).findProjectedById(5L, EmployeeRow.class);
     }
 
     @Test
@@ -110,6 +351,23 @@ public class EmployeeServiceTest {
         assertThat(result.name()).isEqualTo("John Doe");
     }
 
+    @Test
+    void givenRoleChange_whenUpdate_thenMoveEmployeeBetweenHeadcounts() {
+        Employee promoted = new Employee();
+        promoted.setRole("Manager");
+        promoted.setGender(Gender.MALE);
+        promoted.setActive(false);
+        when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
+        when(employeeMapper.dtoToEntity(employeeDTO)).thenReturn(promoted);
+        when(employeeRepository.save(employee)).thenReturn(employee);
+
+        employeeService.updateEmployee(1L, employeeDTO);
+
+        verify(employeeStats).record(List.of(
+                new EmployeeHeadcount("Engineer", Gender.MALE, true, -1),
+                new EmployeeHeadcount("Manager", Gender.MALE, false, 1)));
+    }
+
     @Test
     void givenMissingEmployee_whenUpdate_thenThrowException() {
         Long id = 99L;
@@ -152,19 +410,255 @@ public class EmployeeServiceTest {
     }
 
     @Test
-    void givenFileAndReader_whenImport_thenSaveParsedEmployees() {
+    void givenFileAndReader_whenImport_thenDelegateToBatchImporter() {
         MultipartFile mockFile = mock(MultipartFile.class);
         EmployeeFileReader reader = mock(EmployeeFileReader.class);
 
         when(fileReaderFactory.getReader(mockFile)).thenReturn(reader);
-        when(reader.read(mockFile)).thenReturn(List.of(employee));
+        doAnswer(invocation -> {
+            ImportReport report = invocation.getArgument(2);
+            report.addRowsRead(2);
+            report.addRowsImported(1);
+            report.reject(3, "Expected 7 fields but got 2");
+            return null;
+        }).when(batchEmployeeImporter).importEmployees(eq(reader), eq(mockFile), any(ImportReport.class));
+
+        ImportResultDTO result = employeeService.importEmployees(mockFile);
+
+        assertThat(result.mode()).isEqualTo(ImportMode.BATCH);
+        assertThat(result.rowsRead()).isEqualTo(2);
+        assertThat(result.rowsImported()).isEqualTo(1);
+        assertThat(result.rejections()).containsExactly(new RowRejectionDTO(3, "Expected 7 fields but got 2"));
+        verify(fileReaderFactory).getReader(mockFile);
+    }
 
-        when(employeeMapper.entityToDto(employee)).thenReturn(employeeDTO);
+    @Test
+    void givenRejectedRows_whenImport_thenResultPointsToRejectionFile(@TempDir Path directory) throws IOException {
+        MultipartFile mockFile = mock(MultipartFile.class);
+        UUID[] fileId = new UUID[1];
+        when(rejectionFileService.create(any(UUID.class))).thenAnswer(invocation -> {
+            fileId[0] = invocation.getArgument(0);
+            return new RejectionFile(fileId[0], directory.resolve(fileId[0] + ".csv"));
+        });
+        when(fileReaderFactory.getReader(mockFile)).thenReturn(mock(EmployeeFileReader.class));
+        doAnswer(invocation -> {
+            invocation.<ImportReport>getArgument(2).reject(3, "role is required");
+            return null;
+        }).when(batchEmployeeImporter).importEmployees(any(), eq(mockFile), any(ImportReport.class));
+
+        ImportResultDTO result = employeeService.importEmployees(mockFile);
+
+        assertThat(result.rejectionFileId()).isEqualTo(fileId[0]);
+        assertThat(Files.readString(directory.resolve(fileId[0] + ".csv")))
+                .isEqualTo("row_number,reason\r\n3,role is required\r\n");
+    }
 
-        employeeService.importEmployees(mockFile);
+    @Test
+    void givenCopyMode_whenImport_thenDelegateToCopyImporter() {
+        MultipartFile mockFile = mock(MultipartFile.class);
+        EmployeeFileReader reader = mock(EmployeeFileReader.class);
 
-        verify(fileReaderFactory).getReader(mockFile);
-        verify(employeeRepository).saveAll(anyList());
-        verify(employeeMapper).entityToDto(employee);
+        when(fileReaderFactory.getReader(mockFile)).thenReturn(reader);
+
+        ImportResultDTO result = employeeService.importEmployees(mockFile, ImportMode.COPY);
+
+        assertThat(result.mode()).isEqualTo(ImportMode.COPY);
+        verify(copyEmployeeImporter).importEmployees(eq(reader), eq(mockFile), any(ImportReport.class));
+        verify(employeeRepository, never()).batchInsert(anyList());
+    }
+
+    @Test
+    void givenPipelinedMode_whenImport_thenDelegateToPipelinedImporter() {
+        MultipartFile mockFile = mock(MultipartFile.class);
+        EmployeeFileReader reader = mock(EmployeeFileReader.class);
+
+        when(fileReaderFactory.getReader(mockFile)).thenReturn(reader);
+
+        ImportResultDTO result = employeeService.importEmployees(mockFile, ImportMode.PIPELINED);
+
+        assertThat(result.mode()).isEqualTo(ImportMode.PIPELINED);
+        verify(pipelinedEmployeeImporter).importEmployees(eq(reader), eq(mockFile), any(ImportReport.class));
+        verify(employeeRepository, never()).batchInsert(anyList());
+    }
+
+    @Test
+    void givenFileImportedBefore_whenImport_thenReturnStoredResultWithoutReading() {
+        MultipartFile mockFile = mock(MultipartFile.class);
+        ImportResultDTO previous = new ImportResultDTO(ImportMode.BATCH, 4, 3, 1, List.of(), List.of(), null, null, null);
+        when(importedFileService.contentHash(mockFile)).thenReturn("hash");
+        when(importedFileService.findPreviousResult("hash", ImportMode.BATCH)).thenReturn(Optional.of(previous));
+        ImportReport report = new ImportReport(ImportMode.BATCH, 10);
+
+        ImportResultDTO result = employeeService.importEmployees(mockFile, report);
+
+        assertThat(result).isEqualTo(previous);
+        assertThat(report.getRowsImported()).isEqualTo(3);
+        verifyNoInteractions(fileReaderFactory, employeeRepository);
+        verify(importedFileService, never()).recordResult(any(), any(), any());
+    }
+
+    @Test
+    void givenNewFile_whenImport_thenRecordResult() {
+        MultipartFile mockFile = mock(MultipartFile.class);
+        EmployeeFileReader reader = mock(EmployeeFileReader.class);
+        when(importedFileService.contentHash(mockFile)).thenReturn("hash");
+        when(fileReaderFactory.getReader(mockFile)).thenReturn(reader);
+
+        ImportResultDTO result = employeeService.importEmployees(mockFile, ImportMode.PIPELINED);
+
+        verify(importedFileService).recordResult("hash", mockFile, result);
+    }
+
+    @Test
+    void givenImportedEmployeeDeletedSince_whenSameFileIsSentAgain_thenImportItAgain() {
+        MultipartFile mockFile = mock(MultipartFile.class);
+        when(importedFileService.contentHash(mockFile)).thenReturn("hash");
+        when(fileReaderFactory.getReader(mockFile)).thenReturn(mock(EmployeeFileReader.class));
+        AtomicReference<ImportResultDTO> remembered = new AtomicReference<>();
+        doAnswer(invocation -> {
+            remembered.set(invocation.getArgument(2));
+            return null;
+        }).when(importedFileService).recordResult(eq("hash"), eq(mockFile), any());
+        when(importedFileService.findPreviousResult("hash", ImportMode.BATCH))
+                .thenAnswer(invocation -> Optional.ofNullable(remembered.get()));
+        doAnswer(invocation -> {
+            remembered.set(null);
+            return null;
+        }).when(importedFileService).forgetAll();
+        when(employeeRepository.findById(employee.getId())).thenReturn(Optional.of(employee));
+
+        employeeService.importEmployees(mockFile, ImportMode.BATCH);
+        employeeService.deleteEmployee(employee.getId());
+        employeeService.importEmployees(mockFile, ImportMode.BATCH);
+
+        verify(batchEmployeeImporter, times(2)).importEmployees(any(), eq(mockFile), any(ImportReport.class));
+    }
+
+    @Test
+    void givenDeltaMode_whenImport_thenDelegateToDeltaImporter() {
+        MultipartFile mockFile = mock(MultipartFile.class);
+        EmployeeFileReader reader = mock(EmployeeFileReader.class);
+
+        when(fileReaderFactory.getReader(mockFile)).thenReturn(reader);
+
+        ImportResultDTO result = employeeService.importEmployees(mockFile, ImportMode.DELTA);
+
+        assertThat(result.delta()).isNotNull();
+        verify(deltaEmployeeImporter).importEmployees(eq(reader), eq(mockFile), any(ImportReport.class));
+    }
+
+    @Test
+    void givenUpsertMode_whenImport_thenDelegateToUpsertImporter() {
+        MultipartFile mockFile = mock(MultipartFile.class);
+        EmployeeFileReader reader = mock(EmployeeFileReader.class);
+
+        when(fileReaderFactory.getReader(mockFile)).thenReturn(reader);
+
+        ImportResultDTO result = employeeService.importEmployees(mockFile, ImportMode.UPSERT);
+
+        assertThat(result.mode()).isEqualTo(ImportMode.UPSERT);
+        assertThat(result.upsert()).isNotNull();
+        verify(upsertEmployeeImporter).importEmployees(eq(reader), eq(mockFile), any(ImportReport.class));
+        verify(employeeRepository, never()).batchInsert(anyList());
+    }
+
+    @Test
+    void givenServerFileInDirectory_whenImportServerFile_thenImportLocalFile(@TempDir Path directory) throws IOException {
+        Files.writeString(directory.resolve("nightly.csv"), "name,dateOfBirth,gender,role,email,phoneNumber,active\n");
+        importProperties.setServerFileDirectory(directory);
+        EmployeeFileReader reader = mock(EmployeeFileReader.class);
+        when(fileReaderFactory.getReader(any(PathMultipartFile.class))).thenReturn(reader);
+
+        ImportResultDTO result = employeeService.importServerFile("nightly.csv", ImportMode.BATCH);
+
+        assertThat(result.mode()).isEqualTo(ImportMode.BATCH);
+        verify(batchEmployeeImporter).importEmployees(eq(reader), argThat(file -> file instanceof PathMultipartFile local
+                && local.getPath().equals(directory.resolve("nightly.csv").toAbsolutePath().normalize())),
+                any(ImportReport.class));
+    }
+
+    @Test
+    void givenPathEscapingDirectory_whenImportServerFile_thenThrowException(@TempDir Path directory) {
+        importProperties.setServerFileDirectory(directory.resolve("imports"));
+
+        assertThatThrownBy(() -> employeeService.importServerFile("../secrets.csv", ImportMode.BATCH))
+                .isInstanceOf(FileProcessingException.class)
+                .hasMessageContaining("outside the server file directory");
+        verifyNoInteractions(fileReaderFactory);
+    }
+
+    @Test
+    void givenMissingServerFile_whenImportServerFile_thenThrowException(@TempDir Path directory) {
+        importProperties.setServerFileDirectory(directory);
+
+        assertThatThrownBy(() -> employeeService.importServerFile("missing.csv", ImportMode.BATCH))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void givenNoServerFileDirectory_whenImportServerFile_thenThrowException() {
+        assertThatThrownBy(() -> employeeService.importServerFile("nightly.csv", ImportMode.BATCH))
+                .isInstanceOf(FeatureDisabledException.class)
+                .hasMessageContaining("not enabled");
+    }
+
+    @Test
+    void givenFullUpdates_whenUpdateEmployees_thenBatchUpdateEntitiesWithRequestedIds() {
+        Employee mapped = new Employee();
+        mapped.setName("Jane Doe");
+        mapped.setDateOfBirth(LocalDate.of(1991, 2, 2));
+        mapped.setRole("Manager");
+        mapped.setEmail("jane@example.com");
+        mapped.setActive(false);
+        when(employeeMapper.dtoToEntity(employeeDTO)).thenReturn(mapped);
+        when(employeeRepository.batchUpdate(List.of(mapped))).thenReturn(new BulkUpdateResultDTO(1, 1, 1));
+
+        BulkUpdateResultDTO result = employeeService.updateEmployees(List.of(new EmployeeUpdateDTO(7L, employeeDTO)));
+
+        assertThat(result).isEqualTo(new BulkUpdateResultDTO(1, 1, 1));
+        assertThat(mapped.getId()).isEqualTo(7L);
+        verify(employeeStats).markStale();
+    }
+
+    @Test
+    void givenUpdateWithoutRequiredValue_whenUpdateEmployees_thenThrowWithoutWriting() {
+        Employee mapped = new Employee();
+        mapped.setName("Jane Doe");
+        when(employeeMapper.dtoToEntity(employeeDTO)).thenReturn(mapped);
+
+        assertThatThrownBy(() -> employeeService.updateEmployees(List.of(new EmployeeUpdateDTO(7L, employeeDTO))))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Invalid update of employee 7: date_of_birth is required");
+        verify(employeeRepository, never()).batchUpdate(anyList());
+    }
+
+    @Test
+    void givenRepeatedId_whenUpdateEmployeeNames_thenThrowWithoutWriting() {
+        List<EmployeeNameUpdateDTO> updates = List.of(
+                new EmployeeNameUpdateDTO(1L, "First"),
+                new EmployeeNameUpdateDTO(1L, "Second"));
+
+        assertThatThrownBy(() -> employeeService.updateEmployeeNames(updates))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Employee 1 is updated more than once");
+        verify(employeeRepository, never()).batchUpdateNames(anyList());
+    }
+
+    @Test
+    void givenTooManyUpdates_whenUpdateEmployeeNames_thenThrowWithoutWriting() {
+        queryProperties.setMaxBulkUpdateSize(1);
+        List<EmployeeNameUpdateDTO> updates = List.of(
+                new EmployeeNameUpdateDTO(1L, "First"),
+                new EmployeeNameUpdateDTO(2L, "Second"));
+
+        assertThatThrownBy(() -> employeeService.updateEmployeeNames(updates))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("A bulk update may change at most 1 employees");
+        verify(employeeRepository, never()).batchUpdateNames(anyList());
+    }
+
+    private EmployeeRow row(long id) {
+        return new EmployeeRow(id, employee.getName(), employee.getDateOfBirth(), employee.getGender(),
+                employee.getRole(), employee.getEmail(), employee.getPhoneNumber(), employee.getActive());
     }
 }
@@ -0,0 +1,181 @@
+package com.vladdumbrava.excel_csv_reader.service;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.vladdumbrava.excel_csv_reader.config.ImportProperties;
+import com.vladdumbrava.excel_csv_reader.dto.ImportJobDTO;
+import com.vladdumbrava.excel_csv_reader.exception.FileProcessingException;
+import com.vladdumbrava.excel_csv_reader.exception.ImportJobRejectedException;
+import com.vladdumbrava.excel_csv_reader.exception.ResourceNotFoundException;
+import com.vladdumbrava.excel_csv_reader.model.ImportJob;
+import com.vladdumbrava.excel_csv_reader.model.ImportJobStatus;
+import com.vladdumbrava.excel_csv_reader.model.ImportMode;
+import com.vladdumbrava.excel_csv_reader.repository.ImportJobRepository;
+import com.vladdumbrava.excel_csv_reader.service.importer.ImportReport;
+import com.vladdumbrava.excel_csv_reader.service.mapper.ImportJobMapper;
+import com.vladdumbrava.excel_csv_reader.service.utils.FileReaderFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ImportJobServiceTest {
+
+    @Mock
+    private ImportJobRepository importJobRepository;
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @Mock
+    private FileReaderFactory fileReaderFactory;
+
+    @TempDir
+    private Path spoolDirectory;
+
+    @TempDir
+    private Path rejectionDirectory;
+
+    private final Map<UUID, ImportJob> jobs = new HashMap<>();
+    private ImportProperties importProperties;
+    private MockMultipartFile file;
+
+    @BeforeEach
+    void setUp() {
+        importProperties = new ImportProperties();
+        importProperties.getAsync().setSpoolDirectory(spoolDirectory);
+        importProperties.getRejections().setDirectory(rejectionDirectory);
+        file = new MockMultipartFile("file", "employees.csv", "text/csv",
+                "name,dateOfBirth,gender,role,email,phoneNumber,active".getBytes(StandardCharsets.UTF_8));
+
+        when(importJobRepository.save(any(ImportJob.class))).thenAnswer(invocation -> {
+            ImportJob job = invocation.getArgument(0);
+            jobs.put(job.getId(), job);
+            return job;
+        });
+        when(importJobRepository.findById(any(UUID.class)))
+                .thenAnswer(invocation -> Optional.ofNullable(jobs.get(invocation.<UUID>getArgument(0))));
+    }
+
+    @Test
+    void givenFile_whenSubmit_thenRunJobAndStoreCounters() {
+        when(employeeService.importEmployees(any(MultipartFile.class), any(ImportReport.class))).thenAnswer(invocation -> {
+            MultipartFile spooled = invocation.getArgument(0);
+            assertThat(spooled.getOriginalFilename()).isEqualTo("employees.csv");
+            assertThat(spooled.getBytes()).isEqualTo(file.getBytes());
+            ImportReport report = invocation.getArgument(1);
+            report.addRowsRead(3);
+            report.addRowsImported(2);
+            report.reject(4, "email is required");
+            return report.toResult();
+        });
+
+        ImportJobDTO submitted = service(Runnable::run).submit(file, ImportMode.BATCH);
+
+        ImportJob job = jobs.get(submitted.jobId());
+        assertThat(job.getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(job.getRowsParsed()).isEqualTo(3);
+        assertThat(job.getRowsPersisted()).isEqualTo(2);
+        assertThat(job.getRowsRejected()).isEqualTo(1);
+        assertThat(job.getFinishedAt()).isNotNull();
+        assertThat(spoolDirectory).isEmptyDirectory();
+        verify(employeeService).importEmployees(any(MultipartFile.class),
+                argThat((ImportReport report) -> submitted.jobId().equals(report.getImportJobId())));
+    }
+
+    @Test
+    void givenFailingImport_whenSubmit_thenMarkJobFailed() {
+        when(employeeService.importEmployees(any(MultipartFile.class), any(ImportReport.class)))
+                .thenThrow(new FileProcessingException("Invalid CSV header format."));
+
+        ImportJobDTO submitted = service(Runnable::run).submit(file, ImportMode.BATCH);
+
+        ImportJob job = jobs.get(submitted.jobId());
+        assertThat(job.getStatus()).isEqualTo(ImportJobStatus.FAILED);
+        assertThat(job.getErrorMessage()).isEqualTo("Invalid CSV header format.");
+        assertThat(spoolDirectory).isEmptyDirectory();
+    }
+
+    @Test
+    void givenFullQueue_whenSubmit_thenRejectJob() {
+        ImportJobService service = service(task -> {
+            throw new TaskRejectedException("full");
+        });
+
+        assertThatThrownBy(() -> service.submit(file, ImportMode.BATCH))
+                .isInstanceOf(ImportJobRejectedException.class)
+                .hasMessageContaining("Import queue is full");
+
+        assertThat(jobs.values()).extracting(ImportJob::getStatus).containsExactly(ImportJobStatus.FAILED);
+        assertThat(spoolDirectory).isEmptyDirectory();
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    void givenRunningJobAfterRestart_whenRecover_thenMarkFailed() {
+        ImportJob running = new ImportJob();
+        running.setId(UUID.randomUUID());
+        running.setStatus(ImportJobStatus.RUNNING);
+        when(importJobRepository.findByStatusIn(any())).thenReturn(List.of(running));
+
+        service(Runnable::run).recoverInterruptedJobs();
+
+        assertThat(running.getStatus()).isEqualTo(ImportJobStatus.FAILED);
+        assertThat(running.getErrorMessage()).isEqualTo("Interrupted by application restart.");
+    }
+
+    @Test
+    void givenQueuedJobWithSpooledFileAfterRestart_whenRecover_thenRunIt() throws Exception {
+        ImportJob queued = new ImportJob();
+        queued.setId(UUID.randomUUID());
+        queued.setFilename("employees.csv");
+        queued.setMode(ImportMode.BATCH);
+        queued.setStatus(ImportJobStatus.QUEUED);
+        jobs.put(queued.getId(), queued);
+        Files.write(spoolDirectory.resolve(queued.getId().toString()), file.getBytes());
+        when(importJobRepository.findByStatusIn(any())).thenReturn(List.of(queued));
+
+        service(Runnable::run).recoverInterruptedJobs();
+
+        assertThat(queued.getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+        verify(employeeService).importEmployees(any(MultipartFile.class), any(ImportReport.class));
+    }
+
+    @Test
+    void givenMissingJob_whenGetJob_thenThrowException() {
+        UUID id = UUID.randomUUID();
+
+        assertThatThrownBy(() -> service(Runnable::run).getJob(id))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Import job not found with id: " + id);
+    }
+
+    private ImportJobService service(TaskExecutor executor) {
+        return new ImportJobService(importJobRepository, new ImportJobMapper(), employeeService,
+                fileReaderFactory, new RejectionFileService(importProperties), importProperties,
+                mock(PlatformTransactionManager.class), executor);
+    }
+}
@@ -0,0 +1,111 @@
+package com.vladdumbrava.excel_csv_reader.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vladdumbrava.excel_csv_reader.config.ImportProperties;
+import com.vladdumbrava.excel_csv_reader.dto.ImportResultDTO;
+import com.vladdumbrava.excel_csv_reader.dto.RowRejectionDTO;
+import com.vladdumbrava.excel_csv_reader.dto.UpsertStatsDTO;
+import com.vladdumbrava.excel_csv_reader.model.ImportMode;
+import com.vladdumbrava.excel_csv_reader.model.ImportedFile;
+import com.vladdumbrava.excel_csv_reader.model.ImportedFileId;
+import com.vladdumbrava.excel_csv_reader.repository.ImportedFileRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.mock.web.MockMultipartFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ImportedFileServiceTest {
+
+    private static final String ABC_SHA256 = "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+
+    @Mock
+    private ImportedFileRepository importedFileRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Spy
+    private ImportProperties importProperties = new ImportProperties();
+
+    @InjectMocks
+    private ImportedFileService importedFileService;
+
+    private final MockMultipartFile file = new MockMultipartFile(
+            "file", "employees.csv", "text/csv", "abc".getBytes(StandardCharsets.UTF_8));
+
+    private final ImportResultDTO result = new ImportResultDTO(ImportMode.UPSERT, 3, 3, 0,
+            List.of(), List.of(), new UpsertStatsDTO(2, 1, 0), null, null);
+
+    @Test
+    void givenFile_whenContentHash_thenReturnHexSha256() {
+        assertThat(importedFileService.contentHash(file)).isEqualTo(ABC_SHA256);
+    }
+
+    @Test
+    void givenDedupDisabled_whenContentHash_thenReturnNullAndSkipLookup() {
+        importProperties.getDedup().setEnabled(false);
+
+        String contentHash = importedFileService.contentHash(file);
+
+        assertThat(contentHash).isNull();
+        assertThat(importedFileService.findPreviousResult(contentHash, ImportMode.BATCH)).isEmpty();
+        verifyNoInteractions(importedFileRepository);
+    }
+
+    @Test
+    void givenRecordedResult_whenFindPreviousResult_thenReturnStoredResult() {
+        importedFileService.recordResult(ABC_SHA256, file, result);
+        ArgumentCaptor<ImportedFile> saved = ArgumentCaptor.forClass(ImportedFile.class);
+        verify(importedFileRepository).save(saved.capture());
+        assertThat(saved.getValue().getMode()).isEqualTo(ImportMode.UPSERT);
+        when(importedFileRepository.findById(new ImportedFileId(ABC_SHA256, ImportMode.UPSERT)))
+                .thenReturn(Optional.of(saved.getValue()));
+
+        assertThat(importedFileService.findPreviousResult(ABC_SHA256, ImportMode.UPSERT)).contains(result);
+    }
+
+    @Test
+    void givenResultWithRejections_whenRecordResult_thenDoNotRememberIt() {
+        ImportResultDTO rejected = new ImportResultDTO(ImportMode.UPSERT, 3, 2, 1,
+                List.of(new RowRejectionDTO(4, "role is required")), List.of(), new UpsertStatsDTO(1, 1, 0), null,
+                UUID.fromString("7b0c5e1e-3d4f-4a52-9d1e-0f6c2b8a9e11"));
+
+        importedFileService.recordResult(ABC_SHA256, file, rejected);
+
+        verifyNoInteractions(importedFileRepository);
+    }
+
+    @Test
+    void givenEmployeesChanged_whenForgetAll_thenDeleteEveryRememberedImport() {
+        importedFileService.forgetAll();
+
+        verify(importedFileRepository).deleteAllInBatch();
+    }
+
+    @Test
+    void givenResultOlderThanRetention_whenFindPreviousResult_thenReturnEmpty() {
+        ImportedFile expired = new ImportedFile();
+        expired.setImportedAt(Instant.now().minus(Duration.ofDays(8)));
+        expired.setResult("{}");
+        when(importedFileRepository.findById(any(ImportedFileId.class))).thenReturn(Optional.of(expired));
+
+        assertThat(importedFileService.findPreviousResult(ABC_SHA256, ImportMode.BATCH)).isEmpty();
+    }
+}
@@ -0,0 +1,91 @@
+package com.vladdumbrava.excel_csv_reader.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import com.vladdumbrava.excel_csv_reader.config.ImportProperties;
+import com.vladdumbrava.excel_csv_reader.dto.ImportResultDTO;
+import com.vladdumbrava.excel_csv_reader.exception.ResourceNotFoundException;
+import com.vladdumbrava.excel_csv_reader.model.ImportMode;
+import com.vladdumbrava.excel_csv_reader.service.importer.ImportReport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RejectionFileServiceTest {
+
+    @TempDir
+    private Path directory;
+
+    private RejectionFileService service;
+
+    @BeforeEach
+    void setUp() {
+        ImportProperties importProperties = new ImportProperties();
+        importProperties.getRejections().setDirectory(directory);
+        importProperties.getRejections().setRetention(Duration.ofDays(1));
+        service = new RejectionFileService(importProperties);
+    }
+
+    @Test
+    void givenMoreRejectionsThanReported_whenImportFinishes_thenFileHoldsAllOfThem() throws IOException {
+        UUID id = UUID.randomUUID();
+        ImportReport report = new ImportReport(ImportMode.BATCH, 1);
+        report.setRejectionFile(service.create(id));
+
+        report.reject(2, "role is required");
+        report.reject(5, "gender must be one of [MALE, FEMALE]: \"X, Y\"");
+        report.closeRejectionFile();
+        ImportResultDTO result = report.toResult();
+
+        assertThat(result.rejections()).hasSize(1);
+        assertThat(result.rejectionFileId()).isEqualTo(id);
+        assertThat(Files.readString(service.getFile(id))).isEqualTo("row_number,reason\r\n"
+                + "2,role is required\r\n"
+                + "5,\"gender must be one of [MALE, FEMALE]: \"\"X, Y\"\"\"\r\n");
+    }
+
+    @Test
+    void givenImportStillRunning_whenGetFile_thenThrowNotFound() {
+        UUID id = UUID.randomUUID();
+        ImportReport report = new ImportReport(ImportMode.BATCH, 10);
+        report.setRejectionFile(service.create(id));
+        report.reject(2, "role is required");
+
+        assertThatThrownBy(() -> service.getFile(id))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Rejection file not found with id: " + id);
+        assertThat(report.toResult().rejectionFileId()).isNull();
+    }
+
+    @Test
+    void givenNoRejections_whenImportFinishes_thenNoFileIsWritten() {
+        ImportReport report = new ImportReport(ImportMode.BATCH, 10);
+        report.setRejectionFile(service.create(UUID.randomUUID()));
+
+        report.closeRejectionFile();
+
+        assertThat(report.toResult().rejectionFileId()).isNull();
+        assertThat(directory).isEmptyDirectory();
+    }
+
+    @Test
+    void givenExpiredFile_whenPurge_thenDeleteOnlyExpiredFiles() throws IOException {
+        Path expired = Files.writeString(directory.resolve(UUID.randomUUID() + ".csv"), "row_number,reason\r\n");
+        Files.setLastModifiedTime(expired, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+        Path recent = Files.writeString(directory.resolve(UUID.randomUUID() + ".csv"), "row_number,reason\r\n");
+
+        service.purgeExpired();
+
+        assertThat(expired).doesNotExist();
+        assertThat(recent).exists();
+    }
+}
@@ -0,0 +1,96 @@
+package com.vladdumbrava.excel_csv_reader.service.cache;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import com.vladdumbrava.excel_csv_reader.config.QueryProperties;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeDTO;
+import com.vladdumbrava.excel_csv_reader.model.Gender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmployeeCacheTest {
+
+    private static final EmployeeDTO EMPLOYEE = new EmployeeDTO("John Doe", LocalDate.of(1990, 1, 1), Gender.MALE,
+            "Engineer", "john@example.com", "1234567890", true);
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<Long, EmployeeDTO> loader = id -> {
+        loads.incrementAndGet();
+        return EMPLOYEE;
+    };
+
+    private SimpleMeterRegistry meterRegistry;
+    private EmployeeCache employeeCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        employeeCache = new EmployeeCache(new QueryProperties(), meterRegistry);
+    }
+
+    @Test
+    void givenRepeatedLookups_whenGet_thenLoadOnceAndPublishHitsAndMisses() {
+        assertThat(employeeCache.get(1L, loader)).contains(EMPLOYEE);
+        assertThat(employeeCache.get(1L, loader)).contains(EMPLOYEE);
+        assertThat(employeeCache.get(1L, loader)).contains(EMPLOYEE);
+
+        assertThat(loads).hasValue(1);
+        assertThat(cacheGets("hit")).isEqualTo(2);
+        assertThat(cacheGets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void givenMissingEmployee_whenGet_thenReturnEmptyAndLoadAgainNextTime() {
+        assertThat(employeeCache.get(1L, id -> null)).isEmpty();
+
+        assertThat(employeeCache.get(1L, loader)).contains(EMPLOYEE);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void givenNoTransaction_whenEvict_thenReloadNextTime() {
+        employeeCache.get(1L, loader);
+        employeeCache.get(2L, loader);
+
+        employeeCache.evict(1L);
+        employeeCache.get(1L, loader);
+        employeeCache.get(2L, loader);
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void givenActiveTransaction_whenEvictAll_thenEvictOnlyAfterCompletion() {
+        employeeCache.get(1L, loader);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            employeeCache.evictAll(List.of(1L));
+            employeeCache.get(1L, loader);
+            assertThat(loads).hasValue(1);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        employeeCache.get(1L, loader);
+        assertThat(loads).hasValue(2);
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tags("cache", EmployeeCache.NAME, "result", result)
+                .functionCounter()
+                .count();
+    }
+}
@@ -0,0 +1,121 @@
+package com.vladdumbrava.excel_csv_reader.service.importer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import com.vladdumbrava.excel_csv_reader.config.ImportProperties;
+import com.vladdumbrava.excel_csv_reader.dto.ImportResultDTO;
+import com.vladdumbrava.excel_csv_reader.dto.RowRejectionDTO;
+import com.vladdumbrava.excel_csv_reader.model.Employee;
+import com.vladdumbrava.excel_csv_reader.model.ImportMode;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeRepository;
+import com.vladdumbrava.excel_csv_reader.service.stats.EmployeeStats;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.CSVEmployeeFileReader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.mock.web.MockMultipartFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+public class BatchEmployeeImporterTest {
+
+    private static final ImportMetrics METRICS = new ImportMetrics(new SimpleMeterRegistry(), ObservationRegistry.NOOP);
+
+    private static final String HEADER = "name,dateOfBirth,gender,role,email,phoneNumber,active\n";
+
+    private EmployeeRepository employeeRepository;
+    private EmployeeStats employeeStats;
+    private ImportProperties properties;
+    private BatchEmployeeImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository = mock(EmployeeRepository.class);
+        employeeStats = mock(EmployeeStats.class);
+        properties = new ImportProperties();
+        importer = new BatchEmployeeImporter(new EmployeeRowValidator(),
+                new EmployeeChunkWriter(employeeRepository, METRICS, employeeStats), properties);
+    }
+
+    @Test
+    void givenInvalidRows_whenImport_thenRejectThemAndWriteTheRest() {
+        when(employeeRepository.batchInsert(anyList())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+        String csv = HEADER
+                + "John Doe,1990-01-01,MALE,Engineer,john@example.com,111,true\n"
+                + "No Role,1990-01-01,MALE,,norole@example.com,222,true\n"
+                + "Bad Date,1990-13-45,MALE,Engineer,baddate@example.com,333,true\n"
+                + "Bad Gender,1990-01-01,OTHER,Engineer,badgender@example.com,444,true\n"
+                + "Bad Active,1990-01-01,FEMALE,Engineer,badactive@example.com,555,maybe\n"
+                + "too,few,fields\n"
+                + "Jane Doe,1991-02-02,,Manager,jane@example.com,,false\n";
+        ImportReport report = new ImportReport(ImportMode.BATCH, 100);
+
+        importer.importEmployees(new CSVEmployeeFileReader(), csvFile(csv), report);
+
+        ImportResultDTO result = report.toResult();
+        assertThat(result.rowsRead()).isEqualTo(7);
+        assertThat(result.rowsImported()).isEqualTo(2);
+        assertThat(result.rejections()).containsExactly(
+                new RowRejectionDTO(3, "role is required"),
+                new RowRejectionDTO(4, "date_of_birth is not a yyyy-MM-dd date: 1990-13-45"),
+                new RowRejectionDTO(5, "gender must be one of [MALE, FEMALE]: OTHER"),
+                new RowRejectionDTO(6, "active must be true or false: maybe"),
+                new RowRejectionDTO(7, "Expected 7 fields but got 3"));
+        verify(employeeRepository).batchInsert(argThat(employees -> employees.stream()
+                .map(Employee::getEmail)
+                .toList()
+                .equals(List.of("john@example.com", "jane@example.com"))));
+        verify(employeeStats).added(argThat(employees -> employees.size() == 2));
+    }
+
+    @Test
+    void givenChunkedReader_whenImport_thenSaveEachChunkSeparately() {
+        properties.setChunkSize(1);
+        when(employeeRepository.batchInsert(anyList())).thenReturn(1);
+        String csv = HEADER
+                + "John Doe,1990-01-01,MALE,Engineer,john@example.com,111,true\n"
+                + "Jane Doe,1991-02-02,FEMALE,Manager,jane@example.com,222,false\n";
+        ImportReport report = new ImportReport(ImportMode.BATCH, 100);
+
+        importer.importEmployees(new CSVEmployeeFileReader(), csvFile(csv), report);
+
+        assertThat(report.getRowsImported()).isEqualTo(2);
+        verify(employeeRepository, times(2)).batchInsert(anyList());
+    }
+
+    @Test
+    void givenRowViolatingUniqueConstraint_whenImport_thenSplitBatchAndRejectOnlyThatRow() {
+        when(employeeRepository.batchInsert(anyList())).thenAnswer(invocation -> {
+            List<Employee> employees = invocation.getArgument(0);
+            if (employees.stream().anyMatch(employee -> employee.getEmail().equals("taken@example.com"))) {
+                throw new DuplicateKeyException("duplicate key",
+                        new IllegalStateException("duplicate key value violates unique constraint\n  Detail: (email)"));
+            }
+            return employees.size();
+        });
+        String csv = HEADER
+                + "John Doe,1990-01-01,MALE,Engineer,john@example.com,111,true\n"
+                + "Taken,1990-01-01,MALE,Engineer,taken@example.com,222,true\n"
+                + "Jane Doe,1991-02-02,FEMALE,Manager,jane@example.com,333,false\n";
+        ImportReport report = new ImportReport(ImportMode.BATCH, 100);
+
+        importer.importEmployees(new CSVEmployeeFileReader(), csvFile(csv), report);
+
+        ImportResultDTO result = report.toResult();
+        assertThat(result.rowsImported()).isEqualTo(2);
+        assertThat(result.rejections()).containsExactly(
+                new RowRejectionDTO(3, "duplicate key value violates unique constraint Detail: (email)"));
+        verify(employeeRepository, times(4)).batchInsert(anyList());
+    }
+
+    private static MockMultipartFile csvFile(String content) {
+        return new MockMultipartFile("file", "employees.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,121 @@
+package com.vladdumbrava.excel_csv_reader.service.importer;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+
+import com.vladdumbrava.excel_csv_reader.config.ImportProperties;
+import com.vladdumbrava.excel_csv_reader.dto.ImportResultDTO;
+import com.vladdumbrava.excel_csv_reader.dto.RowRejectionDTO;
+import com.vladdumbrava.excel_csv_reader.model.ImportMode;
+import com.vladdumbrava.excel_csv_reader.service.stats.EmployeeStats;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.CSVEmployeeFileReader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the COPY import against the PostgreSQL database of the application. Rows
+ * are written in the test transaction and rolled back afterwards.
+ */
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Tag("postgres")
+public class CopyEmployeeImporterPostgresTest {
+
+    private static final String HEADER = "name,dateOfBirth,gender,role,email,phoneNumber,active\n";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private ImportMetrics importMetrics;
+    private CopyEmployeeImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        importMetrics = spy(new ImportMetrics(new SimpleMeterRegistry(), ObservationRegistry.NOOP));
+        importer = new CopyEmployeeImporter(jdbcTemplate, new ImportProperties(), importMetrics,
+                mock(EmployeeStats.class));
+    }
+
+    @Test
+    void givenRowsRejectedBeforeDuplicates_whenImport_thenCountDuplicatesOnlyAmongValidRows() {
+        String csv = HEADER
+                + ",1990-01-01,FEMALE,Dev,a@copy.example.invalid,,true\n"
+                + "Ann,1990-01-01,FEMALE,Dev,a@copy.example.invalid,,true\n"
+                + "Bob,1991-01-01,MALE,Ops,b@copy.example.invalid,copy-test-p,true\n"
+                + "Bob,1991-01-01,MALE,Ops,b@copy.example.invalid,copy-test-q,true\n"
+                + "Cid,1992-01-01,MALE,Ops,c@copy.example.invalid,copy-test-q,true\n"
+                + "Dan,1993-01-01,MALE,Ops,d@copy.example.invalid,copy-test-p,true\n";
+        ImportReport report = new ImportReport(ImportMode.COPY, 100);
+
+        importer.importEmployees(new CSVEmployeeFileReader(), csvFile(csv), report);
+
+        ImportResultDTO result = report.toResult();
+        assertThat(result.rowsRead()).isEqualTo(6);
+        assertThat(result.rowsImported()).isEqualTo(3);
+        assertThat(result.rejections()).containsExactly(
+                new RowRejectionDTO(2, "name is required"),
+                new RowRejectionDTO(5, "duplicate email in file, first seen on row 4"),
+                new RowRejectionDTO(7, "duplicate phone_number in file, first seen on row 4"));
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT email FROM employees WHERE email LIKE '%@copy.example.invalid' ORDER BY email", String.class))
+                .containsExactly("a@copy.example.invalid", "b@copy.example.invalid", "c@copy.example.invalid");
+    }
+
+    @Test
+    void givenRowInsertedConcurrently_whenImport_thenRejectTheSkippedRow() throws SQLException {
+        doAnswer(invocation -> {
+            execute("INSERT INTO employees (name, date_of_birth, role, email, active) "
+                    + "VALUES ('Other', DATE '1990-01-01', 'Dev', 'late@copy.example.invalid', true)");
+            return invocation.<Supplier<?>>getArgument(2).get();
+        }).when(importMetrics).observeWrite(eq("copy-insert"), anyLong(), any());
+        String csv = HEADER
+                + "Ann,1990-01-01,FEMALE,Dev,ann@copy.example.invalid,,true\n"
+                + "Late,1990-01-01,FEMALE,Dev,late@copy.example.invalid,,true\n";
+        ImportReport report = new ImportReport(ImportMode.COPY, 100);
+
+        try {
+            importer.importEmployees(new CSVEmployeeFileReader(), csvFile(csv), report);
+        } finally {
+            execute("DELETE FROM employees WHERE email = 'late@copy.example.invalid'");
+        }
+
+        ImportResultDTO result = report.toResult();
+        assertThat(result.rowsRead()).isEqualTo(2);
+        assertThat(result.rowsImported()).isEqualTo(1);
+        assertThat(result.rejections()).containsExactly(
+                new RowRejectionDTO(3, "email or phone_number already exists"));
+    }
+
+    // Commits on a connection of its own, outside the test transaction.
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private MockMultipartFile csvFile(String content) {
+        return new MockMultipartFile("file", "employees.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,39 @@
+package com.vladdumbrava.excel_csv_reader.service.importer;
+
+import java.nio.charset.StandardCharsets;
+
+import com.vladdumbrava.excel_csv_reader.config.ImportProperties;
+import com.vladdumbrava.excel_csv_reader.exception.FeatureDisabledException;
+import com.vladdumbrava.excel_csv_reader.model.ImportMode;
+import com.vladdumbrava.excel_csv_reader.service.stats.EmployeeStats;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.CSVEmployeeFileReader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class CopyEmployeeImporterTest {
+
+    @Test
+    void givenNonPostgreSqlDatabase_whenImport_thenThrowFeatureDisabledException() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(false);
+        CopyEmployeeImporter importer = new CopyEmployeeImporter(jdbcTemplate, new ImportProperties(),
+                new ImportMetrics(new SimpleMeterRegistry(), ObservationRegistry.NOOP), mock(EmployeeStats.class));
+        MockMultipartFile file = new MockMultipartFile("file", "employees.csv", "text/csv",
+                "name,dateOfBirth,gender,role,email,phoneNumber,active\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> importer.importEmployees(new CSVEmployeeFileReader(), file,
+                new ImportReport(ImportMode.COPY, 100)))
+                .isInstanceOf(FeatureDisabledException.class)
+                .hasMessageContaining("PostgreSQL");
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+}
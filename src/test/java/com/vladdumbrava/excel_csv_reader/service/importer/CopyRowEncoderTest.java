@@ -0,0 +1,63 @@
+package com.vladdumbrava.excel_csv_reader.service.importer;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import com.vladdumbrava.excel_csv_reader.model.Employee;
+import com.vladdumbrava.excel_csv_reader.model.Gender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CopyRowEncoderTest {
+
+    private ByteArrayOutputStream output;
+    private CopyRowEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        output = new ByteArrayOutputStream();
+        encoder = new CopyRowEncoder(output::write);
+    }
+
+    @Test
+    void givenEmployee_whenEncode_thenWriteQuotedCsvRow() throws SQLException {
+        Employee employee = new Employee();
+        employee.setName("Doe, \"Johnny\"");
+        employee.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        employee.setGender(Gender.MALE);
+        employee.setRole("Engineer");
+        employee.setEmail("john@example.com");
+        employee.setPhoneNumber("");
+        employee.setActive(true);
+
+        encoder.encode(7, employee);
+        encoder.flush();
+
+        assertThat(output.toString(StandardCharsets.UTF_8))
+                .isEqualTo("7,\"Doe, \"\"Johnny\"\"\",1990-01-01,MALE,\"Engineer\",\"john@example.com\",\"\",t\n");
+    }
+
+    @Test
+    void givenNullFields_whenEncode_thenWriteUnquotedEmptyFields() throws SQLException {
+        encoder.encode(2, new Employee());
+        encoder.flush();
+
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo("2,,,,,,,\n");
+    }
+
+    @Test
+    void givenSmallRows_whenEncode_thenBufferUntilFlush() throws SQLException {
+        Employee employee = new Employee();
+        employee.setName("Jane");
+
+        encoder.encode(2, employee);
+
+        assertThat(output.size()).isZero();
+        encoder.flush();
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo("2,\"Jane\",,,,,,\n");
+    }
+}
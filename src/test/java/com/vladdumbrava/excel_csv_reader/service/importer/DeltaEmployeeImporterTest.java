@@ -0,0 +1,169 @@
+package com.vladdumbrava.excel_csv_reader.service.importer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import com.vladdumbrava.excel_csv_reader.config.ImportProperties;
+import com.vladdumbrava.excel_csv_reader.dto.DeltaStatsDTO;
+import com.vladdumbrava.excel_csv_reader.dto.ImportResultDTO;
+import com.vladdumbrava.excel_csv_reader.model.Employee;
+import com.vladdumbrava.excel_csv_reader.model.ImportMode;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeFingerprintRepository;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeFingerprintRepository.Fingerprint;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeFingerprintRepository.FingerprintHandler;
+import com.vladdumbrava.excel_csv_reader.service.cache.EmployeeCache;
+import com.vladdumbrava.excel_csv_reader.service.stats.EmployeeStats;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.CSVEmployeeFileReader;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.EmployeeChunk;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class DeltaEmployeeImporterTest {
+
+    private static final ImportMetrics METRICS = new ImportMetrics(new SimpleMeterRegistry(), ObservationRegistry.NOOP);
+
+    private static final String HEADER = "name,dateOfBirth,gender,role,email,phoneNumber,active\n";
+
+    private EmployeeFingerprintRepository fingerprintRepository;
+    private UpsertEmployeeImporter upsertEmployeeImporter;
+    private EmployeeCache employeeCache;
+    private EmployeeStats employeeStats;
+    private DeltaEmployeeImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        fingerprintRepository = mock(EmployeeFingerprintRepository.class);
+        upsertEmployeeImporter = mock(UpsertEmployeeImporter.class);
+        employeeCache = mock(EmployeeCache.class);
+        employeeStats = mock(EmployeeStats.class);
+        importer = new DeltaEmployeeImporter(fingerprintRepository, upsertEmployeeImporter, new EmployeeRowValidator(),
+                new ImportProperties(), mock(PlatformTransactionManager.class), METRICS, employeeCache, employeeStats);
+    }
+
+    @Test
+    void givenPreviousImport_whenImport_thenApplyOnlyNewAndChangedRowsAndDeleteMissingOnes() {
+        Employee ann = parse("Ann,1990-01-01,FEMALE,Dev,ann@example.com,+1,true");
+        Employee oldBob = parse("Bob,1991-01-01,MALE,Ops,bob@example.com,+2,false");
+        doAnswer(invocation -> {
+            FingerprintHandler handler = invocation.getArgument(0);
+            handler.accept(RowFingerprint.emailHash("ann@example.com"), RowFingerprint.rowHash(ann));
+            handler.accept(RowFingerprint.emailHash("bob@example.com"), RowFingerprint.rowHash(oldBob));
+            handler.accept(RowFingerprint.emailHash("gone@example.com"), 42);
+            return null;
+        }).when(fingerprintRepository).forEach(any());
+        when(upsertEmployeeImporter.upsertChunk(any(EmployeeChunk.class), any(ImportReport.class)))
+                .thenAnswer(invocation -> {
+                    EmployeeChunk chunk = invocation.getArgument(0);
+                    return chunk.employees().stream()
+                            .map(employee -> new UpsertEmployeeImporter.Row(0, employee))
+                            .toList();
+                });
+        when(fingerprintRepository.deleteEmployees(any())).thenReturn(List.of(12L));
+        String csv = HEADER
+                + "Ann,1990-01-01,FEMALE,Dev,ann@example.com,+1,true\n"
+                + "Bob,1991-01-01,MALE,Lead,bob@example.com,+2,false\n"
+                + "Cid,1992-01-01,MALE,Ops,cid@example.com,+3,true\n"
+                + "No Role,1992-01-01,MALE,,norole@example.com,,true\n";
+        ImportReport report = new ImportReport(ImportMode.DELTA, 100);
+
+        importer.importEmployees(new CSVEmployeeFileReader(), csvFile(csv), report);
+
+        ArgumentCaptor<EmployeeChunk> applied = ArgumentCaptor.forClass(EmployeeChunk.class);
+        verify(upsertEmployeeImporter).upsertChunk(applied.capture(), eq(report));
+        assertThat(applied.getValue().employees()).extracting(Employee::getEmail)
+                .containsExactly("bob@example.com", "cid@example.com");
+        assertThat(applied.getValue().rowNumbers()).containsExactly(3, 4);
+
+        ArgumentCaptor<List<Fingerprint>> saved = ArgumentCaptor.captor();
+        verify(fingerprintRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(Fingerprint::email)
+                .containsExactly("bob@example.com", "cid@example.com");
+        verify(fingerprintRepository).deleteEmployees(new long[]{RowFingerprint.emailHash("gone@example.com")});
+        verify(employeeCache).evictAll(List.of(12L));
+        verify(employeeStats).markStale();
+
+        ImportResultDTO result = report.toResult();
+        assertThat(result.delta()).usingRecursiveComparison().ignoringFields("estimatedMillisSaved")
+                .isEqualTo(new DeltaStatsDTO(1, 1, 1, 1, 0));
+        assertThat(result.rowsRejected()).isEqualTo(1);
+    }
+
+    @Test
+    void givenNothingChanged_whenImport_thenSkipDatabaseWrites() {
+        Employee ann = parse("Ann,1990-01-01,FEMALE,Dev,ann@example.com,+1,true");
+        doAnswer(invocation -> {
+            invocation.<FingerprintHandler>getArgument(0)
+                    .accept(RowFingerprint.emailHash("ann@example.com"), RowFingerprint.rowHash(ann));
+            return null;
+        }).when(fingerprintRepository).forEach(any());
+        ImportReport report = new ImportReport(ImportMode.DELTA, 100);
+
+        importer.importEmployees(new CSVEmployeeFileReader(),
+                csvFile(HEADER + "Ann,1990-01-01,FEMALE,Dev,ann@example.com,+1,true\n"), report);
+
+        verifyNoInteractions(upsertEmployeeImporter);
+        verify(fingerprintRepository, never()).saveAll(any());
+        verify(fingerprintRepository, never()).deleteEmployees(any());
+        assertThat(report.getRowsImported()).isEqualTo(1);
+        assertThat(report.toResult().delta().unchangedRows()).isEqualTo(1);
+    }
+
+    @Test
+    void givenPreviouslyImportedRowNowRejected_whenImport_thenKeepTheEmployee() {
+        Employee ann = parse("Ann,1990-01-01,FEMALE,Dev,ann@example.com,+1,true");
+        Employee bob = parse("Bob,1991-01-01,MALE,Ops,bob@example.com,+2,false");
+        doAnswer(invocation -> {
+            FingerprintHandler handler = invocation.getArgument(0);
+            handler.accept(RowFingerprint.emailHash("ann@example.com"), RowFingerprint.rowHash(ann));
+            handler.accept(RowFingerprint.emailHash("bob@example.com"), RowFingerprint.rowHash(bob));
+            return null;
+        }).when(fingerprintRepository).forEach(any());
+        ImportReport report = new ImportReport(ImportMode.DELTA, 100);
+
+        importer.importEmployees(new CSVEmployeeFileReader(), csvFile(HEADER
+                + "Ann,1990-01-01,FEMALE,Dev,ann@example.com,+1,true\n"
+                + "Bob,1991-01-01,MALE,,bob@example.com,+2,false\n"), report);
+
+        verify(fingerprintRepository, never()).deleteEmployees(any());
+        verify(employeeStats, never()).markStale();
+        assertThat(report.getRowsRejected()).isEqualTo(1);
+        assertThat(report.toResult().delta().deletedRows()).isZero();
+    }
+
+    @Test
+    void givenRowRejectedByReader_whenImport_thenSkipDeletions() {
+        Employee ann = parse("Ann,1990-01-01,FEMALE,Dev,ann@example.com,+1,true");
+        doAnswer(invocation -> {
+            FingerprintHandler handler = invocation.getArgument(0);
+            handler.accept(RowFingerprint.emailHash("ann@example.com"), RowFingerprint.rowHash(ann));
+            handler.accept(RowFingerprint.emailHash("bob@example.com"), 42);
+            return null;
+        }).when(fingerprintRepository).forEach(any());
+        ImportReport report = new ImportReport(ImportMode.DELTA, 100);
+
+        importer.importEmployees(new CSVEmployeeFileReader(), csvFile(HEADER
+                + "Ann,1990-01-01,FEMALE,Dev,ann@example.com,+1,true\n"
+                + "broken,line\n"), report);
+
+        verify(fingerprintRepository, never()).deleteEmployees(any());
+        assertThat(report.getRowsRejected()).isEqualTo(1);
+    }
+
+    private Employee parse(String line) {
+        return new CSVEmployeeFileReader().read(csvFile(HEADER + line + "\n")).getFirst();
+    }
+
+    private MockMultipartFile csvFile(String content) {
+        return new MockMultipartFile("file", "employees.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
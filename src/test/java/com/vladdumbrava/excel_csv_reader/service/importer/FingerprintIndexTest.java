@@ -0,0 +1,83 @@
+package com.vladdumbrava.excel_csv_reader.service.importer;
+
+import java.time.LocalDate;
+
+import com.vladdumbrava.excel_csv_reader.model.Employee;
+import com.vladdumbrava.excel_csv_reader.model.Gender;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FingerprintIndexTest {
+
+    @Test
+    void givenPreviousFingerprints_whenMark_thenClassifyRowsAndReportUnseen() {
+        FingerprintIndex index = new FingerprintIndex(2);
+        index.put(1, 10);
+        index.put(2, 20);
+        index.put(0, 30);
+
+        assertThat(index.mark(1, 10)).isEqualTo(FingerprintIndex.Change.UNCHANGED);
+        assertThat(index.mark(2, 21)).isEqualTo(FingerprintIndex.Change.CHANGED);
+        assertThat(index.mark(3, 30)).isEqualTo(FingerprintIndex.Change.NEW);
+        assertThat(index.mark(2, 21)).isEqualTo(FingerprintIndex.Change.UNCHANGED);
+
+        assertThat(index.unseen()).containsExactly(0L);
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    void givenRejectedRows_whenMarkSeen_thenKeepThemOutOfUnseenWithoutChangingTheirHash() {
+        FingerprintIndex index = new FingerprintIndex(2);
+        index.put(1, 10);
+        index.put(2, 20);
+
+        index.markSeen(1);
+        index.markSeen(3);
+
+        assertThat(index.unseen()).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.mark(1, 10)).isEqualTo(FingerprintIndex.Change.UNCHANGED);
+    }
+
+    @Test
+    void givenMoreEntriesThanExpected_whenPut_thenGrowAndKeepSeenMarks() {
+        FingerprintIndex index = new FingerprintIndex(1);
+        for (long key = 1; key <= 10_000; key++) {
+            index.put(key * 0x9e3779b97f4a7c15L, key);
+        }
+        for (long key = 1; key <= 10_000; key += 2) {
+            index.mark(key * 0x9e3779b97f4a7c15L, key);
+        }
+        for (long key = 10_001; key <= 20_000; key++) {
+            assertThat(index.mark(key * 0x9e3779b97f4a7c15L, key)).isEqualTo(FingerprintIndex.Change.NEW);
+        }
+
+        assertThat(index.size()).isEqualTo(20_000);
+        assertThat(index.unseen()).hasSize(5_000);
+    }
+
+    @Test
+    void givenRowsDifferingInOneField_whenRowHash_thenHashesDiffer() {
+        Employee employee = new Employee();
+        employee.setName("Ann");
+        employee.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        employee.setGender(Gender.FEMALE);
+        employee.setRole("Dev");
+        employee.setEmail("ann@example.com");
+        employee.setPhoneNumber("");
+        employee.setActive(true);
+        long original = RowFingerprint.rowHash(employee);
+
+        employee.setEmail("other@example.com");
+        assertThat(RowFingerprint.rowHash(employee)).isEqualTo(original);
+
+        employee.setPhoneNumber(null);
+        assertThat(RowFingerprint.rowHash(employee)).isNotEqualTo(original);
+
+        employee.setPhoneNumber("");
+        employee.setName("An");
+        employee.setRole("nDev");
+        assertThat(RowFingerprint.rowHash(employee)).isNotEqualTo(original);
+    }
+}
@@ -0,0 +1,106 @@
+package com.vladdumbrava.excel_csv_reader.service.importer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.vladdumbrava.excel_csv_reader.config.ImportProperties;
+import com.vladdumbrava.excel_csv_reader.model.ImportMode;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.CSVEmployeeFileReader;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.EmployeeFileReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.KeyValuePair;
+
+import org.springframework.mock.web.MockMultipartFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ImportAuditLogTest {
+
+    private static final String CSV = "name,dateOfBirth,gender,role,email,phoneNumber,active\n"
+            + "John Doe,1990-01-01,MALE,Engineer,john@example.com,111,true\n"
+            + "Jane Doe,1991-02-02,FEMALE,Manager,jane@example.com,222,false\n"
+            + "Ann Lee,1992-03-03,FEMALE,Designer,ann@example.com,333,true\n";
+
+    private final Logger auditLogger = (Logger) LoggerFactory.getLogger(ImportAuditLog.AUDIT_LOGGER);
+    private final Logger rowDumpLogger = (Logger) LoggerFactory.getLogger(ImportAuditLog.ROW_DUMP_LOGGER);
+    private final ListAppender<ILoggingEvent> audit = new ListAppender<>();
+    private final ListAppender<ILoggingEvent> rowDump = new ListAppender<>();
+
+    private ImportProperties properties;
+    private ImportAuditLog importAuditLog;
+
+    @BeforeEach
+    void setUp() {
+        audit.start();
+        rowDump.start();
+        auditLogger.addAppender(audit);
+        rowDumpLogger.addAppender(rowDump);
+        auditLogger.setLevel(Level.INFO);
+        rowDumpLogger.setLevel(Level.INFO);
+        properties = new ImportProperties();
+        importAuditLog = new ImportAuditLog(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        auditLogger.detachAppender(audit);
+        rowDumpLogger.detachAppender(rowDump);
+        auditLogger.setLevel(null);
+        rowDumpLogger.setLevel(null);
+    }
+
+    @Test
+    void givenNoSampling_whenRead_thenLogOneSummaryPerChunkAndNoRows() {
+        properties.getAudit().setRowSampleRate(0);
+        ImportReport report = new ImportReport(ImportMode.BATCH, 10);
+
+        read(report, 2);
+
+        assertThat(audit.list).extracting(ILoggingEvent::getMessage)
+                .containsExactly("Import chunk handled", "Import chunk handled");
+        assertThat(keyValues(audit.list.get(1))).contains(
+                "file=employees.csv", "mode=BATCH", "first_row=4", "last_row=4", "rows=1",
+                "total_read=3", "total_imported=3", "total_rejected=0");
+        assertThat(rowDump.list).isEmpty();
+    }
+
+    @Test
+    void givenFullSamplingAndRowDumpEnabled_whenRead_thenLogEveryRow() {
+        properties.getAudit().setRowSampleRate(1);
+        rowDumpLogger.setLevel(Level.DEBUG);
+
+        read(new ImportReport(ImportMode.BATCH, 10), 3);
+
+        assertThat(audit.list).extracting(ILoggingEvent::getMessage).containsExactly(
+                "Sampled import row", "Sampled import row", "Sampled import row", "Import chunk handled");
+        assertThat(keyValues(audit.list.getFirst())).contains("file=employees.csv", "row=2");
+        assertThat(rowDump.list).hasSize(3);
+        assertThat(rowDump.list.getFirst().getFormattedMessage()).startsWith("employees.csv row 2: ");
+    }
+
+    private void read(ImportReport report, int chunkSize) {
+        EmployeeFileReader reader = importAuditLog.audit(new CSVEmployeeFileReader(), "employees.csv", report);
+        MockMultipartFile file = new MockMultipartFile("file", "employees.csv", "text/csv",
+                CSV.getBytes(StandardCharsets.UTF_8));
+        reader.read(file, chunkSize, chunk -> {
+            report.addRowsRead(chunk.size());
+            report.addRowsImported(chunk.size());
+        });
+    }
+
+    private static List<String> keyValues(ILoggingEvent event) {
+        List<String> keyValues = new ArrayList<>();
+        for (KeyValuePair pair : event.getKeyValuePairs()) {
+            keyValues.add(pair.key + "=" + pair.value);
+        }
+        return keyValues;
+    }
+}
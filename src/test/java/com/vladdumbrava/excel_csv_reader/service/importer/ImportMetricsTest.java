@@ -0,0 +1,102 @@
+package com.vladdumbrava.excel_csv_reader.service.importer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.vladdumbrava.excel_csv_reader.model.ImportMode;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.CSVEmployeeFileReader;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.EmployeeChunk;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.EmployeeChunkHandler;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.EmployeeFileReader;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.mock.web.MockMultipartFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ImportMetricsTest {
+
+    private static final String CSV = "name,dateOfBirth,gender,role,email,phoneNumber,active\n"
+            + "John Doe,1990-01-01,MALE,Engineer,john@example.com,111,true\n"
+            + "too,few,fields\n"
+            + "Jane Doe,1991-02-02,FEMALE,Manager,jane@example.com,222,false\n";
+
+    private MeterRegistry meterRegistry;
+    private ImportMetrics importMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+        importMetrics = new ImportMetrics(meterRegistry, observationRegistry);
+    }
+
+    @Test
+    void givenInstrumentedReader_whenRead_thenRecordFileSizeParseTimeAndThroughputByReader() {
+        MockMultipartFile file = csvFile();
+        List<Long> rejectedRows = new ArrayList<>();
+        EmployeeFileReader reader = importMetrics.instrument(new CSVEmployeeFileReader());
+
+        long rows = reader.read(file, 1, new EmployeeChunkHandler() {
+            @Override
+            public void onChunk(EmployeeChunk chunk) {
+            }
+
+            @Override
+            public void onRejectedRow(long rowNumber, String reason) {
+                rejectedRows.add(rowNumber);
+            }
+        });
+
+        assertThat(rows).isEqualTo(2);
+        assertThat(rejectedRows).containsExactly(3L);
+        assertThat(meterRegistry.get("employees.import.file.size").tag("reader", "CSVEmployeeFileReader")
+                .summary().totalAmount()).isEqualTo(file.getSize());
+        assertThat(meterRegistry.get("employees.import.parse").tag("reader", "CSVEmployeeFileReader")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("employees.import.parse.throughput").tag("reader", "CSVEmployeeFileReader")
+                .summary().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("employees.import.read").tag("reader", "CSVEmployeeFileReader")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void givenImport_whenObserved_thenRecordStagesBatchesAndRowOutcomes() {
+        ImportReport report = new ImportReport(ImportMode.BATCH, 10);
+
+        importMetrics.observeImport(ImportMode.BATCH, () -> {
+            importMetrics.observeReaderSelection(CSVEmployeeFileReader::new);
+            int inserted = importMetrics.observeWrite("insert", 2, () -> 2);
+            report.addRowsRead(3);
+            report.addRowsImported(inserted);
+            report.reject(3, "Expected 7 fields but got 3");
+        });
+        importMetrics.recordRows(report);
+
+        assertThat(meterRegistry.get("employees.import").tag("mode", "BATCH").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("employees.import.reader.selection").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("employees.import.write").tag("operation", "insert").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("employees.import.write.rows").tag("operation", "insert")
+                .summary().totalAmount()).isEqualTo(2);
+        assertThat(rowCount("read")).isEqualTo(3);
+        assertThat(rowCount("imported")).isEqualTo(2);
+        assertThat(rowCount("rejected")).isEqualTo(1);
+    }
+
+    private double rowCount(String outcome) {
+        return meterRegistry.get("employees.import.rows").tag("mode", "BATCH").tag("outcome", outcome)
+                .counter().count();
+    }
+
+    private static MockMultipartFile csvFile() {
+        return new MockMultipartFile("file", "employees.csv", "text/csv", CSV.getBytes(StandardCharsets.UTF_8));
+    }
+}
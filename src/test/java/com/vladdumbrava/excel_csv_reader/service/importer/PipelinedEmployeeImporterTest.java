@@ -0,0 +1,116 @@
+package com.vladdumbrava.excel_csv_reader.service.importer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.vladdumbrava.excel_csv_reader.config.ImportProperties;
+import com.vladdumbrava.excel_csv_reader.dto.ImportResultDTO;
+import com.vladdumbrava.excel_csv_reader.dto.RowRejectionDTO;
+import com.vladdumbrava.excel_csv_reader.dto.StageStatsDTO;
+import com.vladdumbrava.excel_csv_reader.model.ImportMode;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeRepository;
+import com.vladdumbrava.excel_csv_reader.service.stats.EmployeeStats;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.CSVEmployeeFileReader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockMultipartFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PipelinedEmployeeImporterTest {
+
+    private static final ImportMetrics METRICS = new ImportMetrics(new SimpleMeterRegistry(), ObservationRegistry.NOOP);
+
+    private static final String HEADER = "name,dateOfBirth,gender,role,email,phoneNumber,active\n";
+
+    private EmployeeRepository employeeRepository;
+    private ImportProperties properties;
+    private PipelinedEmployeeImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository = mock(EmployeeRepository.class);
+        properties = new ImportProperties();
+        properties.setChunkSize(2);
+        properties.getPipeline().setQueueCapacity(1);
+        importer = importer(new MockEnvironment());
+    }
+
+    @Test
+    void givenValidAndInvalidRows_whenImport_thenWriteValidRowsAndRejectInvalidOnes() {
+        when(employeeRepository.batchInsert(anyList())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < 9; i++) {
+            csv.append("Employee ").append(i).append(",1990-01-01,MALE,Engineer,e").append(i)
+                    .append("@example.com,123,true\n");
+        }
+        csv.append("No Role,1990-01-01,MALE,,norole@example.com,123,true\n");
+        csv.append("too,few,fields\n");
+        ImportReport report = new ImportReport(ImportMode.PIPELINED, 100);
+
+        importer.importEmployees(new CSVEmployeeFileReader(), csvFile(csv.toString()), report);
+
+        ImportResultDTO result = report.toResult();
+        assertThat(result.rowsRead()).isEqualTo(11);
+        assertThat(result.rowsImported()).isEqualTo(9);
+        assertThat(result.rowsRejected()).isEqualTo(2);
+        assertThat(result.rejections()).extracting(RowRejectionDTO::rowNumber).containsExactly(11L, 12L);
+        assertThat(result.stages()).extracting(StageStatsDTO::stage)
+                .containsExactly("reader", "validator", "writer");
+    }
+
+    @Test
+    void givenVirtualThreadsEnabled_whenImport_thenWriteOnVirtualThreads() {
+        Set<Boolean> virtualWriters = ConcurrentHashMap.newKeySet();
+        when(employeeRepository.batchInsert(anyList())).thenAnswer(invocation -> {
+            virtualWriters.add(Thread.currentThread().isVirtual());
+            return invocation.<List<?>>getArgument(0).size();
+        });
+        importer = importer(new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true"));
+        String csv = HEADER
+                + "John Doe,1990-01-01,MALE,Engineer,john@example.com,111,true\n"
+                + "Jane Doe,1991-02-02,FEMALE,Manager,jane@example.com,222,false\n"
+                + "Ann Lee,1992-03-03,FEMALE,Designer,ann@example.com,333,true\n";
+        ImportReport report = new ImportReport(ImportMode.PIPELINED, 100);
+
+        importer.importEmployees(new CSVEmployeeFileReader(), csvFile(csv), report);
+
+        assertThat(report.getRowsImported()).isEqualTo(3);
+        assertThat(virtualWriters).containsExactly(true);
+    }
+
+    @Test
+    void givenWriterFailure_whenImport_thenRethrowAndStopReading() {
+        when(employeeRepository.batchInsert(anyList())).thenThrow(new IllegalStateException("database down"));
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < 1_000; i++) {
+            csv.append("Employee ").append(i).append(",1990-01-01,MALE,Engineer,e").append(i)
+                    .append("@example.com,123,true\n");
+        }
+        ImportReport report = new ImportReport(ImportMode.PIPELINED, 100);
+
+        assertThatThrownBy(() -> importer.importEmployees(new CSVEmployeeFileReader(), csvFile(csv.toString()), report))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("database down");
+        assertThat(report.getRowsRead()).isLessThan(1_000);
+    }
+
+    private PipelinedEmployeeImporter importer(MockEnvironment environment) {
+        return new PipelinedEmployeeImporter(new EmployeeChunkWriter(employeeRepository, METRICS, mock(EmployeeStats.class)),
+                new EmployeeRowValidator(), properties, environment);
+    }
+
+    private MockMultipartFile csvFile(String content) {
+        return new MockMultipartFile("file", "employees.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
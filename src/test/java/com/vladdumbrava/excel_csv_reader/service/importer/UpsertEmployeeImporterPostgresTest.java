@@ -0,0 +1,105 @@
+package com.vladdumbrava.excel_csv_reader.service.importer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import com.vladdumbrava.excel_csv_reader.config.ImportProperties;
+import com.vladdumbrava.excel_csv_reader.dto.ImportResultDTO;
+import com.vladdumbrava.excel_csv_reader.dto.RowRejectionDTO;
+import com.vladdumbrava.excel_csv_reader.dto.UpsertStatsDTO;
+import com.vladdumbrava.excel_csv_reader.model.ImportMode;
+import com.vladdumbrava.excel_csv_reader.service.cache.EmployeeCache;
+import com.vladdumbrava.excel_csv_reader.service.stats.EmployeeStats;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.CSVEmployeeFileReader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the upsert statement against the PostgreSQL database of the application.
+ * Rows are written in the test transaction and rolled back afterwards.
+ */
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Tag("postgres")
+public class UpsertEmployeeImporterPostgresTest {
+
+    private static final String HEADER = "name,dateOfBirth,gender,role,email,phoneNumber,active\n";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private EmployeeCache employeeCache;
+    private UpsertEmployeeImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        employeeCache = mock(EmployeeCache.class);
+        importer = new UpsertEmployeeImporter(jdbcTemplate, new EmployeeRowValidator(), new ImportProperties(),
+                new ImportMetrics(new SimpleMeterRegistry(), ObservationRegistry.NOOP), employeeCache,
+                mock(EmployeeStats.class));
+    }
+
+    @Test
+    void givenSameFileTwice_whenImport_thenWriteNothingTheSecondTime() {
+        String csv = HEADER
+                + "Ann,1990-01-01,FEMALE,Dev,ann@upsert.example.invalid,upsert-test-1,true\n"
+                + "Bob,1991-01-01,,Ops,bob@upsert.example.invalid,,false\n";
+
+        ImportResultDTO first = upsert(csv);
+        ImportResultDTO second = upsert(csv);
+
+        assertThat(first.upsert()).isEqualTo(new UpsertStatsDTO(2, 0, 0));
+        assertThat(second.upsert()).isEqualTo(new UpsertStatsDTO(0, 0, 2));
+        assertThat(second.rowsImported()).isEqualTo(2);
+    }
+
+    @Test
+    void givenChangedRow_whenImport_thenUpdateItAndEvictItsId() {
+        upsert(HEADER + "Ann,1990-01-01,FEMALE,Dev,ann@upsert.example.invalid,upsert-test-1,true\n");
+        Long id = jdbcTemplate.queryForObject(
+                "SELECT employee_id FROM employees WHERE email = 'ann@upsert.example.invalid'", Long.class);
+
+        ImportResultDTO result = upsert(HEADER
+                + "Ann,1990-01-01,FEMALE,Lead,ann@upsert.example.invalid,upsert-test-1,true\n");
+
+        assertThat(result.upsert()).isEqualTo(new UpsertStatsDTO(0, 1, 0));
+        verify(employeeCache).evictAll(List.of(id));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT role FROM employees WHERE employee_id = ?", String.class, id)).isEqualTo("Lead");
+    }
+
+    @Test
+    void givenPhoneOfAnotherEmployee_whenImport_thenRejectTheRowAndKeepTheOthers() {
+        upsert(HEADER + "Ann,1990-01-01,FEMALE,Dev,ann@upsert.example.invalid,upsert-test-1,true\n");
+
+        ImportResultDTO result = upsert(HEADER
+                + "Bob,1991-01-01,MALE,Ops,bob@upsert.example.invalid,upsert-test-1,false\n"
+                + "Cid,1992-01-01,MALE,Ops,cid@upsert.example.invalid,upsert-test-2,true\n");
+
+        assertThat(result.upsert()).isEqualTo(new UpsertStatsDTO(1, 0, 0));
+        assertThat(result.rejections()).containsExactly(
+                new RowRejectionDTO(2, "phone_number already exists: upsert-test-1"));
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT email FROM employees WHERE email LIKE '%@upsert.example.invalid' ORDER BY email", String.class))
+                .containsExactly("ann@upsert.example.invalid", "cid@upsert.example.invalid");
+    }
+
+    private ImportResultDTO upsert(String csv) {
+        ImportReport report = new ImportReport(ImportMode.UPSERT, 100);
+        importer.importEmployees(new CSVEmployeeFileReader(), new MockMultipartFile("file", "employees.csv",
+                "text/csv", csv.getBytes(StandardCharsets.UTF_8)), report);
+        return report.toResult();
+    }
+}
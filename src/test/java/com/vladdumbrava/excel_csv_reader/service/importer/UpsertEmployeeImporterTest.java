@@ -0,0 +1,109 @@
+package com.vladdumbrava.excel_csv_reader.service.importer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import com.vladdumbrava.excel_csv_reader.config.ImportProperties;
+import com.vladdumbrava.excel_csv_reader.dto.ImportResultDTO;
+import com.vladdumbrava.excel_csv_reader.dto.RowRejectionDTO;
+import com.vladdumbrava.excel_csv_reader.dto.UpsertStatsDTO;
+import com.vladdumbrava.excel_csv_reader.model.ImportMode;
+import com.vladdumbrava.excel_csv_reader.service.cache.EmployeeCache;
+import com.vladdumbrava.excel_csv_reader.service.stats.EmployeeStats;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.CSVEmployeeFileReader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.mock.web.MockMultipartFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class UpsertEmployeeImporterTest {
+
+    private static final ImportMetrics METRICS = new ImportMetrics(new SimpleMeterRegistry(), ObservationRegistry.NOOP);
+
+    private static final String HEADER = "name,dateOfBirth,gender,role,email,phoneNumber,active\n";
+
+    private JdbcTemplate jdbcTemplate;
+    private EmployeeCache employeeCache;
+    private EmployeeStats employeeStats;
+    private UpsertEmployeeImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        ImportProperties properties = new ImportProperties();
+        properties.setChunkSize(10);
+        employeeCache = mock(EmployeeCache.class);
+        employeeStats = mock(EmployeeStats.class);
+        importer = new UpsertEmployeeImporter(jdbcTemplate, new EmployeeRowValidator(), properties, METRICS,
+                employeeCache, employeeStats);
+    }
+
+    @Test
+    void givenDuplicatesInFile_whenImport_thenKeepLastEmailAndFirstPhone() {
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class)))
+                .thenReturn(new UpsertEmployeeImporter.UpsertResult(1, 1, List.of(7L), Map.of()));
+        String csv = HEADER
+                + "Ann,1990-01-01,FEMALE,Dev,ann@example.com,+1,true\n"
+                + "Bob,1991-01-01,MALE,Ops,bob@example.com,+2,false\n"
+                + "Ann,1990-01-01,FEMALE,Lead,ann@example.com,+1,true\n"
+                + "Cid,1992-01-01,MALE,Ops,cid@example.com,+2,true\n"
+                + "No Date,,MALE,Ops,nodate@example.com,,true\n";
+        ImportReport report = new ImportReport(ImportMode.UPSERT, 100);
+
+        importer.importEmployees(new CSVEmployeeFileReader(), csvFile(csv), report);
+
+        ImportResultDTO result = report.toResult();
+        assertThat(result.rowsRead()).isEqualTo(5);
+        assertThat(result.rowsImported()).isEqualTo(2);
+        assertThat(result.rejections()).containsExactly(
+                new RowRejectionDTO(2, "duplicate email in file, superseded by row 4"),
+                new RowRejectionDTO(5, "duplicate phone_number in file, first seen on row 3"),
+                new RowRejectionDTO(6, "date_of_birth is required"));
+        assertThat(result.upsert()).isEqualTo(new UpsertStatsDTO(1, 1, 0));
+        verify(employeeCache).evictAll(List.of(7L));
+        verify(employeeStats).markStale();
+    }
+
+    @Test
+    void givenPhoneConflictsAndUnchangedRows_whenImport_thenCountEachOutcome() {
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class)))
+                .thenReturn(new UpsertEmployeeImporter.UpsertResult(1, 0, List.of(), Map.of(3L, "+2")));
+        String csv = HEADER
+                + "Ann,1990-01-01,FEMALE,Dev,ann@example.com,+1,true\n"
+                + "Bob,1991-01-01,MALE,Ops,bob@example.com,+2,false\n"
+                + "Cid,1992-01-01,MALE,Ops,cid@example.com,+3,true\n";
+        ImportReport report = new ImportReport(ImportMode.UPSERT, 100);
+
+        importer.importEmployees(new CSVEmployeeFileReader(), csvFile(csv), report);
+
+        ImportResultDTO result = report.toResult();
+        assertThat(result.rowsImported()).isEqualTo(2);
+        assertThat(result.rejections()).containsExactly(new RowRejectionDTO(3, "phone_number already exists: +2"));
+        assertThat(result.upsert()).isEqualTo(new UpsertStatsDTO(1, 0, 1));
+    }
+
+    @Test
+    void givenOnlyInvalidRows_whenImport_thenSkipDatabase() {
+        String csv = HEADER + "No Role,1990-01-01,MALE,,norole@example.com,,true\n";
+        ImportReport report = new ImportReport(ImportMode.UPSERT, 100);
+
+        importer.importEmployees(new CSVEmployeeFileReader(), csvFile(csv), report);
+
+        assertThat(report.getRowsRejected()).isEqualTo(1);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private MockMultipartFile csvFile(String content) {
+        return new MockMultipartFile("file", "employees.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,139 @@
+package com.vladdumbrava.excel_csv_reader.service.stats;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import com.vladdumbrava.excel_csv_reader.config.QueryProperties;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeStatsDTO;
+import com.vladdumbrava.excel_csv_reader.model.Employee;
+import com.vladdumbrava.excel_csv_reader.model.Gender;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeHeadcount;
+import com.vladdumbrava.excel_csv_reader.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+public class EmployeeStatsTest {
+
+    private EmployeeRepository employeeRepository;
+    private QueryProperties queryProperties;
+    private EmployeeStats employeeStats;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository = mock(EmployeeRepository.class);
+        when(employeeRepository.countHeadcounts()).thenReturn(List.of(
+                new EmployeeHeadcount("Engineer", Gender.MALE, true, 3),
+                new EmployeeHeadcount("Engineer", Gender.FEMALE, false, 2),
+                new EmployeeHeadcount("Manager", null, true, 1)));
+        queryProperties = new QueryProperties();
+        employeeStats = new EmployeeStats(employeeRepository, queryProperties);
+    }
+
+    @Test
+    void givenNoRecountYet_whenGet_thenRecountOnceAndServeTheSummary() {
+        EmployeeStatsDTO stats = employeeStats.get();
+
+        assertThat(stats.total()).isEqualTo(6);
+        assertThat(stats.active()).isEqualTo(4);
+        assertThat(stats.inactive()).isEqualTo(2);
+        assertThat(stats.byRole()).isEqualTo(Map.of("Engineer", 5L, "Manager", 1L));
+        assertThat(stats.byGender()).isEqualTo(Map.of(Gender.MALE, 3L, Gender.FEMALE, 2L));
+        assertThat(stats.reconciledAt()).isNotNull();
+        assertThat(employeeStats.get()).isSameAs(stats);
+        verify(employeeRepository, times(1)).countHeadcounts();
+    }
+
+    @Test
+    void givenChanges_whenGet_thenApplyThemWithoutRecounting() {
+        employeeStats.reconcile();
+
+        employeeStats.added(List.of(employee("Designer", Gender.FEMALE, true)));
+        employeeStats.record(List.of(
+                new EmployeeHeadcount("Manager", null, true, -1),
+                new EmployeeHeadcount("Engineer", Gender.MALE, false, 1)));
+        EmployeeStatsDTO stats = employeeStats.get();
+
+        assertThat(stats.total()).isEqualTo(7);
+        assertThat(stats.active()).isEqualTo(4);
+        assertThat(stats.inactive()).isEqualTo(3);
+        assertThat(stats.byRole()).isEqualTo(Map.of("Engineer", 6L, "Designer", 1L));
+        assertThat(stats.byGender()).isEqualTo(Map.of(Gender.MALE, 4L, Gender.FEMALE, 3L));
+        verify(employeeRepository, times(1)).countHeadcounts();
+    }
+
+    @Test
+    void givenActiveTransaction_whenRecord_thenApplyOnlyAfterCommit() {
+        employeeStats.reconcile();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            employeeStats.added(List.of(employee("Designer", Gender.FEMALE, true)));
+            assertThat(employeeStats.get().total()).isEqualTo(6);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(employeeStats.get().total()).isEqualTo(7);
+    }
+
+    @Test
+    void givenStaleOrOldSummary_whenReconcileIfDue_thenRecount() {
+        employeeStats.reconcileIfDue();
+        employeeStats.reconcileIfDue();
+        verify(employeeRepository, times(1)).countHeadcounts();
+
+        employeeStats.markStale();
+        employeeStats.reconcileIfDue();
+        employeeStats.reconcileIfDue();
+        verify(employeeRepository, times(2)).countHeadcounts();
+
+        queryProperties.getStats().setReconcileInterval(Duration.ZERO);
+        employeeStats.reconcileIfDue();
+        verify(employeeRepository, times(3)).countHeadcounts();
+    }
+
+    @Test
+    void givenDriftedSummary_whenReconcile_thenReplaceItWithTheRecount() {
+        employeeStats.reconcile();
+        employeeStats.added(List.of(employee("Ghost", Gender.MALE, true)));
+        assertThat(employeeStats.get().total()).isEqualTo(7);
+
+        employeeStats.reconcile();
+
+        assertThat(employeeStats.get().total()).isEqualTo(6);
+        assertThat(employeeStats.get().byRole()).doesNotContainKey("Ghost");
+    }
+
+    @Test
+    void givenChangeCommittedDuringRecount_whenReconcile_thenKeepItOnTopOfTheRecount() {
+        employeeStats.reconcile();
+        when(employeeRepository.countHeadcounts()).thenAnswer(invocation -> {
+            employeeStats.added(List.of(employee("Designer", Gender.FEMALE, true)));
+            return List.of(
+                    new EmployeeHeadcount("Engineer", Gender.MALE, true, 3),
+                    new EmployeeHeadcount("Engineer", Gender.FEMALE, false, 2),
+                    new EmployeeHeadcount("Manager", null, true, 1));
+        });
+
+        employeeStats.reconcile();
+
+        assertThat(employeeStats.get().total()).isEqualTo(7);
+        assertThat(employeeStats.get().byRole()).containsEntry("Designer", 1L);
+    }
+
+    private static Employee employee(String role, Gender gender, Boolean active) {
+        Employee employee = new Employee();
+        employee.setRole(role);
+        employee.setGender(gender);
+        employee.setActive(active);
+        return employee;
+    }
+}
@@ -146,4 +146,31 @@ public class DataTypeParserTest {
         assertThat(result).isNull();
     }
 
+    @Test
+    void givenCharRange_whenHandleNullity_thenReturnTrimmedValueOrNull() {
+        char[] chars = "x, John ,N/A,".toCharArray();
+
+        assertThat(handleNullityInString(chars, 2, 6)).isEqualTo("John");
+        assertThat(handleNullityInString(chars, 9, 3)).isNull();
+        assertThat(handleNullityInString(chars, 13, 0)).isNull();
+    }
+
+    @Test
+    void givenCharRange_whenParseDate_thenParseWithoutString() {
+        char[] chars = " 1990-01-31 |1990-02-31|19x0-01-01".toCharArray();
+
+        assertThat(parseDate(chars, 0, 12)).isEqualTo(LocalDate.of(1990, 1, 31));
+        assertThat(parseDate(chars, 13, 10)).isNull();
+        assertThat(parseDate(chars, 24, 10)).isNull();
+    }
+
+    @Test
+    void givenCharRange_whenParseGenderAndBoolean_thenIgnoreCase() {
+        char[] chars = " female |TRUE|no".toCharArray();
+
+        assertThat(parseGender(chars, 0, 8)).isEqualTo(Gender.FEMALE);
+        assertThat(parseBoolean(chars, 9, 4)).isTrue();
+        assertThat(parseBoolean(chars, 14, 2)).isNull();
+    }
+
 }
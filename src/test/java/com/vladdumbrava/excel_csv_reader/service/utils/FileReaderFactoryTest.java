@@ -1,16 +1,24 @@
 package com.vladdumbrava.excel_csv_reader.service.utils;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 
+import com.vladdumbrava.excel_csv_reader.config.ImportProperties;
 import com.vladdumbrava.excel_csv_reader.exception.ReaderNotFoundException;
 import com.vladdumbrava.excel_csv_reader.service.utils.reader.CSVEmployeeFileReader;
 import com.vladdumbrava.excel_csv_reader.service.utils.reader.EmployeeFileReader;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.ParallelCSVEmployeeFileReader;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.StreamingXLSXEmployeeFileReader;
 import com.vladdumbrava.excel_csv_reader.service.utils.reader.XLSXEmployeeFileReader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -20,12 +28,14 @@ public class FileReaderFactoryTest {
 
     private CSVEmployeeFileReader csvReader;
     private XLSXEmployeeFileReader xlsxReader;
+    private StreamingXLSXEmployeeFileReader streamingXlsxReader;
     private FileReaderFactory factory;
 
     @BeforeEach
     void setUp() {
         csvReader = new CSVEmployeeFileReader();
         xlsxReader = new XLSXEmployeeFileReader();
+        streamingXlsxReader = new StreamingXLSXEmployeeFileReader();
         factory = new FileReaderFactory(List.of(csvReader, xlsxReader));
     }
 
@@ -92,4 +102,55 @@ public class FileReaderFactoryTest {
                 .hasMessageContaining("File has no valid extension: noextension");
     }
 
+    @Test
+    void givenLargeXlsxInAutoMode_whenGetReader_thenReturnStreamingReader() {
+        ImportProperties properties = new ImportProperties();
+        properties.getXlsx().setStreamingThreshold(DataSize.ofBytes(4));
+        FileReaderFactory streamingFactory = new FileReaderFactory(List.of(csvReader, xlsxReader, streamingXlsxReader), properties);
+
+        MockMultipartFile small = new MockMultipartFile("file", "Employees.xlsx", null, new byte[3]);
+        MockMultipartFile large = new MockMultipartFile("file", "Employees.xlsx", null, new byte[4]);
+
+        assertThat(streamingFactory.getReader(small)).isInstanceOf(XLSXEmployeeFileReader.class);
+        assertThat(streamingFactory.getReader(large)).isInstanceOf(StreamingXLSXEmployeeFileReader.class);
+    }
+
+    @Test
+    void givenStreamingReadMode_whenGetReader_thenReturnStreamingReader() {
+        ImportProperties properties = new ImportProperties();
+        properties.getXlsx().setReadMode(ImportProperties.XlsxReadMode.STREAMING);
+        FileReaderFactory streamingFactory = new FileReaderFactory(List.of(csvReader, xlsxReader, streamingXlsxReader), properties);
+
+        MockMultipartFile file = new MockMultipartFile("file", "Employees.xlsx", null, new byte[0]);
+
+        assertThat(streamingFactory.getReader(file)).isInstanceOf(StreamingXLSXEmployeeFileReader.class);
+    }
+
+    @Test
+    void givenInMemoryReadMode_whenGetReader_thenReturnXlsxReader() {
+        ImportProperties properties = new ImportProperties();
+        properties.getXlsx().setReadMode(ImportProperties.XlsxReadMode.IN_MEMORY);
+        properties.getXlsx().setStreamingThreshold(DataSize.ofBytes(0));
+        FileReaderFactory streamingFactory = new FileReaderFactory(List.of(csvReader, xlsxReader, streamingXlsxReader), properties);
+
+        MockMultipartFile file = new MockMultipartFile("file", "Employees.xlsx", null, new byte[10]);
+
+        assertThat(streamingFactory.getReader(file)).isInstanceOf(XLSXEmployeeFileReader.class);
+    }
+
+    @Test
+    void givenLargeLocalCsv_whenGetReader_thenReturnParallelReader(@TempDir Path directory) throws IOException {
+        ImportProperties properties = new ImportProperties();
+        properties.getCsv().setParallelism(4);
+        properties.getCsv().setParallelThreshold(DataSize.ofBytes(4));
+        ParallelCSVEmployeeFileReader parallelCsvReader = new ParallelCSVEmployeeFileReader(properties);
+        FileReaderFactory parallelFactory = new FileReaderFactory(List.of(csvReader, xlsxReader, parallelCsvReader), properties);
+        Path small = Files.writeString(directory.resolve("small.csv"), "abc");
+        Path large = Files.writeString(directory.resolve("large.csv"), "abcdef");
+        MockMultipartFile upload = new MockMultipartFile("file", "upload.csv", "text/csv", new byte[16]);
+
+        assertThat(parallelFactory.getReader(new PathMultipartFile(small))).isInstanceOf(CSVEmployeeFileReader.class);
+        assertThat(parallelFactory.getReader(new PathMultipartFile(large))).isInstanceOf(ParallelCSVEmployeeFileReader.class);
+        assertThat(parallelFactory.getReader(upload)).isInstanceOf(CSVEmployeeFileReader.class);
+    }
 }
@@ -0,0 +1,54 @@
+package com.vladdumbrava.excel_csv_reader.service.utils.csv;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.vladdumbrava.excel_csv_reader.service.utils.csv.CsvRangeSplitter.CsvRange;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CsvRangeSplitterTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void givenQuotedNewlines_whenSplit_thenCutOnlyBetweenRecords() throws IOException {
+        StringBuilder csv = new StringBuilder("h1,h2\n");
+        for (int i = 0; i < 200; i++) {
+            csv.append("\"multi\nline ").append(i).append("\",\"a \"\"quoted\"\"\n, value\"\r\n");
+        }
+        Path file = Files.writeString(directory.resolve("quoted.csv"), csv, StandardCharsets.UTF_8);
+
+        List<CsvRange> ranges = CsvRangeSplitter.split(file, 8);
+
+        assertThat(ranges).hasSize(8);
+        assertThat(ranges.getFirst().start()).isZero();
+        assertThat(ranges.getLast().end()).isEqualTo(Files.size(file));
+        for (int i = 1; i < ranges.size(); i++) {
+            CsvRange range = ranges.get(i);
+            assertThat(range.start()).isEqualTo(ranges.get(i - 1).end());
+            try (MappedFileCharSource source = new MappedFileCharSource(file, range.start(), range.end())) {
+                CsvTokenizer tokenizer = new CsvTokenizer(source, 64, range.firstLineNumber());
+                assertThat(tokenizer.next()).isTrue();
+                assertThat(tokenizer.field(0)).startsWith("multi\nline ");
+                assertThat(tokenizer.field(1)).isEqualTo("a \"quoted\"\n, value");
+                assertThat((tokenizer.lineNumber() - 2) % 3).isZero();
+            }
+        }
+    }
+
+    @Test
+    void givenFewerRecordsThanRanges_whenSplit_thenReturnFewerRanges() throws IOException {
+        Path file = Files.writeString(directory.resolve("small.csv"), "h1,h2\na,b\n");
+
+        List<CsvRange> ranges = CsvRangeSplitter.split(file, 8);
+
+        assertThat(ranges).containsExactly(new CsvRange(0, 6, 1), new CsvRange(6, 10, 2));
+    }
+}
@@ -0,0 +1,84 @@
+package com.vladdumbrava.excel_csv_reader.service.utils.csv;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.vladdumbrava.excel_csv_reader.exception.FileProcessingException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CsvTokenizerTest {
+
+    @Test
+    void givenQuotedFields_whenTokenize_thenKeepSeparatorsAndUnescapeQuotes() throws IOException {
+        List<List<String>> records = tokenize("a,\"b,c\",\"say \"\"hi\"\"\",\n", 64);
+
+        assertThat(records).containsExactly(List.of("a", "b,c", "say \"hi\"", ""));
+    }
+
+    @Test
+    void givenEmbeddedNewline_whenTokenize_thenKeepItInFieldAndCountLines() throws IOException {
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader("h1,h2\r\n\"line 1\r\nline 2\",x\r\nlast,y")::read, 4);
+
+        assertThat(tokenizer.next()).isTrue();
+        assertThat(tokenizer.lineNumber()).isEqualTo(1);
+
+        assertThat(tokenizer.next()).isTrue();
+        assertThat(tokenizer.lineNumber()).isEqualTo(2);
+        assertThat(tokenizer.field(0)).isEqualTo("line 1\r\nline 2");
+        assertThat(tokenizer.field(1)).isEqualTo("x");
+
+        assertThat(tokenizer.next()).isTrue();
+        assertThat(tokenizer.lineNumber()).isEqualTo(4);
+        assertThat(tokenizer.field(0)).isEqualTo("last");
+
+        assertThat(tokenizer.next()).isFalse();
+    }
+
+    @Test
+    void givenBlankLine_whenTokenize_thenReportBlankRecord() throws IOException {
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader("a,b\n   \n\"\",\"\"\n")::read);
+
+        assertThat(tokenizer.next()).isTrue();
+        assertThat(tokenizer.isBlank()).isFalse();
+        assertThat(tokenizer.next()).isTrue();
+        assertThat(tokenizer.isBlank()).isTrue();
+        assertThat(tokenizer.next()).isTrue();
+        assertThat(tokenizer.isBlank()).isFalse();
+        assertThat(tokenizer.fieldCount()).isEqualTo(2);
+        assertThat(tokenizer.next()).isFalse();
+    }
+
+    @Test
+    void givenFieldLongerThanBuffer_whenTokenize_thenReturnWholeField() throws IOException {
+        String longField = "x".repeat(1_000);
+
+        List<List<String>> records = tokenize(longField + "," + longField + "\n", 16);
+
+        assertThat(records).containsExactly(List.of(longField, longField));
+    }
+
+    @Test
+    void givenUnterminatedQuote_whenTokenize_thenThrowException() {
+        assertThatThrownBy(() -> tokenize("a,b\n\"open,c\n", 64))
+                .isInstanceOf(FileProcessingException.class)
+                .hasMessageContaining("line 2");
+    }
+
+    private List<List<String>> tokenize(String csv, int bufferSize) throws IOException {
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(csv)::read, bufferSize);
+        List<List<String>> records = new ArrayList<>();
+        while (tokenizer.next()) {
+            List<String> fields = new ArrayList<>();
+            for (int i = 0; i < tokenizer.fieldCount(); i++) {
+                fields.add(tokenizer.field(i));
+            }
+            records.add(fields);
+        }
+        return records;
+    }
+}
@@ -0,0 +1,57 @@
+package com.vladdumbrava.excel_csv_reader.service.utils.csv;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MappedFileCharSourceTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void givenMultiByteCharsAcrossWindows_whenRead_thenDecodeWholeFile() throws IOException {
+        String content = "José,Zoë,Ærø,日本語\n".repeat(50);
+        Path file = directory.resolve("names.csv");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+
+        try (MappedFileCharSource source = new MappedFileCharSource(file, 7)) {
+            assertThat(readAll(source, 5)).isEqualTo(content);
+        }
+    }
+
+    @Test
+    void givenByteOrderMark_whenRead_thenSkipIt() throws IOException {
+        Path file = directory.resolve("bom.csv");
+        Files.write(file, new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF, 'a', ',', 'b'});
+
+        try (MappedFileCharSource source = new MappedFileCharSource(file)) {
+            assertThat(readAll(source, 64)).isEqualTo("a,b");
+        }
+    }
+
+    @Test
+    void givenEmptyFile_whenRead_thenReturnEndOfInput() throws IOException {
+        Path file = Files.createFile(directory.resolve("empty.csv"));
+
+        try (MappedFileCharSource source = new MappedFileCharSource(file)) {
+            assertThat(source.read(new char[16], 0, 16)).isEqualTo(-1);
+        }
+    }
+
+    private String readAll(MappedFileCharSource source, int bufferSize) throws IOException {
+        StringBuilder result = new StringBuilder();
+        char[] buffer = new char[bufferSize];
+        int read;
+        while ((read = source.read(buffer, 0, buffer.length)) != -1) {
+            result.append(buffer, 0, read);
+        }
+        return result.toString();
+    }
+}
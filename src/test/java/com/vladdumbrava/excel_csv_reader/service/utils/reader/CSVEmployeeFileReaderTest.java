@@ -2,14 +2,19 @@ package com.vladdumbrava.excel_csv_reader.service.utils.reader;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.vladdumbrava.excel_csv_reader.exception.FileProcessingException;
 import com.vladdumbrava.excel_csv_reader.model.Employee;
 import com.vladdumbrava.excel_csv_reader.model.Gender;
+import com.vladdumbrava.excel_csv_reader.service.utils.PathMultipartFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
 import org.springframework.mock.web.MockMultipartFile;
@@ -48,6 +53,26 @@ public class CSVEmployeeFileReaderTest {
         assertThat(employee.getActive()).isTrue();
     }
 
+    @Test
+    void givenQuotedFields_whenRead_thenKeepCommasAndNewlinesInValues() {
+        String csv = "name,dateOfBirth,gender,role,email,phoneNumber,active\r\n" +
+                "\"Doe, John\",1990-01-01,MALE,\"Senior \"\"Lead\"\"\nEngineer\",john@example.com,1234567890,true\r\n" +
+                "Jane Doe,1991-02-02,FEMALE,Engineer,jane@example.com,1234567891,false\r\n";
+
+        MockMultipartFile file = new MockMultipartFile("file", "employees.csv",
+                "text/csv", csv.getBytes(StandardCharsets.UTF_8));
+
+        List<EmployeeChunk> chunks = new ArrayList<>();
+        reader.read(file, 10, chunks::add);
+
+        EmployeeChunk chunk = chunks.getFirst();
+        assertThat(chunk.size()).isEqualTo(2);
+        assertThat(chunk.employee(0).getName()).isEqualTo("Doe, John");
+        assertThat(chunk.employee(0).getRole()).isEqualTo("Senior \"Lead\"\nEngineer");
+        assertThat(chunk.rowNumbers()).containsExactly(2, 4);
+        assertThat(chunk.employee(1).getActive()).isFalse();
+    }
+
     @Test
     void givenEmptyCsv_whenRead_thenThrowException() {
         MockMultipartFile file = new MockMultipartFile("file", "employees.csv",
@@ -94,4 +119,95 @@ public class CSVEmployeeFileReaderTest {
                 .hasMessageContaining("Failed to read CSV file");
     }
 
+    @Test
+    void givenChunkSize_whenRead_thenHandEmployeesOutInChunksWithRowNumbers() {
+        String csv = "name,dateOfBirth,gender,role,email,phoneNumber,active\n" +
+                "John Doe,1990-01-01,MALE,Engineer,john@example.com,1234567890,true\n" +
+                "broken line\n" +
+                "Jane Doe,1991-02-02,FEMALE,Engineer,jane@example.com,1234567891,true\n" +
+                "Jim Doe,1992-03-03,MALE,Engineer,jim@example.com,1234567892,false";
+
+        MockMultipartFile file = new MockMultipartFile("file", "employees.csv",
+                "text/csv", csv.getBytes(StandardCharsets.UTF_8));
+
+        List<EmployeeChunk> chunks = new ArrayList<>();
+        List<Long> rejectedRows = new ArrayList<>();
+        long read = reader.read(file, 2, new EmployeeChunkHandler() {
+            @Override
+            public void onChunk(EmployeeChunk chunk) {
+                chunks.add(chunk);
+            }
+
+            @Override
+            public void onRejectedRow(long rowNumber, String reason) {
+                rejectedRows.add(rowNumber);
+            }
+        });
+
+        assertThat(read).isEqualTo(3);
+        assertThat(chunks).extracting(EmployeeChunk::size).containsExactly(2, 1);
+        assertThat(chunks.getFirst().rowNumbers()).containsExactly(2, 4);
+        assertThat(chunks.get(1).employee(0).getName()).isEqualTo("Jim Doe");
+        assertThat(rejectedRows).containsExactly(3L);
+    }
+
+    @Test
+    void givenFailingHandler_whenRead_thenPropagateHandlerException() {
+        String csv = "name,dateOfBirth,gender,role,email,phoneNumber,active\n" +
+                "John Doe,1990-01-01,MALE,Engineer,john@example.com,1234567890,true";
+
+        MockMultipartFile file = new MockMultipartFile("file", "employees.csv",
+                "text/csv", csv.getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> reader.read(file, 10, chunk -> {
+            throw new IllegalStateException("database down");
+        }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("database down");
+    }
+
+    @Test
+    void givenUnreadableTypedValues_whenRead_thenRejectRowsButKeepEmptyOnes() {
+        String csv = "name,dateOfBirth,gender,role,email,phoneNumber,active\n" +
+                "Bad Date,01/02/1990,MALE,Engineer,a@example.com,1,true\n" +
+                "Bad Gender,1990-01-01,X,Engineer,b@example.com,2,true\n" +
+                "Bad Active,1990-01-01,MALE,Engineer,c@example.com,3,yes\n" +
+                "Empty Values,n/a,,Engineer,d@example.com,4,\n";
+
+        MockMultipartFile file = new MockMultipartFile("file", "employees.csv",
+                "text/csv", csv.getBytes(StandardCharsets.UTF_8));
+
+        List<Employee> employees = new ArrayList<>();
+        List<String> reasons = new ArrayList<>();
+        reader.read(file, 10, new EmployeeChunkHandler() {
+            @Override
+            public void onChunk(EmployeeChunk chunk) {
+                employees.addAll(chunk.employees());
+            }
+
+            @Override
+            public void onRejectedRow(long rowNumber, String reason) {
+                reasons.add(rowNumber + ": " + reason);
+            }
+        });
+
+        assertThat(reasons).containsExactly(
+                "2: date_of_birth is not a yyyy-MM-dd date: 01/02/1990",
+                "3: gender must be one of [MALE, FEMALE]: X",
+                "4: active must be true or false: yes");
+        assertThat(employees).extracting(Employee::getName).containsExactly("Empty Values");
+    }
+
+    @Test
+    void givenLocalFile_whenRead_thenParseMemoryMappedFile(@TempDir Path directory) throws IOException {
+        Path path = directory.resolve("employees.csv");
+        Files.writeString(path, "name,dateOfBirth,gender,role,email,phoneNumber,active\n" +
+                "\"Doe, José\",1990-01-01,MALE,Engineer,jose@example.com,1234567890,true\n");
+
+        List<Employee> employees = reader.read(new PathMultipartFile(path));
+
+        assertThat(employees).extracting(Employee::getName).containsExactly("Doe, José");
+        assertThat(employees.getFirst().getDateOfBirth()).isEqualTo(LocalDate.of(1990, 1, 1));
+    }
+
 }
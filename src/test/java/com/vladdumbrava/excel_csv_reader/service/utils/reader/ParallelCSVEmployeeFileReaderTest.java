@@ -0,0 +1,137 @@
+package com.vladdumbrava.excel_csv_reader.service.utils.reader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.vladdumbrava.excel_csv_reader.config.ImportProperties;
+import com.vladdumbrava.excel_csv_reader.exception.FileProcessingException;
+import com.vladdumbrava.excel_csv_reader.model.Employee;
+import com.vladdumbrava.excel_csv_reader.service.utils.PathMultipartFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ParallelCSVEmployeeFileReaderTest {
+
+    @TempDir
+    private Path directory;
+
+    private ImportProperties properties;
+    private ParallelCSVEmployeeFileReader reader;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ImportProperties();
+        properties.getCsv().setParallelism(4);
+        properties.getCsv().setRangeSize(DataSize.ofBytes(1024));
+        reader = new ParallelCSVEmployeeFileReader(properties);
+    }
+
+    @Test
+    void givenPreserveOrder_whenRead_thenMatchSequentialReader() throws IOException {
+        PathMultipartFile file = new PathMultipartFile(writeEmployees());
+
+        RecordingHandler sequential = new RecordingHandler();
+        long sequentialCount = new CSVEmployeeFileReader().read(file, 7, sequential);
+        RecordingHandler parallel = new RecordingHandler();
+        long parallelCount = reader.read(file, 7, parallel);
+
+        assertThat(parallelCount).isEqualTo(sequentialCount).isEqualTo(1_980);
+        assertThat(parallel.rows).containsExactlyElementsOf(sequential.rows);
+        assertThat(parallel.rejectedRows).containsExactlyElementsOf(sequential.rejectedRows);
+    }
+
+    @Test
+    void givenPreserveOrder_whenRead_thenInterleaveRejectionsWithRowsLikeSequentialReader() throws IOException {
+        PathMultipartFile file = new PathMultipartFile(writeEmployees());
+
+        RecordingHandler sequential = new RecordingHandler();
+        new CSVEmployeeFileReader().read(file, 1, sequential);
+        RecordingHandler parallel = new RecordingHandler();
+        reader.read(file, 1, parallel);
+
+        assertThat(parallel.events).containsExactlyElementsOf(sequential.events);
+        assertThat(parallel.events).isSorted();
+    }
+
+    @Test
+    void givenUnordered_whenRead_thenReturnSameRowsInAnyOrder() throws IOException {
+        properties.getCsv().setPreserveOrder(false);
+        PathMultipartFile file = new PathMultipartFile(writeEmployees());
+
+        RecordingHandler sequential = new RecordingHandler();
+        new CSVEmployeeFileReader().read(file, 7, sequential);
+        RecordingHandler parallel = new RecordingHandler();
+        reader.read(file, 7, parallel);
+
+        assertThat(parallel.rows).containsExactlyInAnyOrderElementsOf(sequential.rows);
+        assertThat(parallel.rejectedRows).containsExactlyInAnyOrderElementsOf(sequential.rejectedRows);
+    }
+
+    @Test
+    void givenBadHeader_whenRead_thenThrowException() throws IOException {
+        Path path = Files.writeString(directory.resolve("bad.csv"), "name,dateOfBirth\n" + "x\n".repeat(2_000));
+
+        assertThatThrownBy(() -> reader.read(new PathMultipartFile(path), 7, chunk -> {
+        }))
+                .isInstanceOf(FileProcessingException.class)
+                .hasMessageContaining("Invalid CSV header format");
+    }
+
+    @Test
+    void givenFailingHandler_whenRead_thenPropagateHandlerException() throws IOException {
+        PathMultipartFile file = new PathMultipartFile(writeEmployees());
+
+        assertThatThrownBy(() -> reader.read(file, 7, chunk -> {
+            throw new IllegalStateException("database down");
+        }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("database down");
+    }
+
+    private Path writeEmployees() throws IOException {
+        StringBuilder csv = new StringBuilder("name,dateOfBirth,gender,role,email,phoneNumber,active\n");
+        for (int i = 0; i < 2_000; i++) {
+            if (i % 100 == 0) {
+                csv.append("broken,line\n");
+            } else if (i % 50 == 0) {
+                csv.append("\"Doe,\nEmployee ").append(i).append("\",1990-01-01,MALE,\"Lead \"\"A\"\"\",e")
+                        .append(i).append("@example.com,123,true\r\n");
+            } else {
+                csv.append("Employee ").append(i).append(",1990-01-01,FEMALE,Engineer,e")
+                        .append(i).append("@example.com,123,false\n");
+            }
+        }
+        return Files.writeString(directory.resolve("employees.csv"), csv);
+    }
+
+    private static final class RecordingHandler implements EmployeeChunkHandler {
+
+        private final List<String> rows = new ArrayList<>();
+        private final List<Long> rejectedRows = new ArrayList<>();
+        private final List<Long> events = new ArrayList<>();
+
+        @Override
+        public void onChunk(EmployeeChunk chunk) {
+            for (int i = 0; i < chunk.size(); i++) {
+                Employee employee = chunk.employee(i);
+                rows.add(chunk.rowNumber(i) + ":" + employee.getName() + ":" + employee.getRole() + ":" + employee.getEmail());
+                events.add(chunk.rowNumber(i));
+            }
+        }
+
+        @Override
+        public void onRejectedRow(long rowNumber, String reason) {
+            rejectedRows.add(rowNumber);
+            events.add(rowNumber);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.vladdumbrava.excel_csv_reader.service.utils.reader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.vladdumbrava.excel_csv_reader.exception.FileProcessingException;
+import com.vladdumbrava.excel_csv_reader.model.Employee;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class StreamingXLSXEmployeeFileReaderTest {
+
+    private StreamingXLSXEmployeeFileReader reader;
+
+    @BeforeEach
+    void setUp() {
+        reader = new StreamingXLSXEmployeeFileReader();
+    }
+
+    @Test
+    void givenValidXlsx_whenRead_thenParseSameEmployeesAsInMemoryReader() throws IOException {
+        MockMultipartFile file = xlsxFile("Employees.xlsx");
+
+        List<Employee> employees = reader.read(file);
+
+        assertThat(employees).hasSize(4);
+        assertThat(employees.getFirst().getName()).isEqualTo("Andreea");
+        assertThat(employees).isEqualTo(new XLSXEmployeeFileReader().read(file));
+    }
+
+    @Test
+    void givenTypedCells_whenRead_thenFormatThemLikeInMemoryReader() throws IOException {
+        MockMultipartFile file = typedCellsFile();
+
+        List<Employee> employees = reader.read(file);
+
+        assertThat(employees).hasSize(2);
+        assertThat(employees.getFirst().getPhoneNumber()).isEqualTo("40712345678");
+        assertThat(employees.getFirst().getDateOfBirth()).isEqualTo(LocalDate.of(1990, 1, 31));
+        assertThat(employees.getFirst().getRole()).isEqualTo("DevOps");
+        assertThat(employees.getFirst().getActive()).isTrue();
+        assertThat(employees.getLast().getPhoneNumber()).isNull();
+        assertThat(employees).isEqualTo(new XLSXEmployeeFileReader().read(file));
+    }
+
+    @Test
+    void givenEmptyXlsx_whenRead_thenThrowException() throws IOException {
+        MockMultipartFile file = xlsxFile("EmptyFile.xlsx");
+
+        assertThatThrownBy(() -> reader.read(file))
+                .isInstanceOf(FileProcessingException.class)
+                .hasMessageContaining("Excel file is missing header row.");
+    }
+
+    @Test
+    void givenNonExistingXlsx_whenRead_thenThrowException() throws IOException {
+        MultipartFile mockFile = Mockito.mock(MultipartFile.class);
+        Mockito.when(mockFile.getInputStream()).thenThrow(new IOException("Simulated IO error"));
+        Mockito.when(mockFile.getOriginalFilename()).thenReturn("broken.xlsx");
+
+        assertThatThrownBy(() -> reader.read(mockFile))
+                .isInstanceOf(FileProcessingException.class)
+                .hasMessageContaining("Failed to read Excel file");
+    }
+
+    /**
+     * Numeric phone, date formatted cell, formula role and boolean active, the way a
+     * hand-edited sheet stores them; the second row leaves the phone blank.
+     */
+    private static MockMultipartFile typedCellsFile() throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = workbook.createSheet();
+            Row header = sheet.createRow(0);
+            String[] columns = {"name", "dateOfBirth", "gender", "role", "email", "phoneNumber", "active"};
+            for (int i = 0; i < columns.length; i++) {
+                header.createCell(i).setCellValue(columns[i]);
+            }
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd"));
+
+            for (int rowIndex = 1; rowIndex <= 2; rowIndex++) {
+                Row row = sheet.createRow(rowIndex);
+                row.createCell(0).setCellValue("Employee " + rowIndex);
+                Cell dateOfBirth = row.createCell(1);
+                dateOfBirth.setCellValue(LocalDate.of(1990, 1, 31));
+                dateOfBirth.setCellStyle(dateStyle);
+                row.createCell(2).setCellValue("FEMALE");
+                row.createCell(3).setCellFormula("\"Dev\"&\"Ops\"");
+                row.createCell(4).setCellValue("employee" + rowIndex + "@example.com");
+                if (rowIndex == 1) {
+                    row.createCell(5).setCellValue(40712345678d);
+                }
+                row.createCell(6).setCellValue(true);
+            }
+            workbook.getCreationHelper().createFormulaEvaluator().evaluateAll();
+            workbook.write(out);
+            return new MockMultipartFile("file", "Typed.xlsx",
+                    "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", out.toByteArray());
+        }
+    }
+
+    private MockMultipartFile xlsxFile(String resource) throws IOException {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(resource)) {
+            return new MockMultipartFile(
+                    "file",
+                    "Employees.xlsx",
+                    "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+                    inputStream
+            );
+        }
+    }
+
+}
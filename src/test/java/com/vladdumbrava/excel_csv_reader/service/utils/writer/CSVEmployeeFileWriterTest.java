@@ -0,0 +1,53 @@
+package com.vladdumbrava.excel_csv_reader.service.utils.writer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeDTO;
+import com.vladdumbrava.excel_csv_reader.model.Employee;
+import com.vladdumbrava.excel_csv_reader.model.Gender;
+import com.vladdumbrava.excel_csv_reader.service.mapper.EmployeeMapper;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.CSVEmployeeFileReader;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.mock.web.MockMultipartFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CSVEmployeeFileWriterTest {
+
+    private final CSVEmployeeFileWriter writer = new CSVEmployeeFileWriter();
+
+    private final List<EmployeeDTO> employees = List.of(
+            new EmployeeDTO("Doe, \"Johnny\"", LocalDate.of(1990, 1, 1), Gender.MALE, "Engineer",
+                    "john@example.com", "+40712345678", true),
+            new EmployeeDTO("Jane", null, null, "Line one\nline two", "jane@example.com", null, false));
+
+    @Test
+    void givenEmployees_whenWrite_thenQuoteOnlyFieldsThatNeedIt() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = writer.write(employees.iterator(), out);
+
+        assertThat(written).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "name,dateOfBirth,gender,role,email,phoneNumber,active\r\n"
+                        + "\"Doe, \"\"Johnny\"\"\",1990-01-01,MALE,Engineer,john@example.com,+40712345678,true\r\n"
+                        + "Jane,,,\"Line one\nline two\",jane@example.com,,false\r\n");
+    }
+
+    @Test
+    void givenExport_whenReadBack_thenReturnSameEmployees() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(employees.iterator(), out);
+
+        List<Employee> imported = new CSVEmployeeFileReader().read(
+                new MockMultipartFile("file", "employees.csv", "text/csv", out.toByteArray()));
+
+        EmployeeMapper mapper = new EmployeeMapper();
+        assertThat(imported).map(mapper::entityToDto).isEqualTo(employees);
+    }
+}
@@ -0,0 +1,52 @@
+package com.vladdumbrava.excel_csv_reader.service.utils.writer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import com.vladdumbrava.excel_csv_reader.config.QueryProperties;
+import com.vladdumbrava.excel_csv_reader.dto.EmployeeDTO;
+import com.vladdumbrava.excel_csv_reader.model.Employee;
+import com.vladdumbrava.excel_csv_reader.model.Gender;
+import com.vladdumbrava.excel_csv_reader.service.mapper.EmployeeMapper;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.StreamingXLSXEmployeeFileReader;
+import com.vladdumbrava.excel_csv_reader.service.utils.reader.XLSXEmployeeFileReader;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.mock.web.MockMultipartFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class XLSXEmployeeFileWriterTest {
+
+    private final EmployeeMapper mapper = new EmployeeMapper();
+
+    @Test
+    void givenMoreRowsThanWindow_whenWriteAndReadBack_thenReturnSameEmployees() throws IOException {
+        QueryProperties properties = new QueryProperties();
+        properties.getExport().setXlsxRowWindow(2);
+        XLSXEmployeeFileWriter writer = new XLSXEmployeeFileWriter(properties);
+        List<EmployeeDTO> employees = IntStream.range(0, 25)
+                .mapToObj(i -> new EmployeeDTO("Employee " + i,
+                        i % 5 == 0 ? null : LocalDate.of(1980 + i, 1 + i % 12, 1 + i),
+                        i % 2 == 0 ? Gender.FEMALE : Gender.MALE,
+                        "Role " + i,
+                        "employee" + i + "@example.com",
+                        i % 3 == 0 ? null : "+4070000000" + i,
+                        i % 2 == 0))
+                .toList();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = writer.write(employees.iterator(), out);
+
+        assertThat(written).isEqualTo(25);
+        MockMultipartFile file = new MockMultipartFile("file", "employees.xlsx",
+                "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", out.toByteArray());
+        List<Employee> inMemory = new XLSXEmployeeFileReader().read(file);
+        List<Employee> streamed = new StreamingXLSXEmployeeFileReader().read(file);
+        assertThat(inMemory).map(mapper::entityToDto).isEqualTo(employees);
+        assertThat(streamed).map(mapper::entityToDto).isEqualTo(employees);
+    }
+}